@@ -19,10 +19,12 @@ package io.github.gdrfgdrf.cuteframework;
 import io.github.gdrfgdrf.cuteframework.api.PluginManager;
 import io.github.gdrfgdrf.cuteframework.api.loader.PluginLoader;
 import io.github.gdrfgdrf.cuteframework.bean.BeanManager;
+import io.github.gdrfgdrf.cuteframework.bean.snapshot.StartupSnapshot;
 import io.github.gdrfgdrf.cuteframework.common.Constants;
 import io.github.gdrfgdrf.cuteframework.config.ConfigManager;
 import io.github.gdrfgdrf.cuteframework.config.common.Config;
 import io.github.gdrfgdrf.cuteframework.exceptionhandler.GlobalUncaughtExceptionHandler;
+import io.github.gdrfgdrf.cuteframework.lifecycle.ShutdownCoordinator;
 import io.github.gdrfgdrf.cuteframework.locale.LanguageLoader;
 import io.github.gdrfgdrf.cuteframework.locale.exception.NotFoundLanguagePackageException;
 import io.github.gdrfgdrf.cuteframework.utils.asserts.exception.AssertNotNullException;
@@ -91,7 +93,8 @@ public class CuteFramework {
     /**
      * 开始初始化，该方法将会分析堆栈调用以寻找调用该方法的类，
      * 当 Bean 创建流程开始时，将会在核心 Bean 加载完成后加载那个类所在的包名下的所有 Bean 类，
-     * 该方法仅允许 {@link CuteFramework#mainApplicationClass} 调用
+     * 该方法仅允许 {@link CuteFramework#mainApplicationClass} 调用，
+     * 启用 {@link StartupSnapshot} 时将在全部完成后保存启动快照
      *
      * @throws Exception
      *         初始化错误
@@ -102,6 +105,7 @@ public class CuteFramework {
         StackUtils.onlyClass(mainApplicationClass);
 
         GlobalUncaughtExceptionHandler.getInstance().initialize();
+        ShutdownCoordinator.getInstance().registerShutdownHook();
 
         Config config = ConfigManager.getInstance().load(
                 "cute-framework",
@@ -122,6 +126,10 @@ public class CuteFramework {
         PluginManager.getInstance().loadAllPlugin();
 
         BeanManager.getInstance().startCreatingPluginBeans();
+
+        if (StartupSnapshot.isEnabled()) {
+            StartupSnapshot.getInstance().save();
+        }
     }
 
     /**
@@ -18,14 +18,32 @@ package io.github.gdrfgdrf.cuteframework.api;
 
 import io.github.gdrfgdrf.cuteframework.api.base.Plugin;
 import io.github.gdrfgdrf.cuteframework.api.common.PluginState;
+import io.github.gdrfgdrf.cuteframework.api.common.PluginStateHolder;
 import io.github.gdrfgdrf.cuteframework.api.event.PluginEvent;
+import io.github.gdrfgdrf.cuteframework.api.exception.PluginCircularDependencyException;
+import io.github.gdrfgdrf.cuteframework.api.exception.PluginDependencyUnavailableException;
+import io.github.gdrfgdrf.cuteframework.api.exception.PluginDependentActiveException;
 import io.github.gdrfgdrf.cuteframework.api.exception.PluginIllegalStateChangeException;
 import io.github.gdrfgdrf.cuteframework.api.exception.PluginNameConflictException;
+import io.github.gdrfgdrf.cuteframework.api.exception.PluginStateChangeFailedException;
+import io.github.gdrfgdrf.cuteframework.api.graph.PluginDependencyGraph;
+import io.github.gdrfgdrf.cuteframework.api.loader.JarClassLoader;
+import io.github.gdrfgdrf.cuteframework.api.loader.PluginPackageIndex;
+import io.github.gdrfgdrf.cuteframework.config.ConfigManager;
+import io.github.gdrfgdrf.cuteframework.config.common.Config;
 import io.github.gdrfgdrf.cuteframework.event.EventManager;
+import io.github.gdrfgdrf.cuteframework.exceptionhandler.base.CustomException;
 import io.github.gdrfgdrf.cuteframework.utils.asserts.AssertUtils;
 import io.github.gdrfgdrf.cuteframework.utils.asserts.exception.AssertNotNullException;
+import io.github.gdrfgdrf.cuteframework.utils.thread.ThreadPoolService;
+import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
@@ -34,6 +52,7 @@ import java.util.function.Consumer;
  * @author gdrfgdrf
  * @since v1_0_0_20240525_RELEASE
  */
+@Slf4j
 public class PluginManager {
     private static PluginManager INSTANCE;
 
@@ -42,9 +61,10 @@ public class PluginManager {
      */
     private final Map<String, Plugin> PLUGIN_MAP = new ConcurrentHashMap<>();
     /**
-     * 插件主类实例到插件状态的映射，存储了所有插件的状态
+     * 插件主类实例到插件状态的映射，存储了所有插件的状态，
+     * 每个插件的状态变化都只在其 {@link PluginStateHolder} 上进行 CAS，不同插件之间不需要加锁
      */
-    private final Map<Plugin, PluginState> PLUGIN_STATE_MAP = new ConcurrentHashMap<>();
+    private final Map<Plugin, PluginStateHolder> PLUGIN_STATE_MAP = new ConcurrentHashMap<>();
 
     private PluginManager() {}
 
@@ -63,7 +83,8 @@ public class PluginManager {
     }
 
     /**
-     * 注册插件，此时插件将会被设置为 {@link PluginState#REGISTERED} 状态
+     * 注册插件，此时插件将会被设置为 {@link PluginState#REGISTERED} 状态，
+     * 插件的类加载器为 {@link JarClassLoader} 时，其中的包将被发布到 {@link PluginPackageIndex}
      * @param name
 	 *        插件名
 	 * @param plugin
@@ -79,14 +100,23 @@ public class PluginManager {
         AssertUtils.notNull("plugin name", name);
         AssertUtils.notNull("plugin main class instance", plugin);
 
-        if (PLUGIN_MAP.containsKey(name)) {
-            throw new PluginNameConflictException(PLUGIN_MAP.get(name), plugin);
+        Plugin registered = PLUGIN_MAP.get(name);
+        if (registered != null) {
+            throw new PluginNameConflictException(registered, plugin);
         }
 
         EventManager.getInstance().post(new PluginEvent.Registered.Pre(plugin));
 
-        PLUGIN_MAP.put(name, plugin);
-        PLUGIN_STATE_MAP.put(plugin, PluginState.REGISTERED);
+        PLUGIN_STATE_MAP.put(plugin, new PluginStateHolder(PluginState.REGISTERED));
+        Plugin previous = PLUGIN_MAP.putIfAbsent(name, plugin);
+        if (previous != null) {
+            PLUGIN_STATE_MAP.remove(plugin);
+            throw new PluginNameConflictException(previous, plugin);
+        }
+        if (plugin.getPluginDescription() != null &&
+                plugin.getPluginDescription().getClassLoader() instanceof JarClassLoader jarClassLoader) {
+            PluginPackageIndex.getInstance().publish(jarClassLoader);
+        }
 
         EventManager.getInstance().post(new PluginEvent.Registered.Post(plugin));
     }
@@ -108,6 +138,10 @@ public class PluginManager {
             EventManager.getInstance().post(new PluginEvent.Unregistered.Pre(plugin));
 
             PLUGIN_STATE_MAP.remove(plugin);
+            if (plugin.getPluginDescription() != null &&
+                    plugin.getPluginDescription().getClassLoader() instanceof JarClassLoader jarClassLoader) {
+                PluginPackageIndex.getInstance().unpublish(jarClassLoader);
+            }
         }
         PLUGIN_MAP.remove(name);
 
@@ -163,71 +197,75 @@ public class PluginManager {
      */
     public PluginState getPluginState(Plugin plugin) throws AssertNotNullException {
         AssertUtils.notNull("plugin main class instance", plugin);
-        return PLUGIN_STATE_MAP.get(plugin);
+        PluginStateHolder holder = PLUGIN_STATE_MAP.get(plugin);
+        return holder != null ? holder.get() : null;
     }
 
     /**
-     * 启用插件
+     * 启用插件，插件在 depends 中声明的插件必须已经启用
      * @param name
 	 *        插件名
      * @author gdrfgdrf
      * @since v1_0_0_20240525_RELEASE
      */
     public void enablePlugin(String name) throws AssertNotNullException, PluginIllegalStateChangeException {
-        updatePluginState(name, PluginState.ENABLED, Plugin::onEnable);
+        updatePluginState(new PluginDependencyGraph(Map.copyOf(PLUGIN_MAP)), name, PluginState.ENABLED, Plugin::onEnable);
     }
 
     /**
-     * 将所有能更新到 {@link PluginState#ENABLED} 的插件更新到 {@link PluginState#ENABLED} 状态
+     * 将所有能更新到 {@link PluginState#ENABLED} 的插件更新到 {@link PluginState#ENABLED} 状态，
+     * 被依赖的插件先于依赖它的插件启用
      * @author gdrfgdrf
      * @since v1_0_0_20240525_RELEASE
      */
     public void enableAllPlugin() throws AssertNotNullException {
-        updateAllPluginState(PluginState.ENABLED, Plugin::onEnable);
+        updateAllPluginState(PluginState.ENABLED, Plugin::onEnable, false);
     }
 
     /**
-     * 加载插件
+     * 加载插件，插件在 depends 中声明的插件必须已经加载
      * @param name
 	 *        插件名
      * @author gdrfgdrf
      * @since v1_0_0_20240525_RELEASE
      */
     public void loadPlugin(String name) throws AssertNotNullException, PluginIllegalStateChangeException {
-        updatePluginState(name, PluginState.LOADED, Plugin::onLoad);
+        updatePluginState(new PluginDependencyGraph(Map.copyOf(PLUGIN_MAP)), name, PluginState.LOADED, Plugin::onLoad);
     }
 
     /**
-     * 将所有能更新到 {@link PluginState#LOADED} 的插件更新到 {@link PluginState#LOADED} 状态
+     * 将所有能更新到 {@link PluginState#LOADED} 的插件更新到 {@link PluginState#LOADED} 状态，
+     * 被依赖的插件先于依赖它的插件加载
      * @author gdrfgdrf
      * @since v1_0_0_20240525_RELEASE
      */
     public void loadAllPlugin() throws AssertNotNullException {
-        updateAllPluginState(PluginState.LOADED, Plugin::onLoad);
+        updateAllPluginState(PluginState.LOADED, Plugin::onLoad, false);
     }
 
     /**
-     * 停止插件
+     * 停止插件，在 depends 中声明了该插件的插件必须已经停止
      * @param name
 	 *        插件名
      * @author gdrfgdrf
      * @since v1_0_0_20240525_RELEASE
      */
     public void stopPlugin(String name) throws AssertNotNullException, PluginIllegalStateChangeException {
-        updatePluginState(name, PluginState.STOPPED, Plugin::onStop);
+        updatePluginState(new PluginDependencyGraph(Map.copyOf(PLUGIN_MAP)), name, PluginState.STOPPED, Plugin::onStop);
     }
 
     /**
-     * 将所有能更新到 {@link PluginState#STOPPED} 的插件更新到 {@link PluginState#STOPPED} 状态
+     * 将所有能更新到 {@link PluginState#STOPPED} 的插件更新到 {@link PluginState#STOPPED} 状态，
+     * 依赖于其他插件的插件先于被依赖的插件停止
      * @author gdrfgdrf
      * @since v1_0_0_20240525_RELEASE
      */
     public void stopAllPlugin() throws AssertNotNullException {
-        updateAllPluginState(PluginState.STOPPED, Plugin::onStop);
+        updateAllPluginState(PluginState.STOPPED, Plugin::onStop, true);
     }
 
     /**
-     * 禁用插件
+     * 禁用插件，在 depends 中声明了该插件的插件必须已经禁用或从未启用
      * @param name
 	 *        插件名
      * @throws AssertNotNullException
@@ -236,20 +274,28 @@ public class PluginManager {
      * @since v1_0_0_20240525_RELEASE
      */
     public void disablePlugin(String name) throws AssertNotNullException, PluginIllegalStateChangeException {
-        updatePluginState(name, PluginState.DISABLED, Plugin::onDisable);
+        updatePluginState(new PluginDependencyGraph(Map.copyOf(PLUGIN_MAP)), name, PluginState.DISABLED, Plugin::onDisable);
     }
 
     /**
-     * 将所有能更新到 {@link PluginState#DISABLED} 的插件更新到 {@link PluginState#DISABLED} 状态
+     * 将所有能更新到 {@link PluginState#DISABLED} 的插件更新到 {@link PluginState#DISABLED} 状态，
+     * 依赖于其他插件的插件先于被依赖的插件禁用
      * @author gdrfgdrf
      * @since v1_0_0_20240525_RELEASE
      */
     public void disableAllPlugin() throws AssertNotNullException {
-        updateAllPluginState(PluginState.DISABLED, Plugin::onDisable);
+        updateAllPluginState(PluginState.DISABLED, Plugin::onDisable, true);
     }
 
     /**
-     * 调用插件主类的方法并更新到对应的插件状态
+     * 调用插件主类的方法并更新到对应的插件状态，
+     * 插件的状态在调用期间为 {@link PluginState#TRANSITIONING}，此时对同一个插件的其他状态变化都将失败，
+     * 插件主类的方法或 {@link PluginEvent.StateChange.Pre} 事件抛出异常时，插件的状态将恢复为变化前的状态，
+     * 启用与加载时插件在 depends 中声明的插件必须已经到达目标状态，
+     * 停止与禁用时在 depends 中声明了该插件的插件必须已经离开对应的状态
+     *
+     * @param graph
+     *        插件依赖图
      * @param name
 	 *        插件名
 	 * @param targetState
@@ -259,11 +305,13 @@ public class PluginManager {
      * @throws AssertNotNullException
      *         当 name 或 targetState 或 consumer 或 获取到的插件主类实例 为 null 时抛出
      * @throws PluginIllegalStateChangeException
-     *         异常的状态变化顺序
+     *         异常的状态变化顺序，或依赖关系不满足时抛出 {@link PluginDependencyUnavailableException} 与
+     *         {@link PluginDependentActiveException}
      * @author gdrfgdrf
      * @since v1_0_0_20240525_RELEASE
      */
     private void updatePluginState(
+            PluginDependencyGraph graph,
             String name,
             PluginState targetState,
             Consumer<Plugin> consumer
@@ -275,19 +323,29 @@ public class PluginManager {
         Plugin plugin = getPlugin(name);
         AssertUtils.notNull("plugin main class instance", plugin);
 
-        PluginState currentPluginState = PLUGIN_STATE_MAP.get(plugin);
-        if (!currentPluginState.validate(targetState)) {
-            throw new PluginIllegalStateChangeException(plugin, currentPluginState, targetState);
-        }
+        PluginStateHolder holder = PLUGIN_STATE_MAP.get(plugin);
+        AssertUtils.notNull("plugin state", holder);
 
-        EventManager.getInstance().post(new PluginEvent.StateChange.Pre(
-                plugin,
-                targetState,
-                currentPluginState
-        ));
+        checkDependencies(graph, name, plugin, holder.get(), targetState);
 
-        consumer.accept(plugin);
-        PLUGIN_STATE_MAP.put(plugin, targetState);
+        PluginState currentPluginState = holder.begin(targetState);
+        if (currentPluginState == null) {
+            throw new PluginIllegalStateChangeException(plugin, holder.get(), targetState);
+        }
+
+        try {
+            EventManager.getInstance().post(new PluginEvent.StateChange.Pre(
+                    plugin,
+                    targetState,
+                    currentPluginState
+            ));
+
+            consumer.accept(plugin);
+        } catch (Throwable e) {
+            holder.rollback(currentPluginState);
+            throw e;
+        }
+        holder.complete(targetState);
 
         EventManager.getInstance().post(new PluginEvent.StateChange.Post(
                 plugin,
@@ -297,11 +355,19 @@ public class PluginManager {
     }
 
     /**
-     * 更新全部能够更新状态的插件到指定状态，将会过滤出能过滤到指定状态的插件，并改变其状态
+     * 更新全部能够更新状态的插件到指定状态，将会过滤出能过滤到指定状态的插件，并改变其状态，
+     * 插件按照 {@link PluginDependencyGraph} 的层级逐层改变状态，
+     * 启用 parallelPluginLifecycle 时同一层级中的插件将在插件线程池中并行改变状态，
+     * 改变每个插件的状态前都会检查其依赖关系，因此插件主类的方法抛出异常，或启用与加载时插件在 depends 中声明的插件不存在，
+     * 还未到达目标状态或存在循环依赖时，该插件将会失败或被跳过，依赖于它的插件也会因为依赖关系不满足而被跳过，
+     * 停止与禁用时依赖于它的插件未能离开对应状态的插件同样会被跳过，这些错误都会以 {@link PluginEvent.StateChangeError} 的形式异步发布
+     *
      * @param targetState
 	 *        需要更新到的插件状态
 	 * @param consumer
 	 *        需要调用的插件主类的方法
+     * @param reverse
+     *        是否按照依赖关系的相反顺序执行，即依赖于其他插件的插件先改变状态，用于停止与禁用
      * @throws AssertNotNullException
      *         当 targetState 或 consumer 为 null 时抛出
      * @author gdrfgdrf
@@ -309,18 +375,210 @@ public class PluginManager {
      */
     private void updateAllPluginState(
             PluginState targetState,
-            Consumer<Plugin> consumer
+            Consumer<Plugin> consumer,
+            boolean reverse
     ) throws AssertNotNullException {
         AssertUtils.notNull("target plugin state", targetState);
         AssertUtils.notNull("plugin main class method", consumer);
 
-        PLUGIN_MAP.forEach((name, plugin) -> {
-            try {
-                updatePluginState(name, targetState, consumer);
-            } catch (Exception ignored) {
+        PluginDependencyGraph graph = new PluginDependencyGraph(Map.copyOf(PLUGIN_MAP));
+        List<List<String>> levels = new ArrayList<>(graph.getLevels());
+
+        List<String> cyclicPluginNames = graph.getCyclicPluginNames();
+        if (reverse) {
+            if (!cyclicPluginNames.isEmpty()) {
+                levels.add(cyclicPluginNames);
+            }
+            Collections.reverse(levels);
+        } else {
+            for (String name : cyclicPluginNames) {
+                Plugin plugin = PLUGIN_MAP.get(name);
+                if (plugin != null && canUpdate(plugin, targetState)) {
+                    reportStateChangeError(
+                            plugin,
+                            targetState,
+                            new PluginCircularDependencyException(plugin, cyclicPluginNames),
+                            null
+                    );
+                }
+            }
+        }
 
+        Config config = ConfigManager.getInstance().getConfig();
+        boolean parallel = config != null && config.isParallelPluginLifecycle();
+        for (List<String> level : levels) {
+            List<String> names = new ArrayList<>(level.size());
+            for (String name : level) {
+                Plugin plugin = PLUGIN_MAP.get(name);
+                if (plugin != null && canUpdate(plugin, targetState)) {
+                    names.add(name);
+                }
+            }
+
+            if (!parallel || names.size() <= 1) {
+                for (String name : names) {
+                    tryUpdatePluginState(graph, name, targetState, consumer);
+                }
+                continue;
+            }
+
+            CompletableFuture<?>[] futures = names.stream()
+                    .map(name -> CompletableFuture.runAsync(
+                            () -> tryUpdatePluginState(graph, name, targetState, consumer),
+                            ThreadPoolService.getPluginExecutorService()
+                    ))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(futures).join();
+        }
+    }
+
+    private boolean canUpdate(Plugin plugin, PluginState targetState) {
+        PluginStateHolder holder = PLUGIN_STATE_MAP.get(plugin);
+        return holder != null && holder.get().validate(targetState);
+    }
+
+    /**
+     * 检查插件的依赖关系是否允许插件变化到目标状态，
+     * 启用与加载时插件在 depends 中声明的插件必须存在且已经到达目标状态，
+     * 停止与禁用时在 depends 中声明了该插件的插件必须已经离开对应的状态
+     * @param graph
+     *        插件依赖图
+     * @param name
+     *        插件名
+     * @param plugin
+     *        插件主类实例
+     * @param currentPluginState
+     *        插件目前的状态
+     * @param targetState
+     *        需要更新到的插件状态
+     * @throws PluginDependencyUnavailableException
+     *         被依赖的插件不存在或还未到达目标状态
+     * @throws PluginDependentActiveException
+     *         依赖于该插件的插件还未离开对应的状态
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private void checkDependencies(
+            PluginDependencyGraph graph,
+            String name,
+            Plugin plugin,
+            PluginState currentPluginState,
+            PluginState targetState
+    ) throws PluginDependencyUnavailableException, PluginDependentActiveException {
+        if (targetState == PluginState.ENABLED || targetState == PluginState.LOADED) {
+            List<String> missingDependencies = graph.getMissingDependencies(name);
+            if (!missingDependencies.isEmpty()) {
+                throw new PluginDependencyUnavailableException(
+                        plugin,
+                        currentPluginState,
+                        targetState,
+                        missingDependencies.get(0),
+                        null
+                );
             }
-        });
+            for (String dependency : graph.getHardDependencies(name)) {
+                PluginState dependencyState = findPluginState(dependency);
+                if (!hasReached(dependencyState, targetState)) {
+                    throw new PluginDependencyUnavailableException(
+                            plugin,
+                            currentPluginState,
+                            targetState,
+                            dependency,
+                            dependencyState
+                    );
+                }
+            }
+            return;
+        }
+
+        for (String dependent : graph.getHardDependents(name)) {
+            PluginState dependentState = findPluginState(dependent);
+            if (!hasLeft(dependentState, targetState)) {
+                throw new PluginDependentActiveException(
+                        plugin,
+                        currentPluginState,
+                        targetState,
+                        dependent,
+                        dependentState
+                );
+            }
+        }
+    }
+
+    /**
+     * 被依赖的插件是否已经到达目标状态，
+     * 启用时被依赖的插件需要已经启用或加载，加载时被依赖的插件需要已经加载
+     */
+    private static boolean hasReached(PluginState dependencyState, PluginState targetState) {
+        if (targetState == PluginState.ENABLED) {
+            return dependencyState == PluginState.ENABLED || dependencyState == PluginState.LOADED;
+        }
+        return dependencyState == targetState;
+    }
+
+    /**
+     * 依赖于该插件的插件是否已经离开对应的状态，
+     * 停止时依赖于它的插件不能处于加载状态，禁用时依赖于它的插件需要从未启用或已经禁用，
+     * 依赖于它的插件正在改变状态时视为未离开
+     */
+    private static boolean hasLeft(PluginState dependentState, PluginState targetState) {
+        if (dependentState == null) {
+            return true;
+        }
+        if (targetState == PluginState.STOPPED) {
+            return dependentState != PluginState.LOADED && dependentState != PluginState.TRANSITIONING;
+        }
+        return dependentState == PluginState.REGISTERED || dependentState == PluginState.DISABLED;
+    }
+
+    private PluginState findPluginState(String name) {
+        Plugin plugin = PLUGIN_MAP.get(name);
+        PluginStateHolder holder = plugin != null ? PLUGIN_STATE_MAP.get(plugin) : null;
+        return holder != null ? holder.get() : null;
+    }
+
+    private void tryUpdatePluginState(
+            PluginDependencyGraph graph,
+            String name,
+            PluginState targetState,
+            Consumer<Plugin> consumer
+    ) {
+        try {
+            updatePluginState(graph, name, targetState, consumer);
+        } catch (PluginDependencyUnavailableException | PluginDependentActiveException e) {
+            reportStateChangeError(e.getPlugin(), targetState, e, null);
+        } catch (PluginIllegalStateChangeException ignored) {
+            // 插件的状态已在其他地方被改变
+        } catch (Exception e) {
+            Plugin plugin = PLUGIN_MAP.get(name);
+            if (plugin != null) {
+                reportStateChangeError(
+                        plugin,
+                        targetState,
+                        new PluginStateChangeFailedException(plugin, targetState, e),
+                        e
+                );
+            }
+        }
+    }
+
+    private void reportStateChangeError(
+            Plugin plugin,
+            PluginState targetState,
+            CustomException exception,
+            Throwable cause
+    ) {
+        if (cause != null) {
+            log.error(exception.getMessage(), cause);
+        } else {
+            log.warn(exception.getMessage());
+        }
+
+        try {
+            EventManager.getInstance().postAsynchronously(new PluginEvent.StateChangeError(plugin, targetState, exception));
+        } catch (AssertNotNullException e) {
+            log.error("Unable to post the state change error of plugin " + plugin.getPluginDescription().getName(), e);
+        }
     }
 
     /**
@@ -353,11 +611,13 @@ public class PluginManager {
     /**
      * 获取所有插件状态
      * @return java.util.Map<io.github.gdrfgdrf.cuteframework.api.base.Plugin,io.github.gdrfgdrf.cuteframework.api.common.PluginState>
-     *         插件状态映射表
+     *         插件状态映射表的快照，不会随插件状态的变化而变化
      * @author gdrfgdrf
      * @since v1_0_0_20240525_RELEASE
      */
     public Map<Plugin, PluginState> getPluginStates() {
-        return PLUGIN_STATE_MAP;
+        Map<Plugin, PluginState> pluginStates = new HashMap<>();
+        PLUGIN_STATE_MAP.forEach((plugin, holder) -> pluginStates.put(plugin, holder.get()));
+        return Collections.unmodifiableMap(pluginStates);
     }
 }
@@ -23,6 +23,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 
 import java.io.File;
+import java.util.List;
 
 /**
  * 插件描述，plugin.json 在代码中的表示，运行时将会把 plugin.json 反序列化为该类，
@@ -57,6 +58,17 @@ public class PluginDescription {
      * 插件作者
      */
     private final String author;
+    /**
+     * 该插件所依赖的插件名，被依赖的插件中的类可以被该插件直接使用，在文件中表示为 depends，
+     * 被依赖的插件总是先于该插件启用与加载，晚于该插件停止与禁用，
+     * 被依赖的插件不存在或未能成功改变状态时，该插件将被跳过
+     */
+    private final List<String> depends;
+    /**
+     * 该插件可选依赖的插件名，在文件中表示为 soft-depends，代码中表示为 softDepends，
+     * 与 {@link PluginDescription#depends} 相同，但被依赖的插件不存在或未能成功改变状态时不会影响该插件
+     */
+    private final List<String> softDepends;
     /**
      * 插件文件
      */
@@ -71,21 +83,38 @@ public class PluginDescription {
             @JsonProperty("name") String name,
             @JsonProperty("main-class") String mainClass,
             @JsonProperty(value = "api-version") String apiVersion,
-            @JsonProperty("author") String author
+            @JsonProperty("author") String author,
+            @JsonProperty("depends") List<String> depends,
+            @JsonProperty("soft-depends") List<String> softDepends
     ) {
         this.name = name;
         this.mainClass = mainClass;
         this.apiVersion = VersionEnum.get(apiVersion);
         this.rawApiVersion = apiVersion;
         this.author = author;
+        this.depends = depends != null ? List.copyOf(depends) : List.of();
+        this.softDepends = softDepends != null ? List.copyOf(softDepends) : List.of();
     }
 
     public PluginDescription(String name, String mainClass, VersionEnum apiVersion, String author) {
+        this(name, mainClass, apiVersion, author, List.of(), List.of());
+    }
+
+    public PluginDescription(
+            String name,
+            String mainClass,
+            VersionEnum apiVersion,
+            String author,
+            List<String> depends,
+            List<String> softDepends
+    ) {
         this.name = name;
         this.mainClass = mainClass;
         this.apiVersion = apiVersion;
         this.rawApiVersion = apiVersion.getVersion();
         this.author = author;
+        this.depends = depends != null ? List.copyOf(depends) : List.of();
+        this.softDepends = softDepends != null ? List.copyOf(softDepends) : List.of();
     }
 
     /**
@@ -96,6 +125,6 @@ public class PluginDescription {
      * @since v1_0_0_20240525_RELEASE
      */
     public PluginDescription copy() {
-        return new PluginDescription(name, mainClass, apiVersion, author);
+        return new PluginDescription(name, mainClass, apiVersion, author, depends, softDepends);
     }
 }
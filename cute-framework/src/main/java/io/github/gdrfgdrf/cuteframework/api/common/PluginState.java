@@ -56,7 +56,13 @@ public enum PluginState {
      * 插件已被禁用
      * 该状态只能变化到 {@link PluginState#ENABLED}
      */
-    DISABLED(ValidatorCollection.DISABLED_VALIDATOR);
+    DISABLED(ValidatorCollection.DISABLED_VALIDATOR),
+    /**
+     * 插件正在变化到另一个状态，即插件主类的方法正在执行，
+     * 由 {@link PluginStateHolder} 在状态变化期间设置，变化结束后将被替换为目标状态或变化前的状态，
+     * 该状态不能变化到任何状态，因此同一个插件同时只会有一个状态变化在进行
+     */
+    TRANSITIONING(ValidatorCollection.TRANSITIONING_VALIDATOR);
 
     /**
      * 校验状态变化的合法性，提供一个 {@link PluginState} 参数，返回 boolean 值，
@@ -104,5 +110,10 @@ public enum PluginState {
                 pluginState -> Objects.requireNonNull(pluginState) == PluginState.DISABLED;
         public static final Function<PluginState, Boolean> DISABLED_VALIDATOR =
                 pluginState -> Objects.requireNonNull(pluginState) == PluginState.ENABLED;
+        public static final Function<PluginState, Boolean> TRANSITIONING_VALIDATOR =
+                pluginState -> {
+                    Objects.requireNonNull(pluginState);
+                    return false;
+                };
     }
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.api.common;
+
+import io.github.gdrfgdrf.cuteframework.api.PluginManager;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 单个插件的状态，由 {@link PluginManager} 为每个插件创建一个，
+ * 状态变化通过 CAS 先进入 {@link PluginState#TRANSITIONING}，
+ * 插件主类的方法执行完成后再设置为目标状态，失败时恢复为变化前的状态，
+ * 因此同一个插件的状态变化是互斥的，不同插件的状态变化互不影响
+ *
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+public class PluginStateHolder {
+    private final AtomicReference<PluginState> state;
+
+    public PluginStateHolder(PluginState state) {
+        this.state = new AtomicReference<>(state);
+    }
+
+    /**
+     * 获取插件当前的状态
+     * @return io.github.gdrfgdrf.cuteframework.api.common.PluginState
+     *         插件当前的状态，状态变化期间为 {@link PluginState#TRANSITIONING}
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public PluginState get() {
+        return state.get();
+    }
+
+    /**
+     * 开始一次状态变化，当前状态可以变化到目标状态时将其替换为 {@link PluginState#TRANSITIONING}
+     * @param targetState
+     *        目标状态
+     * @return io.github.gdrfgdrf.cuteframework.api.common.PluginState
+     *         变化前的状态，当前状态不能变化到目标状态或已有其他状态变化在进行时为 null
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public PluginState begin(PluginState targetState) {
+        while (true) {
+            PluginState current = state.get();
+            if (!current.validate(targetState)) {
+                return null;
+            }
+            if (state.compareAndSet(current, PluginState.TRANSITIONING)) {
+                return current;
+            }
+        }
+    }
+
+    /**
+     * 完成状态变化
+     * @param targetState
+     *        目标状态
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public void complete(PluginState targetState) {
+        state.set(targetState);
+    }
+
+    /**
+     * 状态变化失败，恢复为变化前的状态
+     * @param previousState
+     *        {@link PluginStateHolder#begin(PluginState)} 返回的变化前的状态
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public void rollback(PluginState previousState) {
+        state.set(previousState);
+    }
+}
@@ -18,9 +18,14 @@ package io.github.gdrfgdrf.cuteframework.api.event;
 
 import io.github.gdrfgdrf.cuteframework.api.base.Plugin;
 import io.github.gdrfgdrf.cuteframework.api.common.PluginState;
+import io.github.gdrfgdrf.cuteframework.api.exception.PluginCircularDependencyException;
+import io.github.gdrfgdrf.cuteframework.api.exception.PluginDependencyUnavailableException;
+import io.github.gdrfgdrf.cuteframework.api.exception.PluginDependentActiveException;
 import io.github.gdrfgdrf.cuteframework.api.exception.PluginLoadException;
+import io.github.gdrfgdrf.cuteframework.api.exception.PluginStateChangeFailedException;
 import io.github.gdrfgdrf.cuteframework.event.EventManager;
 import io.github.gdrfgdrf.cuteframework.event.annotation.EventListener;
+import io.github.gdrfgdrf.cuteframework.exceptionhandler.base.CustomException;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -63,6 +68,32 @@ public abstract class PluginEvent {
         }
     }
 
+    /**
+     * 批量改变插件状态时某个插件失败或被跳过的事件，
+     * 异常实例为 {@link PluginStateChangeFailedException}，{@link PluginDependencyUnavailableException}，
+     * {@link PluginDependentActiveException} 或 {@link PluginCircularDependencyException}，该事件将会异步发出
+     *
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    @Getter
+    public static class StateChangeError extends PluginEvent {
+        /**
+         * 插件需要变化到的状态
+         */
+        private final PluginState targetPluginState;
+        /**
+         * 失败或被跳过的原因
+         */
+        private final CustomException exception;
+
+        public StateChangeError(Plugin plugin, PluginState targetPluginState, CustomException exception) {
+            super(plugin);
+            this.targetPluginState = targetPluginState;
+            this.exception = exception;
+        }
+    }
+
     /**
      * 插件被注册事件
      * @author gdrfgdrf
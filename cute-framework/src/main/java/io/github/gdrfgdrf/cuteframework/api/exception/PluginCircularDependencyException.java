@@ -0,0 +1,63 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.api.exception;
+
+import io.github.gdrfgdrf.cuteframework.api.PluginManager;
+import io.github.gdrfgdrf.cuteframework.api.base.Plugin;
+import io.github.gdrfgdrf.cuteframework.api.event.PluginEvent;
+import io.github.gdrfgdrf.cuteframework.exceptionhandler.base.CustomException;
+import io.github.gdrfgdrf.cuteframework.locale.collect.ExceptionLanguage;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * {@link PluginManager} 批量改变插件状态时，插件所声明的依赖之间存在循环，
+ * 环上以及依赖于环的插件都将被跳过，该错误不会直接抛出，而是以 {@link PluginEvent.StateChangeError} 的形式发布
+ *
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+@Getter
+@AllArgsConstructor
+public class PluginCircularDependencyException extends CustomException {
+    /**
+     * 被跳过的插件主类实例
+     */
+    private final Plugin plugin;
+    /**
+     * 无法排序的所有插件名
+     */
+    private final List<String> pluginNames;
+
+    @Override
+    public String getI18NMessage() {
+        return ExceptionLanguage.PLUGIN_CIRCULAR_DEPENDENCY
+                .get()
+                .format(plugin.getPluginDescription().getName(), pluginNames)
+                .getString();
+    }
+
+    @Override
+    public String getDefaultMessage() {
+        return "Skipped the plugin " +
+                plugin.getPluginDescription().getName() +
+                ", because there are circular dependencies between plugins " +
+                pluginNames;
+    }
+}
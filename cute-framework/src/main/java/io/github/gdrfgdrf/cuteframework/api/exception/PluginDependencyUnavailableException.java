@@ -0,0 +1,76 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.api.exception;
+
+import io.github.gdrfgdrf.cuteframework.api.PluginManager;
+import io.github.gdrfgdrf.cuteframework.api.base.Plugin;
+import io.github.gdrfgdrf.cuteframework.api.common.PluginState;
+import io.github.gdrfgdrf.cuteframework.api.event.PluginEvent;
+import io.github.gdrfgdrf.cuteframework.locale.collect.ExceptionLanguage;
+import lombok.Getter;
+
+/**
+ * {@link PluginManager} 启用或加载插件时，插件在 depends 中声明的插件不存在或还未到达期望变化到的状态时抛出，
+ * 批量改变插件状态时该错误不会直接抛出，而是以 {@link PluginEvent.StateChangeError} 的形式发布
+ *
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+@Getter
+public class PluginDependencyUnavailableException extends PluginIllegalStateChangeException {
+    /**
+     * 不可用的被依赖的插件名
+     */
+    private final String dependencyName;
+    /**
+     * 被依赖的插件目前的状态，被依赖的插件不存在时为 null
+     */
+    private final PluginState dependencyState;
+
+    public PluginDependencyUnavailableException(
+            Plugin plugin,
+            PluginState currentPluginState,
+            PluginState expectPluginState,
+            String dependencyName,
+            PluginState dependencyState
+    ) {
+        super(plugin, currentPluginState, expectPluginState);
+        this.dependencyName = dependencyName;
+        this.dependencyState = dependencyState;
+    }
+
+    @Override
+    public String getI18NMessage() {
+        return ExceptionLanguage.PLUGIN_DEPENDENCY_UNAVAILABLE
+                .get()
+                .format(getPlugin().getPluginDescription().getName(), getExpectPluginState(), dependencyName, dependencyState)
+                .getString();
+    }
+
+    @Override
+    public String getDefaultMessage() {
+        return "Cannot change the state of the plugin " +
+                getPlugin().getPluginDescription().getName() +
+                " to state " +
+                getExpectPluginState() +
+                ", because its dependency " +
+                dependencyName +
+                " is missing or has not reached that state (current state: " +
+                dependencyState +
+                ")";
+    }
+}
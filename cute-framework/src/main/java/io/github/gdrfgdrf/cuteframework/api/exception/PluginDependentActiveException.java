@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.api.exception;
+
+import io.github.gdrfgdrf.cuteframework.api.PluginManager;
+import io.github.gdrfgdrf.cuteframework.api.base.Plugin;
+import io.github.gdrfgdrf.cuteframework.api.common.PluginState;
+import io.github.gdrfgdrf.cuteframework.api.event.PluginEvent;
+import io.github.gdrfgdrf.cuteframework.locale.collect.ExceptionLanguage;
+import lombok.Getter;
+
+/**
+ * {@link PluginManager} 停止或禁用插件时，在 depends 中声明了该插件的插件还未停止或禁用时抛出，
+ * 批量改变插件状态时该错误不会直接抛出，而是以 {@link PluginEvent.StateChangeError} 的形式发布
+ *
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+@Getter
+public class PluginDependentActiveException extends PluginIllegalStateChangeException {
+    /**
+     * 依赖于该插件的插件名
+     */
+    private final String dependentName;
+    /**
+     * 依赖于该插件的插件目前的状态
+     */
+    private final PluginState dependentState;
+
+    public PluginDependentActiveException(
+            Plugin plugin,
+            PluginState currentPluginState,
+            PluginState expectPluginState,
+            String dependentName,
+            PluginState dependentState
+    ) {
+        super(plugin, currentPluginState, expectPluginState);
+        this.dependentName = dependentName;
+        this.dependentState = dependentState;
+    }
+
+    @Override
+    public String getI18NMessage() {
+        return ExceptionLanguage.PLUGIN_DEPENDENT_ACTIVE
+                .get()
+                .format(getPlugin().getPluginDescription().getName(), getExpectPluginState(), dependentName, dependentState)
+                .getString();
+    }
+
+    @Override
+    public String getDefaultMessage() {
+        return "Cannot change the state of the plugin " +
+                getPlugin().getPluginDescription().getName() +
+                " to state " +
+                getExpectPluginState() +
+                ", because the plugin " +
+                dependentName +
+                " which depends on it is still in state " +
+                dependentState;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.api.exception;
+
+import io.github.gdrfgdrf.cuteframework.api.PluginManager;
+import io.github.gdrfgdrf.cuteframework.api.base.Plugin;
+import io.github.gdrfgdrf.cuteframework.api.common.PluginState;
+import io.github.gdrfgdrf.cuteframework.api.event.PluginEvent;
+import io.github.gdrfgdrf.cuteframework.exceptionhandler.base.CustomException;
+import io.github.gdrfgdrf.cuteframework.locale.collect.ExceptionLanguage;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * {@link PluginManager} 批量改变插件状态时，插件主类的方法抛出了异常，插件的状态保持不变，
+ * 该错误不会直接抛出，而是以 {@link PluginEvent.StateChangeError} 的形式发布
+ *
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+@Getter
+@AllArgsConstructor
+public class PluginStateChangeFailedException extends CustomException {
+    /**
+     * 插件主类实例
+     */
+    private final Plugin plugin;
+    /**
+     * 期望变化到的状态
+     */
+    private final PluginState expectPluginState;
+    /**
+     * 插件主类的方法抛出的异常实例
+     */
+    private final Throwable throwable;
+
+    @Override
+    public String getI18NMessage() {
+        return ExceptionLanguage.PLUGIN_STATE_CHANGE_FAILED
+                .get()
+                .format(plugin.getPluginDescription().getName(), expectPluginState, throwable.getMessage())
+                .getString();
+    }
+
+    @Override
+    public String getDefaultMessage() {
+        return "An error occurred while changing the state of the plugin " +
+                plugin.getPluginDescription().getName() +
+                " to state " +
+                expectPluginState +
+                ": " +
+                throwable.getMessage();
+    }
+}
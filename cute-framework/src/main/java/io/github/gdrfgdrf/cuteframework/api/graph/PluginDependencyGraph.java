@@ -0,0 +1,201 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.api.graph;
+
+import io.github.gdrfgdrf.cuteframework.api.PluginManager;
+import io.github.gdrfgdrf.cuteframework.api.base.Plugin;
+import io.github.gdrfgdrf.cuteframework.api.common.PluginDescription;
+
+import java.util.*;
+
+/**
+ * 插件依赖图，由插件在 plugin.json 中声明的 depends 与 soft-depends 构建，
+ * 只有已注册的插件之间才存在依赖关系，不存在的 soft-depends 将被忽略，
+ * 不存在的 depends 由 {@link PluginDependencyGraph#getMissingDependencies(String)} 给出
+ *
+ * 插件按照依赖关系被划分为多个层级，每个插件所依赖的插件都在更靠前的层级中，
+ * 同一层级中的插件互不依赖，可以并行改变状态，同一层级中的插件按照名称排序，
+ * 位于循环依赖的环上以及依赖于环的插件不属于任何层级
+ *
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+public class PluginDependencyGraph {
+    /**
+     * 每个插件所依赖的已注册插件，包括 depends 与 soft-depends
+     */
+    private final Map<String, Set<String>> dependencies = new HashMap<>();
+    /**
+     * 每个插件在 depends 中声明的已注册插件
+     */
+    private final Map<String, Set<String>> hardDependencies = new HashMap<>();
+    /**
+     * 在 depends 中声明了每个插件的已注册插件
+     */
+    private final Map<String, Set<String>> hardDependents = new HashMap<>();
+    /**
+     * 每个插件在 depends 中声明但未注册的插件
+     */
+    private final Map<String, List<String>> missingDependencies = new HashMap<>();
+    private final List<List<String>> levels = new ArrayList<>();
+    private final List<String> cyclicPluginNames = new ArrayList<>();
+
+    /**
+     * 构建插件依赖图
+     * @param plugins
+     *        插件名到插件主类实例的映射，通常为 {@link PluginManager#getPlugins()}
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public PluginDependencyGraph(Map<String, Plugin> plugins) {
+        Map<String, List<String>> dependents = new HashMap<>();
+        for (Map.Entry<String, Plugin> entry : plugins.entrySet()) {
+            String name = entry.getKey();
+            PluginDescription pluginDescription = entry.getValue().getPluginDescription();
+
+            Set<String> present = new LinkedHashSet<>();
+            Set<String> hard = new LinkedHashSet<>();
+            List<String> missing = new ArrayList<>();
+            if (pluginDescription != null) {
+                for (String dependency : pluginDescription.getDepends()) {
+                    if (plugins.containsKey(dependency) && !dependency.equals(name)) {
+                        present.add(dependency);
+                        hard.add(dependency);
+                    } else if (!plugins.containsKey(dependency)) {
+                        missing.add(dependency);
+                    }
+                }
+                for (String dependency : pluginDescription.getSoftDepends()) {
+                    if (plugins.containsKey(dependency) && !dependency.equals(name)) {
+                        present.add(dependency);
+                    }
+                }
+            }
+
+            dependencies.put(name, present);
+            hardDependencies.put(name, hard);
+            missingDependencies.put(name, missing);
+            for (String dependency : present) {
+                dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(name);
+            }
+            for (String dependency : hard) {
+                hardDependents.computeIfAbsent(dependency, key -> new TreeSet<>()).add(name);
+            }
+        }
+
+        Map<String, Integer> remaining = new HashMap<>();
+        List<String> current = new ArrayList<>();
+        for (Map.Entry<String, Set<String>> entry : dependencies.entrySet()) {
+            remaining.put(entry.getKey(), entry.getValue().size());
+            if (entry.getValue().isEmpty()) {
+                current.add(entry.getKey());
+            }
+        }
+
+        while (!current.isEmpty()) {
+            Collections.sort(current);
+            levels.add(List.copyOf(current));
+
+            List<String> next = new ArrayList<>();
+            for (String name : current) {
+                remaining.remove(name);
+                for (String dependent : dependents.getOrDefault(name, List.of())) {
+                    if (remaining.merge(dependent, -1, Integer::sum) == 0) {
+                        next.add(dependent);
+                    }
+                }
+            }
+            current = next;
+        }
+
+        cyclicPluginNames.addAll(new TreeSet<>(remaining.keySet()));
+    }
+
+    /**
+     * 获取按照依赖关系划分的层级
+     * @return java.util.List<java.util.List<java.lang.String>>
+     *         每个层级中的插件名，被依赖的插件所在的层级在前
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public List<List<String>> getLevels() {
+        return Collections.unmodifiableList(levels);
+    }
+
+    /**
+     * 获取因为循环依赖而不属于任何层级的插件
+     * @return java.util.List<java.lang.String>
+     *         按照名称排序的插件名
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public List<String> getCyclicPluginNames() {
+        return Collections.unmodifiableList(cyclicPluginNames);
+    }
+
+    /**
+     * 获取某个插件所依赖的已注册插件，包括 depends 与 soft-depends
+     * @param name
+     *        插件名
+     * @return java.util.Set<java.lang.String>
+     *         插件名
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public Set<String> getDependencies(String name) {
+        return Collections.unmodifiableSet(dependencies.getOrDefault(name, Set.of()));
+    }
+
+    /**
+     * 获取某个插件在 depends 中声明的已注册插件
+     * @param name
+     *        插件名
+     * @return java.util.Set<java.lang.String>
+     *         插件名
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public Set<String> getHardDependencies(String name) {
+        return Collections.unmodifiableSet(hardDependencies.getOrDefault(name, Set.of()));
+    }
+
+    /**
+     * 获取在 depends 中声明了某个插件的已注册插件
+     * @param name
+     *        插件名
+     * @return java.util.Set<java.lang.String>
+     *         按照名称排序的插件名
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public Set<String> getHardDependents(String name) {
+        return Collections.unmodifiableSet(hardDependents.getOrDefault(name, Set.of()));
+    }
+
+    /**
+     * 获取某个插件在 depends 中声明但未注册的插件
+     * @param name
+     *        插件名
+     * @return java.util.List<java.lang.String>
+     *         插件名
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public List<String> getMissingDependencies(String name) {
+        return Collections.unmodifiableList(missingDependencies.getOrDefault(name, List.of()));
+    }
+}
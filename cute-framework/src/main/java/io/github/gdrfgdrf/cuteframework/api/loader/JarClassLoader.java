@@ -16,110 +16,398 @@
 
 package io.github.gdrfgdrf.cuteframework.api.loader;
 
+import io.github.gdrfgdrf.cuteframework.api.common.PluginDescription;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.security.CodeSigner;
 import java.security.CodeSource;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
 /**
- * Jar 包加载器
+ * Jar 包加载器，支持并行加载类，
+ * 整个加载器只打开一次 jar 包，打开时便建立条目名称到条目的索引，
+ * 之后类与资源的查找都只查询该索引，不再由 {@link URLClassLoader} 再次打开 jar 包，
+ * 类的字节码读取到每个线程复用的缓冲区中，
+ * 在该加载器与父加载器中都无法找到的类时，将通过 {@link PluginPackageIndex} 找到拥有该类所在包的插件，
+ * 若当前插件在 depends 或 soft-depends 中声明了该插件，则由该插件的类加载器加载，
+ * 最终仍然无法找到的类名将被记录，再次加载时直接失败，直到 {@link PluginPackageIndex} 发生变化
+ *
  * @author gdrfgdrf
  * @since v1_0_0_20240525_RELEASE
  */
 public class JarClassLoader extends URLClassLoader {
+    static {
+        ClassLoader.registerAsParallelCapable();
+    }
+
+    /**
+     * 记录的无法找到的类名的数量上限，超过后将清空重新记录
+     */
+    private static final int MAX_MISSING_CLASS_COUNT = 4096;
+    /**
+     * 每个线程读取字节码时复用的缓冲区，不够大时才会重新分配
+     */
+    private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[8192]);
+
     private final JarFile jarFile;
     private final URL url;
-
-    private final ClassLoader parent;
+    /**
+     * 该 jar 包的条目名称到条目的索引
+     */
+    private final Map<String, JarEntry> entries;
+    /**
+     * 该 jar 包中所有类所在的包
+     */
+    private final Set<String> packageNames;
+    /**
+     * 该类加载器所属插件的描述，不属于任何插件时为 null
+     */
+    private final PluginDescription pluginDescription;
+    /**
+     * 未签名的类所使用的代码来源
+     */
+    private final CodeSource codeSource;
+    /**
+     * 无法找到的类名
+     */
+    private final Set<String> missingClasses = ConcurrentHashMap.newKeySet();
+    /**
+     * 记录 {@link JarClassLoader#missingClasses} 时 {@link PluginPackageIndex} 的版本
+     */
+    private volatile int missingGeneration;
 
     public JarClassLoader(File file) throws IOException {
         this(file, Thread.currentThread().getContextClassLoader());
     }
 
     public JarClassLoader(File file, ClassLoader parent) throws IOException {
+        this(file, parent, null);
+    }
+
+    public JarClassLoader(File file, PluginDescription pluginDescription) throws IOException {
+        this(file, Thread.currentThread().getContextClassLoader(), pluginDescription);
+    }
+
+    public JarClassLoader(File file, ClassLoader parent, PluginDescription pluginDescription) throws IOException {
         super(new URL[]{file.toURI().toURL()}, parent);
-        this.parent = parent;
         this.jarFile = new JarFile(file);
         this.url = file.toURI().toURL();
+        this.codeSource = new CodeSource(url, (CodeSigner[]) null);
+        this.pluginDescription = pluginDescription;
+
+        Map<String, JarEntry> entries = new HashMap<>();
+        Set<String> packageNames = new HashSet<>();
+        Enumeration<JarEntry> enumeration = jarFile.entries();
+        while (enumeration.hasMoreElements()) {
+            JarEntry entry = enumeration.nextElement();
+            String name = entry.getName();
+            entries.put(name, entry);
+
+            int index = name.lastIndexOf('/');
+            if (name.endsWith(".class") && index > 0 && !name.startsWith("META-INF/")) {
+                packageNames.add(name.substring(0, index).replace('/', '.'));
+            }
+        }
+        this.entries = entries;
+        this.packageNames = Set.copyOf(packageNames);
+    }
+
+    /**
+     * 获取该 jar 包中所有类所在的包
+     * @return java.util.Set<java.lang.String>
+     *         包名
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public Set<String> getPackageNames() {
+        return packageNames;
+    }
+
+    /**
+     * 获取该类加载器所属插件的名称
+     * @return java.lang.String
+     *         插件名，不属于任何插件时为 jar 包的路径
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public String getPluginName() {
+        return pluginDescription != null ? pluginDescription.getName() : jarFile.getName();
+    }
+
+    /**
+     * 获取该类加载器持有的 jar 包，包扫描应通过它遍历条目，而不是通过 {@link java.net.JarURLConnection} 再打开一次，
+     * 该 jar 包会在类加载器关闭时关闭，调用方不应关闭它
+     * @return java.util.jar.JarFile
+     *         jar 包
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public JarFile getJarFile() {
+        return jarFile;
     }
 
     public String classNameToJarEntry(String name) {
-        String s = name.replaceAll("\\.", "/");
-        return s + ".class";
+        return name.replace('.', '/').concat(".class");
     }
 
     @Override
-    protected Class<?> findClass(String name) throws ClassNotFoundException {
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        int generation = PluginPackageIndex.getInstance().getGeneration();
+        if (generation != missingGeneration) {
+            missingClasses.clear();
+            missingGeneration = generation;
+        }
+        if (missingClasses.contains(name)) {
+            throw new ClassNotFoundException(name);
+        }
+
         try {
-            Class<?> c = null;
-
-            if (null != jarFile) {
-                String jarEntryName = classNameToJarEntry(name);
-                JarEntry entry = jarFile.getJarEntry(jarEntryName);
-
-                if (null != entry) {
-                    InputStream is = jarFile.getInputStream(entry);
-                    int availableLen = is.available();
-
-                    int len = 0;
-                    byte[] bt1 = new byte[availableLen];
-                    while (len < availableLen) {
-                        len += is.read(bt1, len, availableLen - len);
-                    }
-
-                    CodeSigner[] signers = entry.getCodeSigners();
-                    CodeSource source = new CodeSource(url, signers);
-
-                    c = defineClass(name, bt1, 0, bt1.length, source);
-                } else {
-                    if (parent != null) {
-                        return parent.loadClass(name);
-                    }
-                }
+            return super.loadClass(name, resolve);
+        } catch (ClassNotFoundException e) {
+            if (missingClasses.size() >= MAX_MISSING_CLASS_COUNT) {
+                missingClasses.clear();
             }
+            missingClasses.add(name);
+            throw e;
+        }
+    }
 
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        Class<?> c = defineLocalClass(name);
+        if (c == null) {
+            c = findDependencyClass(name);
+        }
+        if (c == null) {
+            throw new ClassNotFoundException(name);
+        }
+        return c;
+    }
+
+    /**
+     * 通过 {@link PluginPackageIndex} 从当前插件所依赖的插件中加载类
+     * @param name
+     *        类名
+     * @return java.lang.Class<?>
+     *         类，拥有该类所在包的插件不存在或不被当前插件依赖时为 null
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private Class<?> findDependencyClass(String name) throws ClassNotFoundException {
+        int index = name.lastIndexOf('.');
+        if (index < 0 || pluginDescription == null) {
+            return null;
+        }
+
+        JarClassLoader owner = PluginPackageIndex.getInstance().find(name.substring(0, index));
+        if (owner == null || owner == this) {
+            return null;
+        }
+        String ownerName = owner.getPluginName();
+        if (!pluginDescription.getDepends().contains(ownerName) &&
+                !pluginDescription.getSoftDepends().contains(ownerName)) {
+            return null;
+        }
+        return owner.loadLocalClass(name);
+    }
+
+    /**
+     * 只从该 jar 包中加载类，不委托给父加载器，也不再查找其他插件，
+     * 以避免插件之间相互依赖时无限递归
+     * @param name
+     *        类名
+     * @return java.lang.Class<?>
+     *         类，该 jar 包中不存在时为 null
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    Class<?> loadLocalClass(String name) throws ClassNotFoundException {
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> c = findLoadedClass(name);
+            if (c == null) {
+                c = defineLocalClass(name);
+            }
             return c;
+        }
+    }
+
+    /**
+     * 从该 jar 包中读取并定义类
+     * @param name
+     *        类名
+     * @return java.lang.Class<?>
+     *         类，该 jar 包中不存在时为 null
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private Class<?> defineLocalClass(String name) throws ClassNotFoundException {
+        JarEntry entry = entries.get(classNameToJarEntry(name));
+        if (entry == null) {
+            return null;
+        }
+
+        try (InputStream inputStream = jarFile.getInputStream(entry)) {
+            byte[] buffer = BUFFER.get();
+            int size = (int) entry.getSize();
+            if (size < 0) {
+                buffer = inputStream.readAllBytes();
+                size = buffer.length;
+            } else {
+                if (buffer.length < size) {
+                    buffer = new byte[Math.max(size, buffer.length * 2)];
+                    BUFFER.set(buffer);
+                }
+                int length = inputStream.readNBytes(buffer, 0, size);
+                if (length != size) {
+                    throw new IOException("Unexpected end of class " + name + " in " + jarFile.getName());
+                }
+            }
+
+            CodeSigner[] signers = entry.getCodeSigners();
+            CodeSource source = signers == null ? codeSource : new CodeSource(url, signers);
+            return defineClass(name, buffer, 0, size, source);
         } catch (IOException e) {
-            throw new ClassNotFoundException("Class " + name + " not found.");
+            throw new ClassNotFoundException("Class " + name + " not found.", e);
         }
     }
 
+    /**
+     * 优先从该 jar 包中查找资源，该 jar 包中不存在时再委托给父加载器，
+     * 使得插件中也能读取到框架与其依赖库的资源 (例如元注解的 class 文件)
+     * @param name
+     *        资源名称
+     * @return java.net.URL
+     *         资源，都不存在时为 null
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
     @Nullable
     @Override
     public URL getResource(String name) {
-        return findResource(name);
+        URL resource = findResource(name);
+        if (resource == null && getParent() != null) {
+            resource = getParent().getResource(name);
+        }
+        return resource;
     }
 
+    /**
+     * 只查找该 jar 包中的资源，不委托给父加载器，
+     * 包扫描与 Bean 类索引通过该方法获取包所在的根路径，只应该得到插件自己的 jar 包
+     * @param name
+     *        资源名称
+     * @return java.util.Enumeration<java.net.URL>
+     *         资源
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
     @Override
     public Enumeration<URL> getResources(String name) throws IOException {
         return findResources(name);
     }
 
+    @Override
+    public URL findResource(String name) {
+        JarEntry entry = getEntry(name);
+        if (entry == null) {
+            return null;
+        }
+
+        try {
+            return new URL("jar:" + url + "!/" + entry.getName());
+        } catch (MalformedURLException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public Enumeration<URL> findResources(String name) {
+        URL resource = findResource(name);
+        if (resource == null) {
+            return Collections.emptyEnumeration();
+        }
+        return Collections.enumeration(Collections.singletonList(resource));
+    }
+
+    /**
+     * 与 {@link JarClassLoader#getResource(String)} 相同，
+     * 优先从该 jar 包中读取资源，该 jar 包中不存在时再委托给父加载器
+     * @param name
+     *        资源名称
+     * @return java.io.InputStream
+     *         资源输入流，都不存在时为 null
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
     @Override
     public InputStream getResourceAsStream(String name) {
-        InputStream is = null;
+        if (getEntry(name) == null) {
+            return getParent() != null ? getParent().getResourceAsStream(name) : null;
+        }
+        return findResourceAsStream(name);
+    }
+
+    /**
+     * 只从该 jar 包中读取资源，不委托给父加载器，
+     * 通过该类加载器自己持有的 {@link JarFile} 读取，不会再打开一个 jar 包
+     * @param name
+     *        资源名称
+     * @return java.io.InputStream
+     *         资源输入流，不存在时为 null
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    @Nullable
+    public InputStream findResourceAsStream(String name) {
+        JarEntry entry = getEntry(name);
+        if (entry == null) {
+            return null;
+        }
+
         try {
-            if (null != jarFile) {
-                JarEntry entry = jarFile.getJarEntry(name);
-                if (entry != null) {
-                    is = jarFile.getInputStream(entry);
-                }
-                if (is == null) {
-                    is = super.getResourceAsStream(name);
-                }
-            }
+            return jarFile.getInputStream(entry);
         } catch (IOException e) {
             return null;
         }
-        return is;
     }
-}
 
+    @Override
+    public void close() throws IOException {
+        try {
+            jarFile.close();
+        } finally {
+            super.close();
+        }
+    }
+
+    /**
+     * 从索引中获取条目，与 {@link JarFile#getJarEntry(String)} 相同，找不到时会再尝试同名的目录
+     * @param name
+     *        条目名称
+     * @return java.util.jar.JarEntry
+     *         条目，不存在时为 null
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private JarEntry getEntry(String name) {
+        JarEntry entry = entries.get(name);
+        if (entry == null && !name.endsWith("/")) {
+            entry = entries.get(name + "/");
+        }
+        return entry;
+    }
+}
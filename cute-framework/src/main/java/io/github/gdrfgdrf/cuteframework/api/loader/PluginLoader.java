@@ -24,6 +24,8 @@ import io.github.gdrfgdrf.cuteframework.api.event.PluginEvent;
 import io.github.gdrfgdrf.cuteframework.api.exception.*;
 import io.github.gdrfgdrf.cuteframework.common.Constants;
 import io.github.gdrfgdrf.cuteframework.common.VersionEnum;
+import io.github.gdrfgdrf.cuteframework.config.ConfigManager;
+import io.github.gdrfgdrf.cuteframework.config.common.Config;
 import io.github.gdrfgdrf.cuteframework.event.EventManager;
 import io.github.gdrfgdrf.cuteframework.utils.FileUtils;
 import io.github.gdrfgdrf.cuteframework.utils.StringUtils;
@@ -34,7 +36,9 @@ import io.github.gdrfgdrf.cuteframework.utils.jackson.JacksonUtils;
 import io.github.gdrfgdrf.cuteframework.utils.stack.StackUtils;
 import io.github.gdrfgdrf.cuteframework.utils.stack.exception.StackIllegalArgumentException;
 import io.github.gdrfgdrf.cuteframework.utils.stack.exception.StackIllegalOperationException;
+import io.github.gdrfgdrf.cuteframework.utils.thread.ThreadPoolService;
 import lombok.Cleanup;
+import lombok.extern.slf4j.Slf4j;
 
 import java.io.File;
 import java.io.FileNotFoundException;
@@ -42,7 +46,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
@@ -51,6 +61,7 @@ import java.util.jar.JarFile;
  * @author gdrfgdrf
  * @since v1_0_0_20240525_RELEASE
  */
+@Slf4j
 public class PluginLoader {
     private static PluginLoader INSTANCE;
 
@@ -95,6 +106,10 @@ public class PluginLoader {
      * 开始加载插件，当插件加载发生错误时将抛出 {@link PluginLoadException}，错误实例将包含在其中，
      * 该错误不会直接抛出，而且会发布一个 {@link PluginEvent.LoadError} 事件，
      * 该事件将会异步发出。
+     * 启用 parallelPluginLoading 时，每个插件文件的读取，检查与主类的实例化将在插件线程池中并行进行，
+     * 无论是否并行，所有插件都将在加载完成后按照插件名称的顺序注册到 {@link PluginManager}，
+     * 名称相同时按照插件文件的路径排序，因此插件名称冲突时被保留的插件是确定的，
+     * 插件类加载器的父类加载器始终为调用该方法的线程的上下文类加载器，而不是插件线程池中线程的上下文类加载器。
      * 该方法仅允许 {@link CuteFramework#run()} 调用
      *
      * @throws StackIllegalOperationException
@@ -116,14 +131,96 @@ public class PluginLoader {
             return;
         }
 
-        for (File pluginJar : pluginJars) {
+        ClassLoader parent = Thread.currentThread().getContextClassLoader();
+        Config config = ConfigManager.getInstance().getConfig();
+        List<Plugin> plugins;
+        if (config != null && config.isParallelPluginLoading()) {
+            plugins = prepareParallel(pluginJars, parent);
+        } else {
+            plugins = new ArrayList<>(pluginJars.length);
+            for (File pluginJar : pluginJars) {
+                Plugin plugin = tryPrepare(pluginJar, parent);
+                if (plugin != null) {
+                    plugins.add(plugin);
+                }
+            }
+        }
+
+        plugins.sort(Comparator
+                .comparing((Plugin plugin) -> plugin.getPluginDescription().getName())
+                .thenComparing(plugin -> plugin.getPluginDescription().getPluginFile().getPath()));
+        for (Plugin plugin : plugins) {
+            PluginDescription pluginDescription = plugin.getPluginDescription();
             try {
-                PluginLoader.INSTANCE.load(pluginJar);
+                PluginManager.getInstance().registerPlugin(pluginDescription.getName(), plugin);
             } catch (Exception e) {
-                PluginLoadException pluginLoadException = new PluginLoadException(pluginJar, e);
-                EventManager.getInstance().postAsynchronously(new PluginEvent.LoadError(pluginLoadException));
+                postLoadError(pluginDescription.getPluginFile(), e);
+            }
+        }
+    }
+
+    /**
+     * 在插件线程池中并行准备所有插件，该方法会阻塞直到所有插件都准备完成
+     * @param pluginJars
+     *        插件文件
+     * @param parent
+     *        插件类加载器的父类加载器
+     * @return java.util.List<io.github.gdrfgdrf.cuteframework.api.base.Plugin>
+     *         成功准备的插件，顺序不固定
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private List<Plugin> prepareParallel(File[] pluginJars, ClassLoader parent) {
+        ExecutorService executorService = ThreadPoolService.getPluginExecutorService();
+        List<Future<Plugin>> futures = new ArrayList<>(pluginJars.length);
+        for (File pluginJar : pluginJars) {
+            futures.add(executorService.submit(() -> tryPrepare(pluginJar, parent)));
+        }
+
+        List<Plugin> plugins = new ArrayList<>(pluginJars.length);
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                Plugin plugin = futures.get(i).get();
+                if (plugin != null) {
+                    plugins.add(plugin);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                postLoadError(pluginJars[i], e);
+            } catch (ExecutionException e) {
+                postLoadError(pluginJars[i], e.getCause());
             }
         }
+        return plugins;
+    }
+
+    /**
+     * 准备插件，发生错误时发布 {@link PluginEvent.LoadError} 事件
+     * @param pluginJar
+     *        插件文件
+     * @param parent
+     *        插件类加载器的父类加载器
+     * @return io.github.gdrfgdrf.cuteframework.api.base.Plugin
+     *         已实例化但尚未注册的插件，发生错误时为 null
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private Plugin tryPrepare(File pluginJar, ClassLoader parent) {
+        try {
+            return prepare(pluginJar, parent);
+        } catch (Exception e) {
+            postLoadError(pluginJar, e);
+            return null;
+        }
+    }
+
+    private void postLoadError(File pluginJar, Throwable throwable) {
+        PluginLoadException pluginLoadException = new PluginLoadException(pluginJar, throwable);
+        try {
+            EventManager.getInstance().postAsynchronously(new PluginEvent.LoadError(pluginLoadException));
+        } catch (AssertNotNullException e) {
+            log.error("Unable to post the load error of plugin " + pluginJar.getPath(), pluginLoadException);
+        }
     }
 
     /**
@@ -152,6 +249,35 @@ public class PluginLoader {
             IllegalAccessException,
             PluginNameConflictException,
             AssertNotNullException {
+        Plugin plugin = prepare(pluginFile, Thread.currentThread().getContextClassLoader());
+        PluginManager.getInstance().registerPlugin(plugin.getPluginDescription().getName(), plugin);
+    }
+
+    /**
+     * 准备插件，即 {@link PluginLoader#load(File)} 中除注册到 {@link PluginManager} 以外的部分，
+     * 不同的插件文件可以在不同的线程中同时准备
+     *
+     * @param pluginFile
+     *        插件文件
+     * @param parent
+     *        插件类加载器的父类加载器
+     * @return io.github.gdrfgdrf.cuteframework.api.base.Plugin
+     *         已实例化但尚未注册的插件
+     * @throws IOException
+     *         插件文件无法被解析为 {@link JarFile}
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private Plugin prepare(File pluginFile, ClassLoader parent) throws
+            IOException,
+            PluginUndefinedPropertyException,
+            UnsupportedPluginException,
+            PluginMainClassExtendException,
+            PluginMainClassLoadException,
+            InvocationTargetException,
+            NoSuchMethodException,
+            InstantiationException,
+            IllegalAccessException {
         @Cleanup
         JarFile jarFile = new JarFile(pluginFile);
 
@@ -164,16 +290,17 @@ public class PluginLoader {
         checkPluginCoreVersion(pluginDescription);
 
         // instantiate plugin main class
-        Plugin plugin = loadPluginClass(pluginDescription);
+        Plugin plugin = loadPluginClass(pluginDescription, parent);
         plugin.setPluginDescription(pluginDescription);
-
-        PluginManager.getInstance().registerPlugin(pluginDescription.getName(), plugin);
+        return plugin;
     }
 
     /**
      * 加载插件的类
      * @param pluginDescription
 	 *        插件描述文件
+     * @param parent
+     *        插件类加载器的父类加载器
      * @return io.github.gdrfgdrf.cuteframework.api.base.Plugin
      *         正常加载的插件主类
      * @throws PluginMainClassLoadException
@@ -193,7 +320,7 @@ public class PluginLoader {
      * @author gdrfgdrf
      * @since v1_0_0_20240525_RELEASE
      */
-    private Plugin loadPluginClass(PluginDescription pluginDescription) throws
+    private Plugin loadPluginClass(PluginDescription pluginDescription, ClassLoader parent) throws
             PluginMainClassLoadException,
             PluginMainClassExtendException,
             NoSuchMethodException,
@@ -205,7 +332,7 @@ public class PluginLoader {
         String mainClassPath = pluginDescription.getMainClass();
 
         ClassLoader originClassLoader = Thread.currentThread().getContextClassLoader();
-        ClassLoader jarClassLoader =  new JarClassLoader(pluginFile);
+        ClassLoader jarClassLoader = new JarClassLoader(pluginFile, parent, pluginDescription);
         Thread.currentThread().setContextClassLoader(jarClassLoader);
 
         Class<?> mainClass;
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.api.loader;
+
+import io.github.gdrfgdrf.cuteframework.api.PluginManager;
+import io.github.gdrfgdrf.cuteframework.utils.asserts.AssertUtils;
+import io.github.gdrfgdrf.cuteframework.utils.asserts.exception.AssertNotNullException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 插件包索引，包名到拥有该包的插件 {@link JarClassLoader} 的映射，
+ * 插件注册到 {@link PluginManager} 时发布其 jar 包中的所有包，移除时撤回，
+ * 每次发布或撤回都会生成一个新的不可变映射，查询时不需要加锁，
+ * {@link JarClassLoader} 在自身与父加载器中都找不到某个类时，
+ * 将通过该索引找到拥有该类所在包的插件，若当前插件依赖于该插件则由该插件加载
+ *
+ * 同一个包只属于第一个发布它的插件，之后发布同一个包的插件将无法通过该索引共享这个包
+ *
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+@Slf4j
+public class PluginPackageIndex {
+    private static PluginPackageIndex INSTANCE;
+
+    private volatile Map<String, JarClassLoader> packageMap = Map.of();
+    /**
+     * 每次发布或撤回后递增，{@link JarClassLoader} 通过它判断无法找到的类名是否需要重新查找
+     */
+    private volatile int generation;
+
+    private PluginPackageIndex() {}
+
+    /**
+     * 单例模式，获取 {@link PluginPackageIndex} 实例
+     * @return io.github.gdrfgdrf.cuteframework.api.loader.PluginPackageIndex
+     *         {@link PluginPackageIndex} 实例
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public static synchronized PluginPackageIndex getInstance() {
+        if (INSTANCE == null) {
+            INSTANCE = new PluginPackageIndex();
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * 发布某个插件类加载器中的所有包
+     * @param classLoader
+     *        插件类加载器
+     * @throws AssertNotNullException
+     *         当 classLoader 为 null 时抛出
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public synchronized void publish(JarClassLoader classLoader) throws AssertNotNullException {
+        AssertUtils.notNull("plugin class loader", classLoader);
+
+        Map<String, JarClassLoader> map = new HashMap<>(packageMap);
+        for (String packageName : classLoader.getPackageNames()) {
+            JarClassLoader owner = map.putIfAbsent(packageName, classLoader);
+            if (owner != null && owner != classLoader) {
+                log.warn("Package " + packageName + " of plugin " + classLoader.getPluginName() +
+                        " is already owned by plugin " + owner.getPluginName() + ", it will not be shared");
+            }
+        }
+        packageMap = Map.copyOf(map);
+        generation++;
+    }
+
+    /**
+     * 撤回某个插件类加载器所拥有的所有包
+     * @param classLoader
+     *        插件类加载器
+     * @throws AssertNotNullException
+     *         当 classLoader 为 null 时抛出
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public synchronized void unpublish(JarClassLoader classLoader) throws AssertNotNullException {
+        AssertUtils.notNull("plugin class loader", classLoader);
+
+        Map<String, JarClassLoader> map = new HashMap<>(packageMap);
+        map.values().removeIf(owner -> owner == classLoader);
+        packageMap = Map.copyOf(map);
+        generation++;
+    }
+
+    /**
+     * 获取拥有某个包的插件类加载器
+     * @param packageName
+     *        包名
+     * @return io.github.gdrfgdrf.cuteframework.api.loader.JarClassLoader
+     *         插件类加载器，没有插件拥有该包时为 null
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public JarClassLoader find(String packageName) {
+        return packageMap.get(packageName);
+    }
+
+    public int getGeneration() {
+        return generation;
+    }
+}
@@ -18,15 +18,25 @@ package io.github.gdrfgdrf.cuteframework.base;
 
 import io.github.gdrfgdrf.cuteframework.bean.BeanManager;
 import io.github.gdrfgdrf.cuteframework.classinjector.ClassInjector;
+import io.github.gdrfgdrf.cuteframework.config.ConfigManager;
+import io.github.gdrfgdrf.cuteframework.config.common.Config;
 import io.github.gdrfgdrf.cuteframework.utils.TypeParameterMatcher;
 import io.github.gdrfgdrf.cuteframework.utils.asserts.exception.AssertNotNullException;
+import io.github.gdrfgdrf.cuteframework.utils.thread.ThreadPoolService;
 import lombok.extern.slf4j.Slf4j;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 管理器基类，继承该类可实现自动化的获取需要实例化的类
@@ -41,12 +51,29 @@ import java.util.Map;
  */
 @Slf4j
 public abstract class BaseManager<T, A extends Annotation> {
-    private final Map<Class<? extends T>, T> T_INSTANCE_MAP = new HashMap<>();
+    /**
+     * <T> 的实现类到其实例的映射，值在创建开始前便通过 {@link ConcurrentHashMap#computeIfAbsent} 占位，
+     * 因此即使多个线程同时获取，每个实现类也只会被实例化一次，且实例化时不会持有映射的锁
+     */
+    private final Map<Class<? extends T>, CompletableFuture<T>> T_INSTANCE_MAP = new ConcurrentHashMap<>();
+    /**
+     * 正在被实例化的 <T> 的实现类到负责实例化它的线程的映射
+     */
+    private final Map<Class<?>, Thread> CREATING = new ConcurrentHashMap<>();
+    /**
+     * 正在等待其他线程完成实例化的线程到其等待的类的映射，
+     * 与 {@link BaseManager#CREATING} 一起构成线程之间的等待关系，用于发现跨线程的循环实例化，
+     * 例如 A 的实例化过程中获取 B，同时另一个线程中 B 的实例化过程中获取 A，此时两个线程都将永远阻塞
+     */
+    private final Map<Thread, Class<?>> WAITING = new ConcurrentHashMap<>();
 
     /**
      * 获取 <A> 注解中方法 classes 的返回值，
      * 该返回值必须是一个数组形式的 <T> 的实现类或子类，
-     * 并进行循环提供给 {@link BaseManager#instantiate(Class)} 进行实例化
+     * 并按照顺序提供给 {@link BaseManager#instantiate(Class)} 进行实例化，
+     * 当配置中启用了 parallelManagerInstantiation 时，
+     * 将在 {@link ThreadPoolService#getManagerForkJoinPool()} 中并行地进行实例化，
+     * 某个类实例化失败不会影响其他类
      *
      * @author gdrfgdrf
      * @since v1_0_0_20240525_RELEASE
@@ -63,16 +90,33 @@ public abstract class BaseManager<T, A extends Annotation> {
             }
 
             T[] array = (T[]) method.invoke(annotationObj);
-            for (T t : array) {
-                instantiate((Class<? extends T>) t);
+            Config config = ConfigManager.getInstance().getConfig();
+            if (config == null || !config.isParallelManagerInstantiation()) {
+                Arrays.stream(array).forEach(t -> instantiateSafely((Class<? extends T>) t));
+                return;
             }
+
+            ThreadPoolService.getManagerForkJoinPool().submit(() -> Arrays.stream(array)
+                    .parallel()
+                    .forEach(t -> instantiateSafely((Class<? extends T>) t))
+            ).join();
         } catch (Exception e) {
             log.error("Error when get a array from a annotation", e);
         }
     }
 
+    private void instantiateSafely(Class<? extends T> clazz) {
+        try {
+            instantiate(clazz);
+        } catch (Exception e) {
+            log.error("Error when instantiate " + clazz, e);
+        }
+    }
+
     /**
-     * 实例化某个类
+     * 实例化某个类，
+     * 当配置中启用了 parallelManagerInstantiation 时，该方法会被多个线程同时调用，
+     * 实现类需要保证其中访问的共享状态是线程安全的，通过 {@link BaseManager#createInstance(Class)} 获取实例是线程安全的
      * @param clazz
 	 *        类对象
      * @author gdrfgdrf
@@ -81,11 +125,16 @@ public abstract class BaseManager<T, A extends Annotation> {
     public abstract void instantiate(Class<? extends T> clazz);
 
     /**
-     * 对 <T> 进行的单例模式，保证一个 <T> 的实现类只能有一个实例
+     * 对 <T> 进行的单例模式，保证一个 <T> 的实现类只能有一个实例，可以被多个线程同时调用，
+     * 第一个线程负责实例化，其余线程等待其完成，实例化失败时移除占位，之后的调用将会重新尝试，
+     * 实例化过程中在同一个线程再次获取同一个类，或等待其他线程会形成循环等待时，
+     * 直接抛出 {@link IllegalStateException}，而不是永远等待
      * @param clazz
 	 *        <T> 类
      * @return T
      *         <T> 对象
+     * @throws IllegalStateException
+     *         实例化该类的过程中再次获取该类，或多个线程之间存在循环实例化
      * @author gdrfgdrf
      * @since v1_0_0_20240525_RELEASE
      */
@@ -97,12 +146,88 @@ public abstract class BaseManager<T, A extends Annotation> {
             IllegalAccessException,
             AssertNotNullException
     {
-        if (T_INSTANCE_MAP.containsKey(clazz)) {
-            return T_INSTANCE_MAP.get(clazz);
+        Thread current = Thread.currentThread();
+        if (CREATING.get(clazz) == current) {
+            throw new IllegalStateException("Reentrant instantiation of " + clazz.getName());
         }
-        T instance = (T) ClassInjector.getInstance().createInstance(clazz);
-        T_INSTANCE_MAP.put(clazz, instance);
 
-        return instance;
+        CompletableFuture<T> created = new CompletableFuture<>();
+        CompletableFuture<T> future = T_INSTANCE_MAP.computeIfAbsent(clazz, key -> created);
+
+        if (future == created) {
+            CREATING.put(clazz, current);
+            try {
+                created.complete((T) ClassInjector.getInstance().createInstance(clazz));
+            } catch (Throwable e) {
+                T_INSTANCE_MAP.remove(clazz, created);
+                created.completeExceptionally(e);
+            } finally {
+                CREATING.remove(clazz, current);
+            }
+        } else if (!future.isDone()) {
+            WAITING.put(current, clazz);
+        }
+
+        try {
+            if (WAITING.get(current) == clazz) {
+                checkCircularWaiting(clazz, current);
+            }
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof InvocationTargetException exception) {
+                throw exception;
+            }
+            if (cause instanceof NoSuchMethodException exception) {
+                throw exception;
+            }
+            if (cause instanceof InstantiationException exception) {
+                throw exception;
+            }
+            if (cause instanceof IllegalAccessException exception) {
+                throw exception;
+            }
+            if (cause instanceof AssertNotNullException exception) {
+                throw exception;
+            }
+            if (cause instanceof RuntimeException exception) {
+                throw exception;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        } finally {
+            WAITING.remove(current, clazz);
+        }
+    }
+
+    /**
+     * 沿着线程之间的等待关系检查当前线程等待该类是否会形成循环，
+     * 等待关系先于检查被记录，因此循环中的线程同时检查时至少有一个线程能发现循环
+     * @param clazz
+     *        当前线程等待的类
+     * @param current
+     *        当前线程
+     * @throws IllegalStateException
+     *         等待会形成循环时抛出
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private void checkCircularWaiting(Class<?> clazz, Thread current) {
+        List<String> path = new ArrayList<>();
+        Set<Thread> visited = new HashSet<>();
+        Class<?> waiting = clazz;
+        while (waiting != null) {
+            path.add(waiting.getName());
+            Thread owner = CREATING.get(waiting);
+            if (owner == current) {
+                throw new IllegalStateException("Circular instantiation across threads: " + String.join(" -> ", path));
+            }
+            if (owner == null || !visited.add(owner)) {
+                return;
+            }
+            waiting = WAITING.get(owner);
+        }
     }
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.bean;
+
+import io.github.gdrfgdrf.cuteframework.bean.exception.BeanCreationException;
+import io.github.gdrfgdrf.cuteframework.bean.holder.base.BeanHolder;
+import lombok.Getter;
+
+/**
+ * Bean 句柄，由 {@link BeanManager#getBeanKey(String)} 等方法通过名称或类型解析一次后得到，
+ * 其中保存了 Bean 在 {@link BeanManager} 中连续分配的整数编号，
+ * 之后通过 {@link BeanKey#get()} 获取 Bean 实例只需要按照编号读取数组，
+ * 不再需要计算字符串的哈希值与查找映射，适合在频繁执行的代码中保存并复用
+ *
+ * @param <T> Bean 类型
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+@Getter
+public final class BeanKey<T> {
+    private final BeanManager beanManager;
+    /**
+     * Bean 编号
+     */
+    private final int id;
+    /**
+     * Bean 名称
+     */
+    private final String name;
+    /**
+     * 获取时所使用的类型
+     */
+    private final Class<T> type;
+
+    BeanKey(BeanManager beanManager, int id, String name, Class<T> type) {
+        this.beanManager = beanManager;
+        this.id = id;
+        this.name = name;
+        this.type = type;
+    }
+
+    /**
+     * 获取 Bean 实例，行为与 {@link BeanManager#getBean(String)} 相同，
+     * 类型已在解析句柄时检查过，因此不会再进行类型转换
+     * @return T
+     *         Bean 实例
+     * @throws BeanCreationException
+     *         当延迟创建的 Bean 创建失败时抛出
+     * @throws IllegalStateException
+     *         当 Bean 为对象池作用域时抛出，需要使用 {@link BeanManager#borrowBean(String)}
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    @SuppressWarnings("unchecked")
+    public T get() throws BeanCreationException {
+        BeanHolder holder = beanManager.getBeanHolder(id);
+        return (T) holder.getBean();
+    }
+
+    @Override
+    public String toString() {
+        return "BeanKey(id=" + id + ", name=" + name + ", type=" + type.getName() + ")";
+    }
+}
@@ -19,10 +19,34 @@ package io.github.gdrfgdrf.cuteframework.bean;
 import io.github.gdrfgdrf.cuteframework.CuteFramework;
 import io.github.gdrfgdrf.cuteframework.api.PluginManager;
 import io.github.gdrfgdrf.cuteframework.api.base.Plugin;
+import io.github.gdrfgdrf.cuteframework.bean.annotation.AsyncInit;
 import io.github.gdrfgdrf.cuteframework.bean.annotation.Component;
+import io.github.gdrfgdrf.cuteframework.bean.annotation.Lazy;
+import io.github.gdrfgdrf.cuteframework.bean.annotation.Scope;
+import io.github.gdrfgdrf.cuteframework.bean.enums.ScopeType;
 import io.github.gdrfgdrf.cuteframework.bean.compare.OrderComparator;
+import io.github.gdrfgdrf.cuteframework.bean.condition.ConditionEvaluator;
 import io.github.gdrfgdrf.cuteframework.bean.event.BeanEvent;
+import io.github.gdrfgdrf.cuteframework.bean.exception.BeanCircularDependencyException;
+import io.github.gdrfgdrf.cuteframework.bean.exception.BeanCreationException;
+import io.github.gdrfgdrf.cuteframework.bean.exception.BeanDependencyNotFoundException;
+import io.github.gdrfgdrf.cuteframework.bean.exception.BeanInjectionException;
 import io.github.gdrfgdrf.cuteframework.bean.exception.BeanNameConflictException;
+import io.github.gdrfgdrf.cuteframework.bean.exception.BeanNotUniqueException;
+import io.github.gdrfgdrf.cuteframework.bean.factory.BeanFactoryManager;
+import io.github.gdrfgdrf.cuteframework.bean.factory.base.BeanFactory;
+import io.github.gdrfgdrf.cuteframework.bean.graph.BeanDependencyGraph;
+import io.github.gdrfgdrf.cuteframework.bean.holder.AsyncBeanHolder;
+import io.github.gdrfgdrf.cuteframework.bean.holder.LazyBeanHolder;
+import io.github.gdrfgdrf.cuteframework.bean.holder.PooledBeanHolder;
+import io.github.gdrfgdrf.cuteframework.bean.holder.PrototypeBeanHolder;
+import io.github.gdrfgdrf.cuteframework.bean.holder.ThreadLocalBeanHolder;
+import io.github.gdrfgdrf.cuteframework.bean.inject.InjectionPlan;
+import io.github.gdrfgdrf.cuteframework.bean.inject.InjectionPoint;
+import io.github.gdrfgdrf.cuteframework.bean.holder.SingletonBeanHolder;
+import io.github.gdrfgdrf.cuteframework.bean.holder.base.BeanHolder;
+import io.github.gdrfgdrf.cuteframework.bean.index.ComponentIndex;
+import io.github.gdrfgdrf.cuteframework.bean.index.ComponentIndexEntry;
 import io.github.gdrfgdrf.cuteframework.bean.resolver.BeanMethodResolverManager;
 import io.github.gdrfgdrf.cuteframework.bean.resolver.clazz.BeanClassResolverManager;
 import io.github.gdrfgdrf.cuteframework.bean.resolver.clazz.annotation.BeanClassResolverAnnotation;
@@ -31,28 +55,41 @@ import io.github.gdrfgdrf.cuteframework.bean.resolver.clazz.exception.BeanClassR
 import io.github.gdrfgdrf.cuteframework.bean.resolver.method.annotation.BeanMethodResolverAnnotation;
 import io.github.gdrfgdrf.cuteframework.bean.resolver.method.base.BeanMethodResolver;
 import io.github.gdrfgdrf.cuteframework.bean.resolver.method.exception.BeanMethodResolverException;
+import io.github.gdrfgdrf.cuteframework.bean.snapshot.StartupSnapshot;
 import io.github.gdrfgdrf.cuteframework.classinjector.ClassInjector;
+import io.github.gdrfgdrf.cuteframework.config.ConfigManager;
+import io.github.gdrfgdrf.cuteframework.config.common.Config;
 import io.github.gdrfgdrf.cuteframework.event.EventManager;
 import io.github.gdrfgdrf.cuteframework.utils.ClassUtils;
 import io.github.gdrfgdrf.cuteframework.utils.StringUtils;
+import io.github.gdrfgdrf.cuteframework.utils.classfile.ClassMetadata;
+import io.github.gdrfgdrf.cuteframework.utils.classfile.ClassMetadataReader;
+import io.github.gdrfgdrf.cuteframework.utils.classfile.MetaAnnotationResolver;
+import io.github.gdrfgdrf.cuteframework.utils.scan.ClassScanner;
+import io.github.gdrfgdrf.cuteframework.utils.scan.ScanResultCache;
 import io.github.gdrfgdrf.cuteframework.utils.asserts.AssertUtils;
 import io.github.gdrfgdrf.cuteframework.utils.asserts.exception.AssertNotNullException;
 import io.github.gdrfgdrf.cuteframework.utils.stack.StackUtils;
 import io.github.gdrfgdrf.cuteframework.utils.stack.exception.StackIllegalArgumentException;
 import io.github.gdrfgdrf.cuteframework.utils.stack.exception.StackIllegalOperationException;
+import io.github.gdrfgdrf.cuteframework.utils.thread.ThreadPoolService;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.annotation.*;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 /**
  * Bean 管理器，对 Bean 进行创建，移除等操作
  * @author gdrfgdrf
  * @since v1_0_0_20240525_RELEASE
  */
+@Slf4j
 public class BeanManager {
     private static BeanManager INSTANCE;
 
@@ -62,9 +99,25 @@ public class BeanManager {
     @Getter
     private final Class<?> mainApplicationClass;
     /**
-     * Bean 名称到 Bean 实例的映射
+     * Bean 名称到 Bean 持有者的映射
      */
-    private final Map<String, Object> BEAN_MAP = new ConcurrentHashMap<>();
+    private final Map<String, BeanHolder> BEAN_MAP = new ConcurrentHashMap<>();
+    /**
+     * Bean 类自身及其所有父类和接口到 Bean 持有者的映射，
+     * 值为不可修改的列表，每次注册 Bean 时替换为新的列表，因此读取时无需加锁
+     */
+    private final Map<Class<?>, List<BeanHolder>> TYPE_INDEX = new ConcurrentHashMap<>();
+    /**
+     * Bean 名称到 Bean 编号的映射，编号从 0 开始连续分配，供 {@link BeanKey} 使用
+     */
+    private final Map<String, Integer> BEAN_ID_MAP = new ConcurrentHashMap<>();
+    /**
+     * 按照 Bean 编号存储的 Bean 持有者，容量不足时在 {@link BeanManager#BEAN_ID_LOCK} 下复制到更大的数组，
+     * 某个编号一旦出现在 {@link BeanManager#BEAN_ID_MAP} 中，该编号在之后的所有数组中都已存在
+     */
+    private volatile BeanHolder[] beanHolders = new BeanHolder[64];
+    private final Object BEAN_ID_LOCK = new Object();
+    private int nextBeanId;
 
     private BeanManager(Class<?> mainApplicationClass) throws StackIllegalOperationException, AssertNotNullException, StackIllegalArgumentException {
         StackUtils.onlyMethod(BeanManager.class, "initialize");
@@ -107,27 +160,349 @@ public class BeanManager {
     }
 
     /**
-     * 获取 Bean 实例
+     * 获取 Bean 实例，被 {@link Lazy} 注解的 Bean 将会在第一次获取时创建，
+     * 非单例的 Bean 按照 {@link Scope} 创建或复用实例
      * @param name
 	 *        Bean 名称
      * @return java.lang.Object
      *         Bean 实例
      * @throws AssertNotNullException
      *         当 name 为 null 时抛出
+     * @throws RuntimeException
+     *         当延迟创建的 Bean 创建失败时抛出，原因为 {@link BeanCreationException}，
+     *         需要直接处理 {@link BeanCreationException} 时使用 {@link BeanManager#obtainBean(String)}
+     * @throws IllegalStateException
+     *         当 Bean 为 {@link ScopeType#POOLED} 时抛出，需要使用 {@link BeanManager#borrowBean(String)}
      * @author gdrfgdrf
      * @since v1_0_0_20240525_RELEASE
      */
     public Object getBean(String name) throws AssertNotNullException {
+        try {
+            return obtainBean(name);
+        } catch (BeanCreationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 与 {@link BeanManager#getBean(String)} 相同，但 Bean 创建失败时直接抛出 {@link BeanCreationException}
+     * @param name
+	 *        Bean 名称
+     * @return java.lang.Object
+     *         Bean 实例，Bean 不存在时为 null
+     * @throws AssertNotNullException
+     *         当 name 为 null 时抛出
+     * @throws BeanCreationException
+     *         当延迟创建的 Bean 创建失败时抛出
+     * @throws IllegalStateException
+     *         当 Bean 为 {@link ScopeType#POOLED} 时抛出，需要使用 {@link BeanManager#borrowBean(String)}
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public Object obtainBean(String name) throws AssertNotNullException, BeanCreationException {
+        AssertUtils.notNull("bean name", name);
+        BeanHolder holder = BEAN_MAP.get(name);
+        if (holder == null) {
+            return null;
+        }
+        return holder.getBean();
+    }
+
+    /**
+     * 按类型获取 Bean 实例，Bean 类为该类型自身或其子类型即视为匹配
+     * @param type
+     *        类型
+     * @return T
+     *         Bean 实例，没有匹配的 Bean 时为 null
+     * @throws AssertNotNullException
+     *         当 type 为 null 时抛出
+     * @throws BeanNotUniqueException
+     *         当有多个 Bean 匹配时抛出
+     * @throws BeanCreationException
+     *         当延迟创建的 Bean 创建失败时抛出
+     * @throws IllegalStateException
+     *         当 Bean 为 {@link ScopeType#POOLED} 时抛出，需要使用 {@link BeanManager#borrowBean(String)}
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public <T> T getBean(Class<T> type) throws AssertNotNullException, BeanNotUniqueException, BeanCreationException {
+        AssertUtils.notNull("bean type", type);
+        List<BeanHolder> holders = TYPE_INDEX.getOrDefault(type, List.of());
+        if (holders.isEmpty()) {
+            return null;
+        }
+        if (holders.size() > 1) {
+            throw new BeanNotUniqueException(type, holders.stream()
+                    .<Class<?>>map(BeanHolder::getBeanClass)
+                    .toList());
+        }
+        return type.cast(holders.get(0).getBean());
+    }
+
+    /**
+     * 通过 Bean 名称解析 Bean 句柄，之后通过 {@link BeanKey#get()} 获取 Bean 实例时不再需要按照名称查找
+     * @param name
+     *        Bean 名称
+     * @return io.github.gdrfgdrf.cuteframework.bean.BeanKey<java.lang.Object>
+     *         Bean 句柄，Bean 不存在时为 null
+     * @throws AssertNotNullException
+     *         当 name 为 null 时抛出
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public BeanKey<Object> getBeanKey(String name) throws AssertNotNullException {
+        return getBeanKey(name, Object.class);
+    }
+
+    /**
+     * 通过 Bean 名称解析 Bean 句柄，并检查 Bean 类是否为指定的类型
+     * @param name
+     *        Bean 名称
+     * @param type
+     *        类型
+     * @return io.github.gdrfgdrf.cuteframework.bean.BeanKey<T>
+     *         Bean 句柄，Bean 不存在或 Bean 类不是该类型时为 null
+     * @throws AssertNotNullException
+     *         当 name 或 type 为 null 时抛出
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public <T> BeanKey<T> getBeanKey(String name, Class<T> type) throws AssertNotNullException {
+        AssertUtils.notNull("bean name", name);
+        AssertUtils.notNull("bean type", type);
+        Integer id = BEAN_ID_MAP.get(name);
+        if (id == null || !type.isAssignableFrom(getBeanHolder(id).getBeanClass())) {
+            return null;
+        }
+        return new BeanKey<>(this, id, name, type);
+    }
+
+    /**
+     * 通过类型解析 Bean 句柄，匹配规则与 {@link BeanManager#getBean(Class)} 相同
+     * @param type
+     *        类型
+     * @return io.github.gdrfgdrf.cuteframework.bean.BeanKey<T>
+     *         Bean 句柄，没有匹配的 Bean 时为 null
+     * @throws AssertNotNullException
+     *         当 type 为 null 时抛出
+     * @throws BeanNotUniqueException
+     *         当有多个 Bean 匹配时抛出
+     * @throws IllegalStateException
+     *         匹配的 Bean 没有 Bean 编号时抛出
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public <T> BeanKey<T> getBeanKey(Class<T> type) throws AssertNotNullException, BeanNotUniqueException {
+        AssertUtils.notNull("bean type", type);
+        List<BeanHolder> holders = TYPE_INDEX.getOrDefault(type, List.of());
+        if (holders.isEmpty()) {
+            return null;
+        }
+        if (holders.size() > 1) {
+            throw new BeanNotUniqueException(type, holders.stream()
+                    .<Class<?>>map(BeanHolder::getBeanClass)
+                    .toList());
+        }
+
+        String name = holders.get(0).getBeanName();
+        Integer id = BEAN_ID_MAP.get(name);
+        if (id == null) {
+            throw new IllegalStateException("The bean " + name + " of type " + type.getName() + " has no bean id");
+        }
+        return new BeanKey<>(this, id, name, type);
+    }
+
+    /**
+     * 获取所有 Bean 名称，顺序不固定
+     * @return java.util.Set<java.lang.String>
+     *         不可修改的 Bean 名称集合
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public Set<String> getBeanNames() {
+        return Collections.unmodifiableSet(BEAN_MAP.keySet());
+    }
+
+    /**
+     * 获取 Bean 持有者，不会创建 Bean 实例
+     * @param name
+     *        Bean 名称
+     * @return io.github.gdrfgdrf.cuteframework.bean.holder.base.BeanHolder
+     *         Bean 持有者，Bean 不存在时为 null
+     * @throws AssertNotNullException
+     *         当 name 为 null 时抛出
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public BeanHolder getBeanHolder(String name) throws AssertNotNullException {
         AssertUtils.notNull("bean name", name);
         return BEAN_MAP.get(name);
     }
 
+    /**
+     * 获取某个 Bean 所依赖的所有已注册的 Bean 名称，
+     * 包括 {@link Component#dependsOn()} 以及 {@link InjectionPlan} 中按名称或按类型注入的 Bean
+     * @param name
+     *        Bean 名称
+     * @return java.util.Set<java.lang.String>
+     *         依赖的 Bean 名称，Bean 不存在时为空
+     * @throws AssertNotNullException
+     *         当 name 为 null 时抛出
+     * @throws BeanInjectionException
+     *         Bean 类的注入声明不合法时抛出
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public Set<String> getDependencyNames(String name) throws AssertNotNullException, BeanInjectionException {
+        AssertUtils.notNull("bean name", name);
+        BeanHolder holder = BEAN_MAP.get(name);
+        if (holder == null) {
+            return Set.of();
+        }
+
+        Class<?> beanClass = holder.getBeanClass();
+        Set<String> dependencyNames = new LinkedHashSet<>();
+        Component component = beanClass.getAnnotation(Component.class);
+        if (component != null) {
+            dependencyNames.addAll(Arrays.asList(component.dependsOn()));
+        }
+        for (InjectionPoint injectionPoint : InjectionPlan.get(beanClass).getInjectionPoints()) {
+            if (injectionPoint.isByName()) {
+                dependencyNames.add(injectionPoint.name());
+                continue;
+            }
+            for (BeanHolder dependency : TYPE_INDEX.getOrDefault(injectionPoint.type(), List.of())) {
+                dependencyNames.add(dependency.getBeanName());
+            }
+        }
+
+        dependencyNames.remove(name);
+        dependencyNames.retainAll(BEAN_MAP.keySet());
+        return dependencyNames;
+    }
+
+    /**
+     * 按照 Bean 编号获取 Bean 持有者，仅供 {@link BeanKey} 使用
+     * @param id
+     *        Bean 编号
+     * @return io.github.gdrfgdrf.cuteframework.bean.holder.base.BeanHolder
+     *         Bean 持有者
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    BeanHolder getBeanHolder(int id) {
+        return beanHolders[id];
+    }
+
+    /**
+     * 按类型获取所有匹配的 Bean 实例，顺序与 Bean 的注册顺序一致
+     * @param type
+     *        类型
+     * @return java.util.List<T>
+     *         Bean 实例
+     * @throws AssertNotNullException
+     *         当 type 为 null 时抛出
+     * @throws BeanCreationException
+     *         当延迟创建的 Bean 创建失败时抛出
+     * @throws IllegalStateException
+     *         当匹配的 Bean 中存在 {@link ScopeType#POOLED} 的 Bean 时抛出
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public <T> List<T> getBeansOfType(Class<T> type) throws AssertNotNullException, BeanCreationException {
+        AssertUtils.notNull("bean type", type);
+        List<BeanHolder> holders = TYPE_INDEX.getOrDefault(type, List.of());
+
+        List<T> beans = new ArrayList<>(holders.size());
+        for (BeanHolder holder : holders) {
+            beans.add(type.cast(holder.getBean()));
+        }
+        return beans;
+    }
+
+    /**
+     * 异步获取 Bean 实例，被 {@link AsyncInit} 注解的 Bean 将在创建完成后完成返回的 {@link CompletableFuture}，
+     * 其余的 Bean 将直接获取，Bean 不存在时结果为 null
+     * @param name
+     *        Bean 名称
+     * @return java.util.concurrent.CompletableFuture<java.lang.Object>
+     *         Bean 实例，创建失败时以 {@link BeanCreationException} 异常完成，
+     *         Bean 为 {@link ScopeType#POOLED} 时以 {@link IllegalStateException} 异常完成
+     * @throws AssertNotNullException
+     *         当 name 为 null 时抛出
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public CompletableFuture<Object> getBeanAsync(String name) throws AssertNotNullException {
+        AssertUtils.notNull("bean name", name);
+        BeanHolder holder = BEAN_MAP.get(name);
+        if (holder == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (holder instanceof AsyncBeanHolder asyncBeanHolder) {
+            return asyncBeanHolder.getFuture();
+        }
+
+        try {
+            return CompletableFuture.completedFuture(holder.getBean());
+        } catch (BeanCreationException | IllegalStateException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 借出 Bean 实例，{@link ScopeType#POOLED} 的 Bean 只能通过该方法从对象池中借出，使用完毕后需要通过
+     * {@link BeanManager#returnBean(String, Object)} 归还，其余作用域与 {@link BeanManager#getBean(String)} 相同
+     * @param name
+     *        Bean 名称
+     * @return java.lang.Object
+     *         Bean 实例
+     * @throws AssertNotNullException
+     *         当 name 为 null 时抛出
+     * @throws BeanCreationException
+     *         当 Bean 创建失败时抛出
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public Object borrowBean(String name) throws AssertNotNullException, BeanCreationException {
+        AssertUtils.notNull("bean name", name);
+        BeanHolder holder = BEAN_MAP.get(name);
+        if (holder instanceof PooledBeanHolder pooledBeanHolder) {
+            return pooledBeanHolder.borrow();
+        }
+        return obtainBean(name);
+    }
+
+    /**
+     * 归还通过 {@link BeanManager#borrowBean(String)} 借出的 Bean 实例，
+     * 仅对 {@link ScopeType#POOLED} 的 Bean 有效，归还后调用者不应再使用该实例
+     * @param name
+     *        Bean 名称
+     * @param bean
+     *        Bean 实例
+     * @throws AssertNotNullException
+     *         当 name 或 bean 为 null 时抛出
+     * @throws IllegalArgumentException
+     *         对象池作用域的 Bean 实例不是由该 Bean 借出的，或已经被归还时抛出
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public void returnBean(String name, Object bean) throws AssertNotNullException {
+        AssertUtils.notNull("bean name", name);
+        AssertUtils.notNull("bean", bean);
+        BeanHolder holder = BEAN_MAP.get(name);
+        if (holder != null) {
+            holder.release(bean);
+        }
+    }
+
     /**
      * 开始 Bean 的创建流程，该方法仅允许 io.github.gdrfgdrf.cuteframework.CuteFramework 的 run 方法调用
      * 插件会被最先加载，但不最先加载插件的 Bean，
      * 最先创建核心 Bean，之后再创建 {@link BeanManager#mainApplicationClass} 下的 Bean，
      * 最后再由 {@link CuteFramework} 的 run 方法调用 {@link BeanManager#startCreatingPluginBeans()}
-     * 以创建插件的 Bean
+     * 以创建插件的 Bean，
+     * 被 {@link AsyncInit} 注解的 Bean 不会被等待，它们全部创建结束后将发布 {@link BeanEvent.LoadAll.AsyncPost}
      *
      * @throws StackIllegalOperationException
      *         当不被允许的类或方法调用该方法时抛出
@@ -144,16 +519,40 @@ public class BeanManager {
             InstantiationException,
             IllegalAccessException,
             BeanClassResolverException,
-            BeanMethodResolverException
+            BeanMethodResolverException,
+            BeanDependencyNotFoundException,
+            BeanCircularDependencyException,
+            BeanInjectionException,
+            BeanNotUniqueException,
+            BeanCreationException
     {
         StackUtils.onlyMethod("io.github.gdrfgdrf.cuteframework.CuteFramework", "run");
 
         EventManager.getInstance().post(new BeanEvent.LoadAll.Pre());
 
-        createCoreBeans();
-        createImplBeans();
+        String corePackage = "io.github.gdrfgdrf.cuteframework";
+        String implPackage = mainApplicationClass.getPackageName();
+        Map<String, Set<Class<?>>> components = findComponents(
+                BeanManager.class.getClassLoader(),
+                List.of(corePackage, implPackage)
+        );
+
+        createCoreBeans(components.get(corePackage));
+        createImplBeans(components.get(implPackage));
 
         EventManager.getInstance().post(new BeanEvent.LoadAll.Post());
+
+        CompletableFuture<?>[] asyncFutures = BEAN_MAP.values().stream()
+                .filter(holder -> holder instanceof AsyncBeanHolder)
+                .map(holder -> ((AsyncBeanHolder) holder).getFuture())
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(asyncFutures).whenComplete((result, throwable) -> {
+            try {
+                EventManager.getInstance().post(new BeanEvent.LoadAll.AsyncPost());
+            } catch (AssertNotNullException e) {
+                log.error("Unable to post the event of asynchronous beans", e);
+            }
+        });
     }
 
     /**
@@ -171,7 +570,12 @@ public class BeanManager {
             InvocationTargetException,
             NoSuchMethodException,
             InstantiationException,
-            IllegalAccessException
+            IllegalAccessException,
+            BeanDependencyNotFoundException,
+            BeanCircularDependencyException,
+            BeanInjectionException,
+            BeanNotUniqueException,
+            BeanCreationException
     {
         StackUtils.onlyMethod("io.github.gdrfgdrf.cuteframework.CuteFramework", "run");
 
@@ -183,31 +587,22 @@ public class BeanManager {
             String mainClassPackage = plugin.getClass().getPackageName();
             String mainClassLastPackage = mainClassPackage.substring(0, mainClassPackage.lastIndexOf("."));
 
-            Set<Class<?>> components = new LinkedHashSet<>();
-            ClassUtils.searchJar(
-                    classLoader,
-                    mainClassLastPackage,
-                    clazz -> !clazz.isAnnotation() && ClassUtils.hasAnnotation(clazz, Component.class),
-                    components
-            );
-            components = components.stream()
-                    .sorted(OrderComparator.getInstance())
-                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            Set<Class<?>> components = findComponents(classLoader, List.of(mainClassLastPackage)).get(mainClassLastPackage);
 
-            for (Class<?> component : components) {
-                create(component);
-            }
+            createBeans(components);
         }
     }
 
     /**
      * 创建核心 Bean，该方法仅允许 io.github.gdrfgdrf.cuteframework.bean.BeanManager 的 startCreating 方法调用
+     * @param components
+     *        已排序的核心 Bean 类
      * @throws StackIllegalOperationException
      *         当不被允许的类或方法调用该方法时抛出
      * @author gdrfgdrf
      * @since v1_0_0_20240525_RELEASE
      */
-    private void createCoreBeans() throws
+    private void createCoreBeans(Set<Class<?>> components) throws
             StackIllegalOperationException,
             StackIllegalArgumentException,
             AssertNotNullException,
@@ -217,35 +612,29 @@ public class BeanManager {
             InstantiationException,
             IllegalAccessException,
             BeanClassResolverException,
-            BeanMethodResolverException
+            BeanMethodResolverException,
+            BeanDependencyNotFoundException,
+            BeanCircularDependencyException,
+            BeanInjectionException,
+            BeanNotUniqueException,
+            BeanCreationException
     {
         StackUtils.onlyMethod("io.github.gdrfgdrf.cuteframework.bean.BeanManager", "startCreating");
 
-        Set<Class<?>> components = new LinkedHashSet<>();
-        ClassUtils.searchJar(
-                BeanManager.class.getClassLoader(),
-                "io.github.gdrfgdrf.cuteframework",
-                clazz -> !clazz.isAnnotation() && ClassUtils.hasAnnotation(clazz, Component.class),
-                components
-        );
-        components = components.stream()
-                .sorted(OrderComparator.getInstance())
-                .collect(Collectors.toCollection(LinkedHashSet::new));
-
-        for (Class<?> component : components) {
-            create(component);
-        }
+        createBeans(components);
     }
 
     /**
      * 创建 {@link BeanManager#mainApplicationClass} 下的 Bean，
      * 该方法仅允许 {@link BeanManager#startCreating()} 方法调用
+     * @param components
+     *        已排序的 {@link BeanManager#mainApplicationClass} 下的 Bean 类
      * @throws StackIllegalOperationException
      *         当不被允许的类或方法调用该方法时抛出
      * @author gdrfgdrf
      * @since v1_0_0_20240525_RELEASE
      */
-    private void createImplBeans() throws
+    private void createImplBeans(Set<Class<?>> components) throws
             StackIllegalOperationException,
             StackIllegalArgumentException,
             AssertNotNullException,
@@ -255,30 +644,260 @@ public class BeanManager {
             InstantiationException,
             IllegalAccessException,
             BeanClassResolverException,
-            BeanMethodResolverException
+            BeanMethodResolverException,
+            BeanDependencyNotFoundException,
+            BeanCircularDependencyException,
+            BeanInjectionException,
+            BeanNotUniqueException,
+            BeanCreationException
     {
         StackUtils.onlyMethod("io.github.gdrfgdrf.cuteframework.bean.BeanManager", "startCreating");
 
-        Set<Class<?>> components = new LinkedHashSet<>();
-        ClassUtils.searchJar(
-                BeanManager.class.getClassLoader(),
-                mainApplicationClass.getPackageName(),
-                clazz -> !clazz.isAnnotation() && ClassUtils.hasAnnotation(clazz, Component.class),
-                components
+        createBeans(components);
+    }
+
+    /**
+     * 创建同一批次的 Bean，由 {@link BeanDependencyGraph} 决定创建的先后关系，
+     * 当配置中启用了 parallelBeanCreation 时，互不依赖的 Bean 将会在
+     * {@link ThreadPoolService#getBeanExecutorService()} 中并行创建，否则按照拓扑排序串行创建，
+     * 每个 Bean 创建完成后都会立即被解析，之后创建的 Bean 所发布的事件与抛出的异常都能被它处理
+     *
+     * @param components
+     *        已排序的 Bean 类
+     * @throws BeanDependencyNotFoundException
+     *         依赖的 Bean 不存在
+     * @throws BeanCircularDependencyException
+     *         Bean 之间存在循环依赖
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private void createBeans(Set<Class<?>> components) throws
+            AssertNotNullException,
+            BeanNameConflictException,
+            NoSuchMethodException,
+            InvocationTargetException,
+            InstantiationException,
+            IllegalAccessException,
+            BeanClassResolverException,
+            BeanMethodResolverException,
+            BeanDependencyNotFoundException,
+            BeanCircularDependencyException,
+            BeanInjectionException,
+            BeanNotUniqueException,
+            BeanCreationException
+    {
+        BeanDependencyGraph graph = new BeanDependencyGraph(
+                new ArrayList<>(components),
+                this::getBeanName,
+                BEAN_MAP::containsKey
         );
-        components = components.stream()
-                .sorted(OrderComparator.getInstance())
-                .collect(Collectors.toCollection(LinkedHashSet::new));
 
-        for (Class<?> component : components) {
-            create(component);
+        Config config = ConfigManager.getInstance().getConfig();
+        try {
+            if (config != null && config.isParallelBeanCreation()) {
+                graph.executeParallel(ThreadPoolService.getBeanExecutorService(), this::create);
+            } else {
+                graph.executeSerially(this::create);
+            }
+        } catch (AssertNotNullException |
+                 BeanNameConflictException |
+                 NoSuchMethodException |
+                 InvocationTargetException |
+                 InstantiationException |
+                 IllegalAccessException |
+                 BeanClassResolverException |
+                 BeanMethodResolverException |
+                 BeanDependencyNotFoundException |
+                 BeanInjectionException |
+                 BeanNotUniqueException |
+                 BeanCreationException |
+                 RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 获取多个包下的所有 Bean 类，每个包的结果都按照 {@link OrderComparator} 的规则进行排序，
+     * 若某个包所在的每一个 jar 或类目录中都存在覆盖该包的 {@link ComponentIndex}，
+     * 则该包直接使用索引，其余的包通过 {@link ClassScanner} 读取 class 文件一次性扫描，
+     * 扫描结果会被 {@link ScanResultCache} 缓存，两种方式都只有 Bean 类会被加载且不会被初始化，
+     * 不满足 {@link ConditionEvaluator} 中条件的 Bean 类不会被加载，
+     * 启用 {@link StartupSnapshot} 且快照仍然有效时直接使用快照中的结果
+     *
+     * @param classLoader
+     *        类加载器
+     * @param packageNames
+     *        包名
+     * @return java.util.Map<java.lang.String, java.util.Set<java.lang.Class<?>>>
+     *         包名到排序后的 Bean 类的映射
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private Map<String, Set<Class<?>>> findComponents(ClassLoader classLoader, List<String> packageNames) {
+        boolean snapshotEnabled = StartupSnapshot.isEnabled();
+        if (snapshotEnabled) {
+            Map<String, Set<Class<?>>> replayed = StartupSnapshot.getInstance().replayComponents(classLoader, packageNames);
+            if (replayed != null) {
+                return replayed;
+            }
+        }
+
+        Map<String, Set<Class<?>>> result = new LinkedHashMap<>();
+        List<String> scanPackageNames = new ArrayList<>();
+        ConditionEvaluator conditionEvaluator = new ConditionEvaluator(classLoader);
+
+        for (String packageName : packageNames) {
+            Set<Class<?>> components = findIndexedComponents(classLoader, packageName, conditionEvaluator);
+            if (components != null) {
+                result.put(packageName, components);
+            } else {
+                scanPackageNames.add(packageName);
+            }
+        }
+
+        if (!scanPackageNames.isEmpty()) {
+            scanComponents(classLoader, scanPackageNames, conditionEvaluator).forEach((packageName, components) ->
+                    result.put(packageName, new LinkedHashSet<>(OrderComparator.sort(components))));
+        }
+
+        if (snapshotEnabled) {
+            StartupSnapshot.getInstance().recordComponents(
+                    classLoader,
+                    packageNames,
+                    result,
+                    conditionEvaluator.getClassConditions()
+            );
+        }
+        return result;
+    }
+
+    /**
+     * 通过 {@link ComponentIndex} 获取某个包下的所有满足条件的 Bean 类，并按照 {@link OrderComparator} 的规则进行排序
+     * @param classLoader
+     *        类加载器
+     * @param packageName
+     *        包名
+     * @param conditionEvaluator
+     *        条件判断器
+     * @return java.util.Set<java.lang.Class<?>>
+     *         排序后的 Bean 类，索引不完整或已过期时返回 null
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private Set<Class<?>> findIndexedComponents(
+            ClassLoader classLoader,
+            String packageName,
+            ConditionEvaluator conditionEvaluator
+    ) {
+        List<ComponentIndexEntry> entries = ComponentIndex.find(classLoader, packageName);
+        if (entries == null) {
+            return null;
+        }
+
+        try {
+            Set<Class<?>> components = new LinkedHashSet<>();
+            for (ComponentIndexEntry entry : entries.stream().sorted(ComponentIndex.ORDER_COMPARATOR).toList()) {
+                if (conditionEvaluator.matches(entry)) {
+                    components.add(Class.forName(entry.getClassName(), false, classLoader));
+                }
+            }
+            return components;
+        } catch (ClassNotFoundException | LinkageError e) {
+            log.warn("The component index of package " + packageName + " is out of date, fall back to scanning", e);
+            return null;
+        }
+    }
+
+    /**
+     * 通过 {@link ClassScanner} 扫描多个包下的所有满足条件的 Bean 类，
+     * 扫描时读取到的 class 文件信息将直接用于判断条件，
+     * 扫描结果来自 {@link ScanResultCache} 时只重新读取 Bean 类的 class 文件
+     *
+     * @param classLoader
+     *        类加载器
+     * @param packageNames
+     *        包名
+     * @param conditionEvaluator
+     *        条件判断器
+     * @return java.util.Map<java.lang.String, java.util.List<java.lang.Class<?>>>
+     *         包名到 Bean 类的映射
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private Map<String, List<Class<?>>> scanComponents(
+            ClassLoader classLoader,
+            List<String> packageNames,
+            ConditionEvaluator conditionEvaluator
+    ) {
+        MetaAnnotationResolver metaAnnotationResolver = MetaAnnotationResolver.getInstance(classLoader);
+        Map<String, ClassMetadata> scannedMetadata = new ConcurrentHashMap<>();
+
+        try {
+            Map<String, List<String>> classNames = ClassScanner.scan(
+                    classLoader,
+                    packageNames,
+                    metadata -> {
+                        boolean component = !metadata.isAnnotation() &&
+                                metaAnnotationResolver.hasAnnotation(metadata, Component.class.getName());
+                        if (component) {
+                            scannedMetadata.put(metadata.getClassName(), metadata);
+                        }
+                        return component;
+                    },
+                    Component.class.getName(),
+                    metaAnnotationResolver::getSourceFiles
+            );
+
+            Map<String, List<Class<?>>> result = new LinkedHashMap<>();
+            for (Map.Entry<String, List<String>> entry : classNames.entrySet()) {
+                List<Class<?>> components = new ArrayList<>();
+                for (String className : entry.getValue()) {
+                    ClassMetadata metadata = scannedMetadata.get(className);
+                    if (metadata == null) {
+                        metadata = readMetadata(classLoader, className);
+                    }
+
+                    if (metadata != null) {
+                        if (conditionEvaluator.matches(metadata)) {
+                            components.add(Class.forName(className, false, classLoader));
+                        }
+                        continue;
+                    }
+
+                    Class<?> clazz = Class.forName(className, false, classLoader);
+                    if (conditionEvaluator.matches(clazz)) {
+                        components.add(clazz);
+                    }
+                }
+                result.put(entry.getKey(), components);
+            }
+            return result;
+        } catch (IOException | ClassNotFoundException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private ClassMetadata readMetadata(ClassLoader classLoader, String className) {
+        try (InputStream inputStream = classLoader.getResourceAsStream(className.replace('.', '/') + ".class")) {
+            if (inputStream == null) {
+                return null;
+            }
+            return ClassMetadataReader.read(inputStream);
+        } catch (IOException e) {
+            return null;
         }
     }
 
     /**
      * 创建 Bean，并调用对应的 {@link BeanMethodResolver}
      * 若 Bean 名称在 {@link BeanManager#BEAN_MAP} 中存在，则直接抛出 {@link BeanNameConflictException}，
-     * 若 Bean 类型为 {@link BeanMethodResolver}，则跳过调用解析器并注册到 {@link BeanMethodResolverManager}
+     * 若 Bean 类型为 {@link BeanMethodResolver}，则跳过调用解析器并注册到 {@link BeanMethodResolverManager}，
+     * 若 Bean 类被 {@link Lazy} 注解，则只注册 Bean 名称，Bean 实例由 {@link LazyBeanHolder} 在第一次获取时创建
      *
      * @param beanClass
 	 *        Bean 类
@@ -309,26 +928,288 @@ public class BeanManager {
             InstantiationException,
             IllegalAccessException,
             BeanClassResolverException,
-            BeanMethodResolverException
+            BeanMethodResolverException,
+            BeanDependencyNotFoundException,
+            BeanInjectionException,
+            BeanNotUniqueException,
+            BeanCreationException
     {
         AssertUtils.notNull("bean class", beanClass);
 
-        String name = beanClass.getSimpleName();
+        String name = getBeanName(beanClass);
+        if (BEAN_MAP.containsKey(name)) {
+            throw new BeanNameConflictException(beanClass);
+        }
+
+        Scope scope = getScope(beanClass);
+        if (scope != null && scope.value() != ScopeType.SINGLETON) {
+            register(name, switch (scope.value()) {
+                case THREAD -> new ThreadLocalBeanHolder(name, beanClass, this::createScoped);
+                case POOLED -> new PooledBeanHolder(name, beanClass, this::createScoped, scope.poolSize());
+                default -> new PrototypeBeanHolder(name, beanClass, this::createScoped);
+            });
+            return;
+        }
+        if (isLazy(beanClass)) {
+            register(name, new LazyBeanHolder(name, beanClass, this::createDeferred));
+            return;
+        }
+        if (isAsync(beanClass)) {
+            AsyncBeanHolder holder = new AsyncBeanHolder(name, beanClass, this::createDeferred);
+            register(name, holder);
+            holder.start(ThreadPoolService.getAsyncBeanExecutorService());
+            holder.getFuture().whenComplete((bean, throwable) -> {
+                if (throwable != null) {
+                    log.error("Unable to create the asynchronous bean " + name, throwable);
+                }
+            });
+            return;
+        }
+
+        EventManager.getInstance().post(new BeanEvent.Load.Pre(null, name));
+
+        Object obj = instantiate(beanClass, true);
+        register(name, new SingletonBeanHolder(name, beanClass, obj));
+
+        resolve(obj, name);
+    }
+
+    /**
+     * 注册 Bean 持有者到 {@link BeanManager#BEAN_MAP}，并按照 Bean 类的所有父类型加入 {@link BeanManager#TYPE_INDEX}，
+     * 同时为其分配 Bean 编号
+     * @param name
+     *        Bean 名称
+     * @param holder
+     *        Bean 持有者
+     * @throws BeanNameConflictException
+     *         已经有了一个同名的 Bean 存在时抛出
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private void register(String name, BeanHolder holder) throws BeanNameConflictException {
+        synchronized (BEAN_ID_LOCK) {
+            if (BEAN_MAP.putIfAbsent(name, holder) != null) {
+                throw new BeanNameConflictException(holder.getBeanClass());
+            }
+
+            int id = nextBeanId++;
+            BeanHolder[] holders = beanHolders;
+            if (id == holders.length) {
+                holders = Arrays.copyOf(holders, holders.length * 2);
+            }
+            holders[id] = holder;
+            beanHolders = holders;
+            BEAN_ID_MAP.put(name, id);
+        }
+
+        for (Class<?> type : ClassUtils.getSuperTypes(holder.getBeanClass())) {
+            TYPE_INDEX.compute(type, (key, holders) -> {
+                if (holders == null) {
+                    return List.of(holder);
+                }
+                List<BeanHolder> result = new ArrayList<>(holders.size() + 1);
+                result.addAll(holders);
+                result.add(holder);
+                return Collections.unmodifiableList(result);
+            });
+        }
+    }
+
+    /**
+     * 创建被 {@link Lazy} 或 {@link AsyncInit} 注解的 Bean 实例，
+     * 由 {@link LazyBeanHolder} 在第一次获取时调用或由 {@link AsyncBeanHolder} 在线程池中调用，
+     * {@link Component#dependsOn()} 中的 Bean 将会先被获取，
+     * 与 {@link BeanManager#create(Class)} 不同，Bean 实例在解析完成后才会被其他线程获取到
+     *
+     * @param name
+     *        Bean 名称
+     * @param beanClass
+     *        Bean 类
+     * @return java.lang.Object
+     *         Bean 实例
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private Object createDeferred(String name, Class<?> beanClass) throws Exception {
         Component component = beanClass.getAnnotation(Component.class);
         if (component != null) {
-            if (!StringUtils.isBlank(component.name())) {
-                name = component.name();
+            for (String dependencyName : component.dependsOn()) {
+                getBean(dependencyName);
             }
         }
-        if (BEAN_MAP.containsKey(name)) {
-            throw new BeanNameConflictException(beanClass);
-        }
 
         EventManager.getInstance().post(new BeanEvent.Load.Pre(null, name));
 
-        Object obj = ClassInjector.getInstance().createInstance(beanClass);
-        BEAN_MAP.put(name, obj);
+        Object obj = instantiate(beanClass, false);
+        resolve(obj, name);
 
+        return obj;
+    }
+
+    /**
+     * 创建非单例作用域的 Bean 实例，只注入依赖，不调用解析器，也不发布 {@link BeanEvent.Load}
+     * @param name
+     *        Bean 名称
+     * @param beanClass
+     *        Bean 类
+     * @return java.lang.Object
+     *         Bean 实例
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private Object createScoped(String name, Class<?> beanClass) throws Exception {
+        return instantiate(beanClass, false);
+    }
+
+    /**
+     * 按照 {@link InjectionPlan} 创建 Bean 实例并注入字段，
+     * 需要构造函数注入时由 {@link ClassInjector} 使用该构造函数创建，
+     * 否则若 Bean 类没有注册类注入器且存在编译时生成的 {@link BeanFactory}，
+     * 则直接使用 {@link BeanFactory} 创建，否则交给 {@link ClassInjector}
+     *
+     * @param beanClass
+     *        Bean 类
+     * @param eager
+     *        是否在 Bean 创建流程中立即创建，此时不能注入被 {@link AsyncInit} 注解的 Bean
+     * @return java.lang.Object
+     *         Bean 实例
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private Object instantiate(Class<?> beanClass, boolean eager) throws
+            AssertNotNullException,
+            NoSuchMethodException,
+            InvocationTargetException,
+            InstantiationException,
+            IllegalAccessException,
+            BeanInjectionException,
+            BeanDependencyNotFoundException,
+            BeanNotUniqueException,
+            BeanCreationException
+    {
+        InjectionPlan plan = InjectionPlan.get(beanClass);
+
+        Object obj = null;
+        if (plan.hasConstructorInjection()) {
+            obj = ClassInjector.getInstance().createInstance(
+                    beanClass,
+                    plan.getConstructorParameterTypes(),
+                    resolveDependencies(beanClass, plan.getConstructorInjectionPoints(), eager)
+            );
+        } else if (!ClassInjector.getInstance().hasInjector(beanClass)) {
+            BeanFactory factory = BeanFactoryManager.getInstance().getFactory(beanClass);
+            if (factory != null) {
+                try {
+                    obj = factory.create();
+                } catch (Exception e) {
+                    throw new InvocationTargetException(e);
+                }
+            }
+        }
+        if (obj == null) {
+            obj = ClassInjector.getInstance().createInstance(beanClass);
+        }
+
+        if (!plan.getFieldInjectionPoints().isEmpty()) {
+            plan.injectFields(obj, resolveDependencies(beanClass, plan.getFieldInjectionPoints(), eager));
+        }
+        return obj;
+    }
+
+    /**
+     * 获取注入点需要的 Bean，有名称时按照名称获取，否则按照类型获取
+     * @param beanClass
+     *        需要注入的 Bean 类
+     * @param injectionPoints
+     *        注入点
+     * @param eager
+     *        需要注入的 Bean 是否在 Bean 创建流程中立即创建
+     * @return java.lang.Object[]
+     *         与注入点一一对应的 Bean 实例
+     * @throws BeanDependencyNotFoundException
+     *         找不到注入点需要的 Bean 时抛出
+     * @throws BeanInjectionException
+     *         按照名称找到的 Bean 与注入点的类型不符，或注入点需要的 Bean 为 {@link ScopeType#POOLED} 时抛出，
+     *         对象池作用域的 Bean 注入后不会被归还，只能通过 {@link BeanManager#borrowBean(String)} 借出，
+     *         立即创建的 Bean 需要注入被 {@link AsyncInit} 注解的 Bean 时同样抛出，以免 Bean 创建流程阻塞等待异步创建
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private Object[] resolveDependencies(
+            Class<?> beanClass,
+            List<InjectionPoint> injectionPoints,
+            boolean eager
+    ) throws
+            AssertNotNullException,
+            BeanDependencyNotFoundException,
+            BeanInjectionException,
+            BeanNotUniqueException,
+            BeanCreationException
+    {
+        Object[] dependencies = new Object[injectionPoints.size()];
+        for (int i = 0; i < dependencies.length; i++) {
+            InjectionPoint injectionPoint = injectionPoints.get(i);
+            BeanHolder holder = findHolder(injectionPoint);
+            if (holder instanceof PooledBeanHolder) {
+                throw new BeanInjectionException(
+                        beanClass,
+                        injectionPoint.target(),
+                        "the bean " + holder.getBeanName() + " is POOLED and can only be obtained through BeanManager#borrowBean"
+                );
+            }
+            if (eager && holder instanceof AsyncBeanHolder) {
+                throw new BeanInjectionException(
+                        beanClass,
+                        injectionPoint.target(),
+                        "the bean " + holder.getBeanName() + " is annotated with @AsyncInit and cannot be injected into " +
+                                "a bean created eagerly, annotate the dependent bean with @AsyncInit or @Lazy, " +
+                                "or obtain it through BeanManager#getBeanAsync"
+                );
+            }
+
+            Object dependency = injectionPoint.isByName() ?
+                    getBean(injectionPoint.name()) :
+                    getBean(injectionPoint.type());
+            if (dependency == null) {
+                throw new BeanDependencyNotFoundException(
+                        beanClass,
+                        injectionPoint.isByName() ? injectionPoint.name() : injectionPoint.type().getName()
+                );
+            }
+            if (!injectionPoint.type().isInstance(dependency)) {
+                throw new BeanInjectionException(
+                        beanClass,
+                        injectionPoint.target(),
+                        "the bean " + injectionPoint.name() + " is not an instance of " + injectionPoint.type().getName()
+                );
+            }
+            dependencies[i] = dependency;
+        }
+        return dependencies;
+    }
+
+    private BeanHolder findHolder(InjectionPoint injectionPoint) {
+        if (injectionPoint.isByName()) {
+            return BEAN_MAP.get(injectionPoint.name());
+        }
+        List<BeanHolder> holders = TYPE_INDEX.getOrDefault(injectionPoint.type(), List.of());
+        return holders.size() == 1 ? holders.get(0) : null;
+    }
+
+    /**
+     * 调用 Bean 对应的解析器，若 Bean 本身是解析器则进行注册，完成后发布 {@link BeanEvent.Load.Post}
+     * @param obj
+     *        Bean 实例
+     * @param name
+     *        Bean 名称
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private void resolve(Object obj, String name) throws
+            AssertNotNullException,
+            BeanClassResolverException,
+            BeanMethodResolverException
+    {
         if (!(obj instanceof BeanMethodResolver) && !(obj instanceof BeanClassResolver)) {
             BeanClassResolverManager.getInstance().resolve(obj);
             BeanMethodResolverManager.getInstance().resolve(obj);
@@ -344,6 +1225,69 @@ public class BeanManager {
         EventManager.getInstance().post(new BeanEvent.Load.Post(obj, name));
     }
 
+    /**
+     * 获取 Bean 类的 {@link Scope}，Bean 类解析器与 Bean 方法解析器始终为单例
+     * @param beanClass
+     *        Bean 类
+     * @return io.github.gdrfgdrf.cuteframework.bean.annotation.Scope
+     *         作用域注解，单例时可能为 null
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private Scope getScope(Class<?> beanClass) {
+        if (isResolver(beanClass)) {
+            return null;
+        }
+        return ClassUtils.getAnnotation(beanClass, Scope.class);
+    }
+
+    /**
+     * Bean 类是否需要延迟创建，Bean 类解析器与 Bean 方法解析器始终立即创建
+     * @param beanClass
+     *        Bean 类
+     * @return boolean
+     *         是否需要延迟创建
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private boolean isLazy(Class<?> beanClass) {
+        return ClassUtils.hasAnnotation(beanClass, Lazy.class) && !isResolver(beanClass);
+    }
+
+    /**
+     * Bean 类是否需要异步创建，Bean 类解析器与 Bean 方法解析器始终同步创建
+     * @param beanClass
+     *        Bean 类
+     * @return boolean
+     *         是否需要异步创建
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private boolean isAsync(Class<?> beanClass) {
+        return ClassUtils.hasAnnotation(beanClass, AsyncInit.class) && !isResolver(beanClass);
+    }
+
+    private boolean isResolver(Class<?> beanClass) {
+        return BeanMethodResolver.class.isAssignableFrom(beanClass) || BeanClassResolver.class.isAssignableFrom(beanClass);
+    }
+
+    /**
+     * 获取 Bean 名称，{@link Component#name()} 为空时使用类名
+     * @param beanClass
+     *        Bean 类
+     * @return java.lang.String
+     *         Bean 名称
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private String getBeanName(Class<?> beanClass) {
+        Component component = beanClass.getAnnotation(Component.class);
+        if (component != null && !StringUtils.isBlank(component.name())) {
+            return component.name();
+        }
+        return beanClass.getSimpleName();
+    }
+
     /**
      * 注册 Bean 类解析器到 {@link BeanClassResolverManager}
      * @param resolver
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.bean.annotation;
+
+import io.github.gdrfgdrf.cuteframework.bean.BeanManager;
+import io.github.gdrfgdrf.cuteframework.bean.event.BeanEvent;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 被注解的 Bean 类将会在后台线程池中创建，Bean 创建流程不会等待它们创建完成，
+ * {@link BeanEvent.LoadAll.Post} 只表示其余的 Bean 已经创建完成，
+ * 可以通过 {@link BeanManager#getBeanAsync(String)} 获取创建结果，
+ * 通过 {@link BeanManager#getBean(String)} 获取时将会阻塞直到创建完成，
+ * Bean 类解析器与 Bean 方法解析器本身不能异步创建，该注解对它们无效
+ * <p>
+ * 被注解的 Bean 不能通过 {@link Inject} 注入到在 Bean 创建流程中立即创建的单例 Bean 中，
+ * 否则 Bean 创建流程将会阻塞等待异步创建完成，此时将抛出 BeanInjectionException，
+ * 依赖它的 Bean 需要同样被该注解或 {@link Lazy} 注解，或者通过 {@link BeanManager#getBeanAsync(String)} 获取它，
+ * 非单例作用域的 Bean 在获取时才创建，可以注入被注解的 Bean，但创建完成前获取它们同样会阻塞
+ *
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+@Target(value = ElementType.TYPE)
+@Retention(value = RetentionPolicy.RUNTIME)
+public @interface AsyncInit {
+}
@@ -36,4 +36,14 @@ public @interface Component {
      * @since v1_0_0_20240525_RELEASE
      */
     String name() default "";
+
+    /**
+     * 定义该 Bean 依赖的其他 Bean 的名称，这些 Bean 一定会在该 Bean 之前创建，
+     * 依赖的 Bean 必须已经存在或者与该 Bean 在同一批次中创建
+     * @return java.lang.String[]
+     *         依赖的 Bean 名称
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    String[] dependsOn() default {};
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.bean.annotation;
+
+import io.github.gdrfgdrf.cuteframework.bean.BeanManager;
+
+import java.lang.annotation.*;
+
+/**
+ * 标记需要由 {@link BeanManager} 注入的字段或构造函数，
+ * 注解在字段上时，Bean 实例创建完成后将会被注入对应的 Bean，字段不能为 static 或 final，
+ * 注解在构造函数上时，将使用该构造函数创建 Bean 实例，每个参数都会被注入对应的 Bean，
+ * Bean 类注册了类注入器时该注解在构造函数上无效，实例仍由类注入器创建，
+ * 注解在构造函数参数上时，可以为该参数指定 Bean 名称
+ *
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+@Target(value = {ElementType.FIELD, ElementType.CONSTRUCTOR, ElementType.PARAMETER})
+@Retention(value = RetentionPolicy.RUNTIME)
+public @interface Inject {
+    /**
+     * 需要注入的 Bean 名称，为空则按照类型注入，注解在构造函数上时无效
+     * @return java.lang.String
+     *         Bean 名称
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    String name() default "";
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.bean.annotation;
+
+import io.github.gdrfgdrf.cuteframework.lifecycle.ShutdownCoordinator;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 被注解的方法将会在程序关闭时由 {@link ShutdownCoordinator} 调用，方法不能有参数且不能是静态方法，
+ * 依赖于该 Bean 的 Bean 的方法总是先被调用，
+ * 只有已经创建的单例 Bean 会被调用，非单例作用域的 Bean 实例由使用者自行管理
+ *
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+@Target(value = ElementType.METHOD)
+@Retention(value = RetentionPolicy.RUNTIME)
+public @interface PreDestroy {
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.bean.annotation;
+
+import io.github.gdrfgdrf.cuteframework.bean.BeanManager;
+import io.github.gdrfgdrf.cuteframework.bean.enums.ScopeType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 定义 Bean 的作用域，没有该注解的 Bean 为 {@link ScopeType#SINGLETON}，
+ * 非单例的 Bean 在 Bean 创建流程中只会注册 Bean 名称，实例在获取时由 {@link BeanManager} 创建并注入依赖，
+ * 但不会交给 Bean 类解析器与 Bean 方法解析器处理，因为它们注册的事件监听器等只能绑定到单个实例，
+ * Bean 类解析器与 Bean 方法解析器本身只能是单例，该注解对它们无效
+ *
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+@Target(value = ElementType.TYPE)
+@Retention(value = RetentionPolicy.RUNTIME)
+public @interface Scope {
+    /**
+     * 定义作用域
+     * @return io.github.gdrfgdrf.cuteframework.bean.enums.ScopeType
+     *         作用域
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    ScopeType value();
+
+    /**
+     * 定义 {@link ScopeType#POOLED} 的对象池最多保留的空闲实例数量，小于等于 0 时为处理器数量的两倍
+     * @return int
+     *         对象池容量
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    int poolSize() default 0;
+}
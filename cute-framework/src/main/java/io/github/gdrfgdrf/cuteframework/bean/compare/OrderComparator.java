@@ -19,7 +19,7 @@ package io.github.gdrfgdrf.cuteframework.bean.compare;
 import io.github.gdrfgdrf.cuteframework.bean.annotation.Order;
 import io.github.gdrfgdrf.cuteframework.utils.ClassUtils;
 
-import java.util.Comparator;
+import java.util.*;
 
 /**
  * 分析所有 Bean 类的 {@link Order} 注解并进行排序以开始创建 Bean，
@@ -30,6 +30,14 @@ import java.util.Comparator;
 public class OrderComparator implements Comparator<Class<?>> {
     private static OrderComparator INSTANCE;
 
+    private static final ClassValue<Long> ORDER_KEY_CACHE = new ClassValue<>() {
+        @Override
+        protected Long computeValue(Class<?> type) {
+            Order order = ClassUtils.getAnnotation(type, Order.class);
+            return toOrderKey(order == null ? null : order.value());
+        }
+    };
+
     private OrderComparator() {}
 
     /**
@@ -46,27 +54,65 @@ public class OrderComparator implements Comparator<Class<?>> {
         return INSTANCE;
     }
 
-    @Override
-    public int compare(Class<?> o1, Class<?> o2) {
-        if (o1 == o2) {
-            return 0;
-        }
+    /**
+     * 获取排序键，拥有 {@link Order} 注解的类为其值，没有的类为 {@link Long#MAX_VALUE}，
+     * 排序键在每个类上只会计算一次
+     * @param clazz
+     *        类
+     * @return long
+     *         排序键
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public static long getOrderKey(Class<?> clazz) {
+        return ORDER_KEY_CACHE.get(clazz);
+    }
 
-        Order order1 = ClassUtils.getAnnotation(o1, Order.class);
-        Order order2 = ClassUtils.getAnnotation(o2, Order.class);
+    /**
+     * 由 {@link Order} 的值得到排序键，没有值时为 {@link Long#MAX_VALUE}，
+     * 供不持有类对象的排序使用，例如 ComponentIndex 中的记录
+     * @param order
+     *        {@link Order} 的值，可以为 null
+     * @return long
+     *         排序键
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public static long toOrderKey(Integer order) {
+        return order == null ? Long.MAX_VALUE : order;
+    }
 
-        if (order1 == null && order2 != null) {
-            return 1;
+    /**
+     * 按照预先计算好的排序键进行稳定排序，排序过程中不会再解析注解
+     * @param classes
+     *        需要排序的类
+     * @return java.util.List<java.lang.Class<?>>
+     *         排序后的类
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public static List<Class<?>> sort(Collection<Class<?>> classes) {
+        long[] keys = new long[classes.size()];
+        Class<?>[] array = classes.toArray(new Class<?>[0]);
+        Integer[] indexes = new Integer[array.length];
+        for (int i = 0; i < array.length; i++) {
+            keys[i] = getOrderKey(array[i]);
+            indexes[i] = i;
         }
-        if (order1 != null && order2 == null) {
-            return -1;
+        Arrays.sort(indexes, (index1, index2) -> Long.compare(keys[index1], keys[index2]));
+
+        List<Class<?>> result = new ArrayList<>(array.length);
+        for (Integer index : indexes) {
+            result.add(array[index]);
         }
-        if (order1 == null) {
+        return result;
+    }
+
+    @Override
+    public int compare(Class<?> o1, Class<?> o2) {
+        if (o1 == o2) {
             return 0;
         }
-
-        int orderValue1 = order1.value();
-        int orderValue2 = order2.value();
-        return Integer.compare(orderValue1, orderValue2);
+        return Long.compare(getOrderKey(o1), getOrderKey(o2));
     }
 }
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.bean.condition;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.gdrfgdrf.cuteframework.api.PluginManager;
+import io.github.gdrfgdrf.cuteframework.bean.condition.annotation.ConditionalOnClass;
+import io.github.gdrfgdrf.cuteframework.bean.condition.annotation.ConditionalOnConfig;
+import io.github.gdrfgdrf.cuteframework.bean.condition.annotation.ConditionalOnPlugin;
+import io.github.gdrfgdrf.cuteframework.bean.index.ComponentIndexEntry;
+import io.github.gdrfgdrf.cuteframework.bean.snapshot.StartupSnapshot;
+import io.github.gdrfgdrf.cuteframework.config.ConfigManager;
+import io.github.gdrfgdrf.cuteframework.config.common.Config;
+import io.github.gdrfgdrf.cuteframework.utils.StringUtils;
+import io.github.gdrfgdrf.cuteframework.utils.classfile.ClassMetadata;
+import io.github.gdrfgdrf.cuteframework.utils.jackson.JacksonUtils;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bean 类条件判断器，判断 {@link ConditionalOnConfig}、{@link ConditionalOnClass}、{@link ConditionalOnPlugin}
+ * 是否全部满足，条件可以来自 Bean 类索引的记录、class 文件或已加载的类，前两种方式不需要加载 Bean 类，
+ * 只判断 Bean 类上直接存在的条件注解，同一个判断器只会读取一次配置
+ *
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+public class ConditionEvaluator {
+    /**
+     * Bean 类索引中条件属性的名称
+     */
+    public static final String ON_CONFIG_ATTRIBUTE = "onConfig";
+    public static final String ON_CONFIG_VALUE_ATTRIBUTE = "onConfigValue";
+    public static final String ON_CONFIG_MATCH_IF_MISSING_ATTRIBUTE = "onConfigMatchIfMissing";
+    public static final String ON_CLASS_ATTRIBUTE = "onClass";
+    public static final String ON_PLUGIN_ATTRIBUTE = "onPlugin";
+
+    /**
+     * Bean 类所在的类加载器，用于判断 {@link ConditionalOnClass}
+     */
+    private final ClassLoader classLoader;
+    /**
+     * 判断 {@link ConditionalOnClass} 时检查过的类名到其是否存在的映射，
+     * 即该判断器的判断结果所依赖的类路径，由 {@link StartupSnapshot} 记录并在重放前重新检查
+     */
+    private final Map<String, Boolean> classConditions = new ConcurrentHashMap<>();
+    /**
+     * {@link Config} 转换后的 Json 树，第一次需要时才转换
+     */
+    private JsonNode configTree;
+
+    public ConditionEvaluator(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * 通过 Bean 类索引的记录判断条件
+     * @param entry
+     *        Bean 类索引的记录
+     * @return boolean
+     *         条件是否全部满足
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public boolean matches(ComponentIndexEntry entry) {
+        Map<String, String> attributes = entry.getAttributes();
+        return matchesConfig(
+                attributes.get(ON_CONFIG_ATTRIBUTE),
+                attributes.getOrDefault(ON_CONFIG_VALUE_ATTRIBUTE, ""),
+                Boolean.parseBoolean(attributes.get(ON_CONFIG_MATCH_IF_MISSING_ATTRIBUTE))
+        ) &&
+                matchesClasses(split(attributes.get(ON_CLASS_ATTRIBUTE))) &&
+                matchesPlugins(split(attributes.get(ON_PLUGIN_ATTRIBUTE)));
+    }
+
+    /**
+     * 通过 class 文件中的注解判断条件
+     * @param metadata
+     *        Bean 类的 class 文件信息
+     * @return boolean
+     *         条件是否全部满足
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public boolean matches(ClassMetadata metadata) {
+        Map<String, Object> onConfig = metadata.getAnnotationAttributes(ConditionalOnConfig.class.getName());
+        if (onConfig != null && !matchesConfig(
+                (String) onConfig.get("key"),
+                (String) onConfig.getOrDefault("havingValue", ""),
+                Boolean.TRUE.equals(onConfig.get("matchIfMissing"))
+        )) {
+            return false;
+        }
+
+        Map<String, Object> onClass = metadata.getAnnotationAttributes(ConditionalOnClass.class.getName());
+        if (onClass != null && !matchesClasses(toStrings(onClass.get("value")))) {
+            return false;
+        }
+
+        Map<String, Object> onPlugin = metadata.getAnnotationAttributes(ConditionalOnPlugin.class.getName());
+        return onPlugin == null || matchesPlugins(toStrings(onPlugin.get("value")));
+    }
+
+    /**
+     * 通过已加载的类判断条件
+     * @param clazz
+     *        Bean 类
+     * @return boolean
+     *         条件是否全部满足
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public boolean matches(Class<?> clazz) {
+        ConditionalOnConfig onConfig = clazz.getAnnotation(ConditionalOnConfig.class);
+        if (onConfig != null && !matchesConfig(onConfig.key(), onConfig.havingValue(), onConfig.matchIfMissing())) {
+            return false;
+        }
+
+        ConditionalOnClass onClass = clazz.getAnnotation(ConditionalOnClass.class);
+        if (onClass != null && !matchesClasses(Arrays.asList(onClass.value()))) {
+            return false;
+        }
+
+        ConditionalOnPlugin onPlugin = clazz.getAnnotation(ConditionalOnPlugin.class);
+        return onPlugin == null || matchesPlugins(Arrays.asList(onPlugin.value()));
+    }
+
+    private boolean matchesConfig(String key, String havingValue, boolean matchIfMissing) {
+        if (StringUtils.isBlank(key)) {
+            return true;
+        }
+
+        if (configTree == null) {
+            Config config = ConfigManager.getInstance().getConfig();
+            if (config == null) {
+                return matchIfMissing;
+            }
+            configTree = JacksonUtils.valueToTree(config);
+        }
+
+        JsonNode value = configTree.get(key);
+        if (value == null || value.isNull()) {
+            return matchIfMissing;
+        }
+        if (StringUtils.isBlank(havingValue)) {
+            return !value.asText().isEmpty() && !"false".equalsIgnoreCase(value.asText());
+        }
+        return havingValue.equals(value.asText());
+    }
+
+    /**
+     * 获取判断 {@link ConditionalOnClass} 时检查过的类名到其是否存在的映射
+     * @return java.util.Map<java.lang.String, java.lang.Boolean>
+     *         类名到其是否存在的映射，按照类名排序
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public Map<String, Boolean> getClassConditions() {
+        return new TreeMap<>(classConditions);
+    }
+
+    /**
+     * 通过不初始化的 {@link Class#forName(String, boolean, ClassLoader)} 判断类是否存在，
+     * 与 Bean 类加载时的查找顺序相同，父加载器以及插件所依赖的插件中的类也能被找到
+     * @param classLoader
+     *        类加载器
+     * @param className
+     *        类名
+     * @return boolean
+     *         类是否存在
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public static boolean isClassPresent(ClassLoader classLoader, String className) {
+        try {
+            Class.forName(className, false, classLoader);
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private boolean matchesClasses(Collection<String> classNames) {
+        for (String className : classNames) {
+            boolean present = classConditions.computeIfAbsent(className, name -> isClassPresent(classLoader, name));
+            if (!present) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean matchesPlugins(Collection<String> pluginNames) {
+        Map<String, ?> plugins = PluginManager.getInstance().getPlugins();
+        for (String pluginName : pluginNames) {
+            if (!plugins.containsKey(pluginName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<String> split(String value) {
+        if (StringUtils.isBlank(value)) {
+            return List.of();
+        }
+        return Arrays.asList(value.split(","));
+    }
+
+    private static List<String> toStrings(Object value) {
+        if (value instanceof List<?> list) {
+            return list.stream().map(String::valueOf).toList();
+        }
+        if (value == null) {
+            return List.of();
+        }
+        return List.of(String.valueOf(value));
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.bean.condition.annotation;
+
+import io.github.gdrfgdrf.cuteframework.config.common.Config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 仅当 {@link Config} 中的某个配置项满足条件时才注册被注解的 Bean 类，
+ * 条件在 Bean 类被加载之前通过 Bean 类索引或 class 文件进行判断，不满足条件的 Bean 类不会被加载
+ *
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+@Target(value = ElementType.TYPE)
+@Retention(value = RetentionPolicy.RUNTIME)
+public @interface ConditionalOnConfig {
+    /**
+     * 配置项名称，与配置文件中的名称相同，例如 parallelBeanCreation
+     * @return java.lang.String
+     *         配置项名称
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    String key();
+
+    /**
+     * 配置项需要等于的值，为空时配置项存在且不为 false 即可
+     * @return java.lang.String
+     *         配置项的值
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    String havingValue() default "";
+
+    /**
+     * 配置项不存在或配置还未加载时是否满足条件
+     * @return boolean
+     *         是否满足条件
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    boolean matchIfMissing() default false;
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.bean.destroy;
+
+import io.github.gdrfgdrf.cuteframework.bean.annotation.PreDestroy;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Bean 类中所有被 {@link PreDestroy} 注解的方法，每个类只会查找一次并缓存在 {@link ClassValue} 中，
+ * 子类中声明的方法先于父类中声明的方法被调用，被子类重写的方法只会被调用一次
+ *
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+public class DestroyCallbacks {
+    private static final MethodType CALLBACK_TYPE = MethodType.methodType(void.class, Object.class);
+    private static final ClassValue<DestroyCallbacks> CALLBACKS = new ClassValue<>() {
+        @Override
+        protected DestroyCallbacks computeValue(Class<?> type) {
+            return new DestroyCallbacks(type);
+        }
+    };
+
+    /**
+     * 转换为 (Object)void 类型的方法，方法不合法或无法访问时为错误信息
+     */
+    private final List<Object> callbacks;
+
+    private DestroyCallbacks(Class<?> beanClass) {
+        List<Object> callbacks = new ArrayList<>();
+        Set<String> visited = new HashSet<>();
+        for (Class<?> clazz = beanClass; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            for (Method method : clazz.getDeclaredMethods()) {
+                if (!method.isAnnotationPresent(PreDestroy.class) || !visited.add(method.getName())) {
+                    continue;
+                }
+                if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 0) {
+                    callbacks.add("The @PreDestroy method " + method + " must be a non-static method without parameters");
+                    continue;
+                }
+                try {
+                    callbacks.add(MethodHandles.privateLookupIn(clazz, MethodHandles.lookup())
+                            .unreflect(method)
+                            .asType(CALLBACK_TYPE));
+                } catch (IllegalAccessException e) {
+                    callbacks.add("Unable to access the @PreDestroy method " + method + ": " + e.getMessage());
+                }
+            }
+        }
+        this.callbacks = List.copyOf(callbacks);
+    }
+
+    /**
+     * 获取 Bean 类的销毁回调
+     * @param beanClass
+     *        Bean 类
+     * @return io.github.gdrfgdrf.cuteframework.bean.destroy.DestroyCallbacks
+     *         销毁回调
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public static DestroyCallbacks get(Class<?> beanClass) {
+        return CALLBACKS.get(beanClass);
+    }
+
+    /**
+     * 是否存在被 {@link PreDestroy} 注解的方法
+     * @return boolean
+     *         是否存在
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public boolean isEmpty() {
+        return callbacks.isEmpty();
+    }
+
+    /**
+     * 依次调用所有被 {@link PreDestroy} 注解的方法，某个方法抛出异常时仍会调用剩余的方法，
+     * 全部调用完成后抛出第一个异常
+     * @param bean
+     *        Bean 实例
+     * @throws Exception
+     *         方法不合法或方法抛出的异常
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public void invoke(Object bean) throws Exception {
+        Exception failure = null;
+        for (Object callback : callbacks) {
+            try {
+                if (callback instanceof String message) {
+                    throw new IllegalStateException(message);
+                }
+                ((MethodHandle) callback).invokeExact(bean);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                Exception exception = e instanceof Exception ? (Exception) e : new InvocationTargetException(e);
+                if (failure == null) {
+                    failure = exception;
+                } else {
+                    failure.addSuppressed(exception);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
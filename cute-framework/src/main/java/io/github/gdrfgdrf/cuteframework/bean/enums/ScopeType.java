@@ -0,0 +1,43 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.bean.enums;
+
+/**
+ * Bean 的作用域
+ *
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+public enum ScopeType {
+    /**
+     * 全局只有一个实例
+     */
+    SINGLETON,
+    /**
+     * 每次获取都创建新的实例
+     */
+    PROTOTYPE,
+    /**
+     * 每个线程一个实例
+     */
+    THREAD,
+    /**
+     * 实例由有界对象池管理，只能通过 BeanManager 的 borrowBean 借出并通过 returnBean 归还，
+     * 不能被普通的获取方法获取，也不能被注入
+     */
+    POOLED
+}
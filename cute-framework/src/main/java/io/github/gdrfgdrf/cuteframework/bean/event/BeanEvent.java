@@ -17,6 +17,7 @@
 package io.github.gdrfgdrf.cuteframework.bean.event;
 
 import io.github.gdrfgdrf.cuteframework.bean.BeanManager;
+import io.github.gdrfgdrf.cuteframework.bean.annotation.AsyncInit;
 import lombok.Getter;
 
 /**
@@ -93,10 +94,18 @@ public abstract class BeanEvent {
         public static class Pre extends LoadAll {}
 
         /**
-         *  Bean 全部被加载后事件
+         *  Bean 全部被加载后事件，此时被 {@link AsyncInit} 注解的 Bean 可能还未创建完成
          * @author gdrfgdrf
          * @since v1_0_0_20240525_RELEASE
          */
         public static class Post extends LoadAll {}
+
+        /**
+         *  被 {@link AsyncInit} 注解的 Bean 全部创建结束事件，无论创建成功与否，
+         * 该事件在 {@link LoadAll.Post} 之后发布，可能由异步创建 Bean 的线程发布
+         * @author gdrfgdrf
+         * @since v1_2_5_20240622_RELEASE
+         */
+        public static class AsyncPost extends LoadAll {}
     }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.bean.exception;
+
+import io.github.gdrfgdrf.cuteframework.bean.BeanManager;
+import io.github.gdrfgdrf.cuteframework.exceptionhandler.base.CustomException;
+import io.github.gdrfgdrf.cuteframework.locale.collect.ExceptionLanguage;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Bean 循环依赖异常，
+ * 当 {@link BeanManager} 创建 Bean 类时发现 Bean 之间的依赖关系 (包括 Order 带来的先后关系) 存在循环时抛出
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+@Getter
+public class BeanCircularDependencyException extends CustomException {
+    /**
+     * 处于循环依赖中或依赖了循环依赖的 Bean 类
+     */
+    private final List<Class<?>> beanClasses;
+
+    public BeanCircularDependencyException(List<Class<?>> beanClasses) {
+        this.beanClasses = beanClasses;
+    }
+
+    @Override
+    public String getI18NMessage() {
+        return ExceptionLanguage.BEAN_CIRCULAR_DEPENDENCY
+                .get()
+                .format(getBeanClassNames())
+                .getString();
+    }
+
+    @Override
+    public String getDefaultMessage() {
+        return "The bean classes " + getBeanClassNames() + " cannot be created because of a circular dependency";
+    }
+
+    private String getBeanClassNames() {
+        return beanClasses.stream()
+                .map(Class::getName)
+                .collect(Collectors.joining(", "));
+    }
+}
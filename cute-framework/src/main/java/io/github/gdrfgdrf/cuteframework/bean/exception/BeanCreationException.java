@@ -0,0 +1,58 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.bean.exception;
+
+import io.github.gdrfgdrf.cuteframework.bean.BeanManager;
+import io.github.gdrfgdrf.cuteframework.exceptionhandler.base.CustomException;
+import io.github.gdrfgdrf.cuteframework.locale.collect.ExceptionLanguage;
+import lombok.Getter;
+
+/**
+ * Bean 创建异常，
+ * 当 {@link BeanManager} 在获取 Bean 时才创建 Bean 实例并且创建失败时抛出
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+@Getter
+public class BeanCreationException extends CustomException {
+    /**
+     * Bean 名称
+     */
+    private final String beanName;
+    /**
+     * 创建时抛出的异常实例
+     */
+    private final Throwable throwable;
+
+    public BeanCreationException(String beanName, Throwable throwable) {
+        this.beanName = beanName;
+        this.throwable = throwable;
+    }
+
+    @Override
+    public String getI18NMessage() {
+        return ExceptionLanguage.BEAN_CREATION_ERROR
+                .get()
+                .format(beanName, throwable.getMessage())
+                .getString();
+    }
+
+    @Override
+    public String getDefaultMessage() {
+        return "Error occurred when creating bean " + beanName + ": " + throwable.getMessage();
+    }
+}
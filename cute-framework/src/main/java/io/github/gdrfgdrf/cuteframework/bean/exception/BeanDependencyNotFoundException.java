@@ -0,0 +1,59 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.bean.exception;
+
+import io.github.gdrfgdrf.cuteframework.bean.BeanManager;
+import io.github.gdrfgdrf.cuteframework.bean.annotation.Component;
+import io.github.gdrfgdrf.cuteframework.exceptionhandler.base.CustomException;
+import io.github.gdrfgdrf.cuteframework.locale.collect.ExceptionLanguage;
+import lombok.Getter;
+
+/**
+ * Bean 依赖不存在异常，
+ * 当 {@link BeanManager} 创建 Bean 类时，{@link Component#dependsOn()} 中的 Bean 既不存在也不在本次创建的 Bean 中时抛出
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+@Getter
+public class BeanDependencyNotFoundException extends CustomException {
+    /**
+     * Bean 类
+     */
+    private final Class<?> beanClass;
+    /**
+     * 不存在的依赖的 Bean 名称
+     */
+    private final String dependencyName;
+
+    public BeanDependencyNotFoundException(Class<?> beanClass, String dependencyName) {
+        this.beanClass = beanClass;
+        this.dependencyName = dependencyName;
+    }
+
+    @Override
+    public String getI18NMessage() {
+        return ExceptionLanguage.BEAN_DEPENDENCY_NOT_FOUND
+                .get()
+                .format(beanClass.getName(), dependencyName)
+                .getString();
+    }
+
+    @Override
+    public String getDefaultMessage() {
+        return "The bean class " + beanClass.getName() + " cannot be created because its dependency " + dependencyName + " does not exist";
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.bean.exception;
+
+import io.github.gdrfgdrf.cuteframework.bean.BeanManager;
+import io.github.gdrfgdrf.cuteframework.bean.annotation.Inject;
+import io.github.gdrfgdrf.cuteframework.exceptionhandler.base.CustomException;
+import io.github.gdrfgdrf.cuteframework.locale.collect.ExceptionLanguage;
+import lombok.Getter;
+
+/**
+ * Bean 注入异常，
+ * 当 {@link BeanManager} 无法按照 {@link Inject} 向 Bean 类注入依赖时抛出，
+ * 例如字段为 static 或 final、存在多个被注解的构造函数、找到的 Bean 与需要的类型不符
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+@Getter
+public class BeanInjectionException extends CustomException {
+    /**
+     * Bean 类
+     */
+    private final Class<?> beanClass;
+    /**
+     * 注入的目标，字段名称或构造函数
+     */
+    private final String target;
+    /**
+     * 无法注入的原因，必须为全英文
+     */
+    private final String reason;
+
+    public BeanInjectionException(Class<?> beanClass, String target, String reason) {
+        this.beanClass = beanClass;
+        this.target = target;
+        this.reason = reason;
+    }
+
+    @Override
+    public String getI18NMessage() {
+        return ExceptionLanguage.BEAN_INJECTION_ERROR
+                .get()
+                .format(beanClass.getName(), target, reason)
+                .getString();
+    }
+
+    @Override
+    public String getDefaultMessage() {
+        return "Unable to inject " + target + " of the bean class " + beanClass.getName() + ": " + reason;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.bean.exception;
+
+import io.github.gdrfgdrf.cuteframework.bean.BeanManager;
+import io.github.gdrfgdrf.cuteframework.exceptionhandler.base.CustomException;
+import io.github.gdrfgdrf.cuteframework.locale.collect.ExceptionLanguage;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Bean 不唯一异常，
+ * 当通过 {@link BeanManager#getBean(Class)} 按类型获取 Bean 时找到了多个 Bean 时抛出
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+@Getter
+public class BeanNotUniqueException extends CustomException {
+    /**
+     * 获取的类型
+     */
+    private final Class<?> type;
+    /**
+     * 找到的 Bean 类
+     */
+    private final List<Class<?>> beanClasses;
+
+    public BeanNotUniqueException(Class<?> type, List<Class<?>> beanClasses) {
+        this.type = type;
+        this.beanClasses = beanClasses;
+    }
+
+    @Override
+    public String getI18NMessage() {
+        return ExceptionLanguage.BEAN_NOT_UNIQUE
+                .get()
+                .format(type.getName(), getBeanClassNames())
+                .getString();
+    }
+
+    @Override
+    public String getDefaultMessage() {
+        return "Expected a single bean of type " + type.getName() + " but found " + getBeanClassNames();
+    }
+
+    private String getBeanClassNames() {
+        return beanClasses.stream()
+                .map(Class::getName)
+                .collect(Collectors.joining(", "));
+    }
+}
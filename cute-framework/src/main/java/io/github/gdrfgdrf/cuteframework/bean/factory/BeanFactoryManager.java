@@ -0,0 +1,97 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.bean.factory;
+
+import io.github.gdrfgdrf.cuteframework.bean.factory.base.BeanFactory;
+import io.github.gdrfgdrf.cuteframework.common.Constants;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Optional;
+
+/**
+ * Bean 工厂管理器，查找并缓存编译时生成的 {@link BeanFactory}，
+ * 每个 Bean 类只会查找一次，没有生成工厂类的 Bean 类同样会被缓存
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+@Slf4j
+public class BeanFactoryManager {
+    private static BeanFactoryManager INSTANCE;
+
+    /**
+     * Bean 类到 Bean 工厂的缓存
+     */
+    private final ClassValue<Optional<BeanFactory>> BEAN_FACTORY_CACHE = new ClassValue<>() {
+        @Override
+        protected Optional<BeanFactory> computeValue(Class<?> type) {
+            return Optional.ofNullable(loadFactory(type));
+        }
+    };
+
+    private BeanFactoryManager() {}
+
+    /**
+     * 单例模式，获取 {@link BeanFactoryManager} 实例
+     * @return io.github.gdrfgdrf.cuteframework.bean.factory.BeanFactoryManager
+     *         {@link BeanFactoryManager} 实例
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public static BeanFactoryManager getInstance() {
+        if (INSTANCE == null) {
+            INSTANCE = new BeanFactoryManager();
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * 获取 Bean 类的 Bean 工厂
+     * @param beanClass
+     *        Bean 类
+     * @return io.github.gdrfgdrf.cuteframework.bean.factory.base.BeanFactory
+     *         Bean 工厂，Bean 类没有生成工厂类时返回 null
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public BeanFactory getFactory(Class<?> beanClass) {
+        return BEAN_FACTORY_CACHE.get(beanClass).orElse(null);
+    }
+
+    private static BeanFactory loadFactory(Class<?> beanClass) {
+        ClassLoader classLoader = beanClass.getClassLoader();
+        if (classLoader == null) {
+            return null;
+        }
+
+        Class<?> factoryClass;
+        try {
+            factoryClass = Class.forName(beanClass.getName() + Constants.BEAN_FACTORY_SUFFIX, false, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+        if (!BeanFactory.class.isAssignableFrom(factoryClass)) {
+            return null;
+        }
+
+        try {
+            return (BeanFactory) factoryClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            log.warn("Unable to instantiate the bean factory " + factoryClass.getName() + ", fall back to reflection", e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.bean.factory.base;
+
+import io.github.gdrfgdrf.cuteframework.common.Constants;
+
+/**
+ * Bean 工厂，由 cute-framework-processor 在编译时为 Bean 类生成，
+ * 类名为 Bean 类的二进制名称加上 {@link Constants#BEAN_FACTORY_SUFFIX}，直接通过 new 创建 Bean 实例
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+public interface BeanFactory {
+    /**
+     * 创建 Bean 实例
+     * @return java.lang.Object
+     *         Bean 实例
+     * @throws Exception
+     *         Bean 类的构造函数抛出的异常
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    Object create() throws Exception;
+}
@@ -0,0 +1,360 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.bean.graph;
+
+import io.github.gdrfgdrf.cuteframework.bean.annotation.Component;
+import io.github.gdrfgdrf.cuteframework.bean.annotation.Order;
+import io.github.gdrfgdrf.cuteframework.bean.compare.OrderComparator;
+import io.github.gdrfgdrf.cuteframework.bean.exception.BeanCircularDependencyException;
+import io.github.gdrfgdrf.cuteframework.bean.exception.BeanDependencyNotFoundException;
+import io.github.gdrfgdrf.cuteframework.bean.exception.BeanInjectionException;
+import io.github.gdrfgdrf.cuteframework.bean.exception.BeanNameConflictException;
+import io.github.gdrfgdrf.cuteframework.bean.inject.InjectionPlan;
+import io.github.gdrfgdrf.cuteframework.bean.inject.InjectionPoint;
+import io.github.gdrfgdrf.cuteframework.bean.resolver.clazz.base.BeanClassResolver;
+import io.github.gdrfgdrf.cuteframework.bean.resolver.method.base.BeanMethodResolver;
+import io.github.gdrfgdrf.cuteframework.utils.ClassUtils;
+
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Bean 依赖图，由同一批次中已按照 {@link OrderComparator} 排序的 Bean 类构建，依赖关系包括：
+ * 1. 每个 {@link Order} 分组依赖于它的前一个分组，没有 {@link Order} 的 Bean 类作为最后一个分组
+ * 2. 同一分组中排在 {@link BeanMethodResolver} 或 {@link BeanClassResolver} 之后的普通 Bean 依赖于这些解析器
+ * 3. {@link Component#dependsOn()} 中声明的同一批次中的 Bean
+ * 4. {@link InjectionPlan} 中按名称注入的同一批次中的 Bean，以及按类型注入时同一批次中所有匹配该类型的 Bean
+ *
+ * 没有声明 {@link Component#dependsOn()} 时，串行执行的顺序与原本的排序完全相同
+ *
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+public class BeanDependencyGraph {
+    /**
+     * 图中的所有节点，按照原本的顺序排列，
+     * 每个 {@link Order} 分组之前有一个值为 null 的分组屏障节点，
+     * 屏障依赖于前一个分组的所有 Bean 类，该分组的所有 Bean 类只依赖于屏障，
+     * 这样分组之间的依赖关系只需要线性数量的边
+     */
+    private final List<Class<?>> nodes;
+    /**
+     * 每个节点被哪些节点所依赖
+     */
+    private final List<List<Integer>> dependents;
+    /**
+     * 每个节点依赖的节点的数量
+     */
+    private final int[] dependencyCounts;
+    /**
+     * 拓扑排序的结果，入度相同时按照原本的顺序排列
+     */
+    private final List<Integer> topologicalOrder;
+
+    /**
+     * 构建 Bean 依赖图
+     * @param beanClasses
+     *        已按照 {@link OrderComparator} 排序的 Bean 类
+     * @param naming
+     *        获取 Bean 名称
+     * @param existing
+     *        某个名称的 Bean 是否已经存在
+     * @throws BeanNameConflictException
+     *         同一批次中存在同名的 Bean
+     * @throws BeanDependencyNotFoundException
+     *         依赖的 Bean 不存在
+     * @throws BeanCircularDependencyException
+     *         存在循环依赖
+     * @throws BeanInjectionException
+     *         Bean 类的注入声明不合法
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public BeanDependencyGraph(
+            List<Class<?>> beanClasses,
+            Function<Class<?>, String> naming,
+            Predicate<String> existing
+    ) throws
+            BeanNameConflictException,
+            BeanDependencyNotFoundException,
+            BeanCircularDependencyException,
+            BeanInjectionException
+    {
+        this.nodes = new ArrayList<>();
+        int[] nodeIndexes = new int[beanClasses.size()];
+        long currentOrderKey = 0;
+        for (int i = 0; i < beanClasses.size(); i++) {
+            Class<?> beanClass = beanClasses.get(i);
+            long orderKey = OrderComparator.getOrderKey(beanClass);
+            if (i > 0 && orderKey != currentOrderKey) {
+                nodes.add(null);
+            }
+            currentOrderKey = orderKey;
+
+            nodeIndexes[i] = nodes.size();
+            nodes.add(beanClass);
+        }
+        int size = nodes.size();
+
+        Map<String, Integer> nameIndexMap = new HashMap<>();
+        Map<Class<?>, List<Integer>> typeIndexMap = new HashMap<>();
+        for (int i = 0; i < beanClasses.size(); i++) {
+            Class<?> beanClass = beanClasses.get(i);
+            if (nameIndexMap.putIfAbsent(naming.apply(beanClass), nodeIndexes[i]) != null) {
+                throw new BeanNameConflictException(beanClass);
+            }
+            for (Class<?> superType : ClassUtils.getSuperTypes(beanClass)) {
+                typeIndexMap.computeIfAbsent(superType, key -> new ArrayList<>()).add(nodeIndexes[i]);
+            }
+        }
+
+        List<Set<Integer>> dependencies = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            dependencies.add(new LinkedHashSet<>());
+        }
+
+        int barrier = -1;
+        List<Integer> currentGroup = new ArrayList<>();
+        List<Integer> currentResolvers = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Class<?> beanClass = nodes.get(i);
+            if (beanClass == null) {
+                dependencies.get(i).addAll(currentGroup);
+                barrier = i;
+                currentGroup = new ArrayList<>();
+                currentResolvers = new ArrayList<>();
+                continue;
+            }
+
+            if (barrier >= 0) {
+                dependencies.get(i).add(barrier);
+            }
+            if (isResolver(beanClass)) {
+                currentResolvers.add(i);
+            } else {
+                dependencies.get(i).addAll(currentResolvers);
+            }
+            currentGroup.add(i);
+
+            List<String> dependencyNames = new ArrayList<>();
+            Component component = beanClass.getAnnotation(Component.class);
+            if (component != null) {
+                dependencyNames.addAll(Arrays.asList(component.dependsOn()));
+            }
+
+            for (InjectionPoint injectionPoint : InjectionPlan.get(beanClass).getInjectionPoints()) {
+                if (injectionPoint.isByName()) {
+                    dependencyNames.add(injectionPoint.name());
+                    continue;
+                }
+                for (int candidate : typeIndexMap.getOrDefault(injectionPoint.type(), Collections.emptyList())) {
+                    if (candidate != i) {
+                        dependencies.get(i).add(candidate);
+                    }
+                }
+            }
+
+            for (String dependencyName : dependencyNames) {
+                Integer dependency = nameIndexMap.get(dependencyName);
+                if (dependency != null) {
+                    dependencies.get(i).add(dependency);
+                    continue;
+                }
+                if (!existing.test(dependencyName)) {
+                    throw new BeanDependencyNotFoundException(beanClass, dependencyName);
+                }
+            }
+        }
+
+        this.dependents = new ArrayList<>(size);
+        this.dependencyCounts = new int[size];
+        for (int i = 0; i < size; i++) {
+            dependents.add(new ArrayList<>());
+        }
+        for (int i = 0; i < size; i++) {
+            dependencyCounts[i] = dependencies.get(i).size();
+            for (int dependency : dependencies.get(i)) {
+                dependents.get(dependency).add(i);
+            }
+        }
+
+        this.topologicalOrder = sort();
+    }
+
+    private List<Integer> sort() throws BeanCircularDependencyException {
+        int size = nodes.size();
+        int[] remaining = dependencyCounts.clone();
+        PriorityQueue<Integer> ready = new PriorityQueue<>();
+        for (int i = 0; i < size; i++) {
+            if (remaining[i] == 0) {
+                ready.add(i);
+            }
+        }
+
+        List<Integer> result = new ArrayList<>(size);
+        while (!ready.isEmpty()) {
+            int index = ready.poll();
+            result.add(index);
+            for (int dependent : dependents.get(index)) {
+                if (--remaining[dependent] == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+
+        if (result.size() != size) {
+            List<Class<?>> unresolved = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                if (remaining[i] > 0 && nodes.get(i) != null) {
+                    unresolved.add(nodes.get(i));
+                }
+            }
+            throw new BeanCircularDependencyException(unresolved);
+        }
+        return result;
+    }
+
+    private static boolean isResolver(Class<?> beanClass) {
+        return BeanMethodResolver.class.isAssignableFrom(beanClass) ||
+                BeanClassResolver.class.isAssignableFrom(beanClass);
+    }
+
+    /**
+     * 按照拓扑排序的顺序在当前线程中依次执行
+     * @param task
+     *        需要对每个 Bean 类执行的任务
+     * @throws Exception
+     *         任务抛出的异常，抛出后不再执行剩余的任务
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public void executeSerially(Task task) throws Exception {
+        for (int index : topologicalOrder) {
+            Class<?> beanClass = nodes.get(index);
+            if (beanClass != null) {
+                task.run(beanClass);
+            }
+        }
+    }
+
+    /**
+     * 在线程池中并行执行，一个 Bean 类的所有依赖都执行完成后它才会被提交到线程池，
+     * 该方法会阻塞直到所有任务执行完成，或某个任务抛出异常且已提交的任务全部结束
+     * @param executor
+     *        线程池
+     * @param task
+     *        需要对每个 Bean 类执行的任务
+     * @throws Exception
+     *         第一个被抛出的异常，抛出后不再提交新的任务
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public void executeParallel(Executor executor, Task task) throws Exception {
+        if (nodes.isEmpty()) {
+            return;
+        }
+
+        Execution execution = new Execution(executor, task);
+        for (int i = 0; i < nodes.size(); i++) {
+            if (dependencyCounts[i] == 0) {
+                execution.submit(i);
+            }
+        }
+        execution.await();
+    }
+
+    /**
+     * 对 Bean 类执行的任务
+     */
+    @FunctionalInterface
+    public interface Task {
+        void run(Class<?> beanClass) throws Exception;
+    }
+
+    private class Execution {
+        private final Executor executor;
+        private final Task task;
+        private final AtomicIntegerArray remaining = new AtomicIntegerArray(dependencyCounts);
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        private Execution(Executor executor, Task task) {
+            this.executor = executor;
+            this.task = task;
+        }
+
+        private void submit(int index) {
+            pending.incrementAndGet();
+            try {
+                executor.execute(() -> run(index));
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+                finish();
+            }
+        }
+
+        private void run(int index) {
+            try {
+                if (failure.get() != null) {
+                    return;
+                }
+                Class<?> beanClass = nodes.get(index);
+                if (beanClass != null) {
+                    task.run(beanClass);
+                }
+                for (int dependent : dependents.get(index)) {
+                    if (remaining.decrementAndGet(dependent) == 0) {
+                        submit(dependent);
+                    }
+                }
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                finish();
+            }
+        }
+
+        private void finish() {
+            if (pending.decrementAndGet() == 0) {
+                synchronized (this) {
+                    notifyAll();
+                }
+            }
+        }
+
+        private void await() throws Exception {
+            synchronized (this) {
+                while (pending.get() != 0) {
+                    wait();
+                }
+            }
+
+            Throwable throwable = failure.get();
+            if (throwable instanceof Exception exception) {
+                throw exception;
+            }
+            if (throwable instanceof Error error) {
+                throw error;
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.bean.holder;
+
+import io.github.gdrfgdrf.cuteframework.bean.annotation.AsyncInit;
+import io.github.gdrfgdrf.cuteframework.bean.exception.BeanCreationException;
+import io.github.gdrfgdrf.cuteframework.bean.holder.base.AbstractBeanHolder;
+import io.github.gdrfgdrf.cuteframework.bean.holder.base.BeanInstantiator;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * 持有一个被 {@link AsyncInit} 注解的 Bean 类，Bean 实例在线程池中创建，
+ * 获取时若还未创建完成则阻塞等待
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+public class AsyncBeanHolder extends AbstractBeanHolder {
+    private final CompletableFuture<Object> future = new CompletableFuture<>();
+
+    public AsyncBeanHolder(String beanName, Class<?> beanClass, BeanInstantiator instantiator) {
+        super(beanName, beanClass, instantiator);
+    }
+
+    /**
+     * 提交创建任务到线程池
+     * @param executor
+     *        线程池
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public void start(Executor executor) {
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(create());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (Throwable e) {
+            future.completeExceptionally(new BeanCreationException(beanName, e));
+        }
+    }
+
+    /**
+     * 获取创建结果，返回的 {@link CompletableFuture} 被完成不会影响 Bean 本身
+     * @return java.util.concurrent.CompletableFuture<java.lang.Object>
+     *         创建结果
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public CompletableFuture<Object> getFuture() {
+        return future.copy();
+    }
+
+    @Override
+    public Object getBean() throws BeanCreationException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof BeanCreationException beanCreationException) {
+                throw beanCreationException;
+            }
+            throw new BeanCreationException(beanName, e.getCause() == null ? e : e.getCause());
+        }
+    }
+
+    @Override
+    public boolean isInstantiated() {
+        return future.isDone() && !future.isCompletedExceptionally();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.bean.holder;
+
+import io.github.gdrfgdrf.cuteframework.bean.annotation.Lazy;
+import io.github.gdrfgdrf.cuteframework.bean.exception.BeanCircularDependencyException;
+import io.github.gdrfgdrf.cuteframework.bean.exception.BeanCreationException;
+import io.github.gdrfgdrf.cuteframework.bean.holder.base.AbstractBeanHolder;
+import io.github.gdrfgdrf.cuteframework.bean.holder.base.BeanInstantiator;
+
+import java.util.List;
+
+/**
+ * 持有一个被 {@link Lazy} 注解的 Bean 类，第一次获取时才创建 Bean 实例，
+ * 多个线程同时第一次获取时只会有一个线程进行创建，其余线程等待创建完成，
+ * 创建失败时不会保存失败结果，下一次获取时将重新创建
+ *
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+public class LazyBeanHolder extends AbstractBeanHolder {
+    /**
+     * Bean 实例，仅在完全创建完成后才会被赋值
+     */
+    private volatile Object bean;
+    /**
+     * 是否正在创建，仅在持有锁时访问，用于发现创建过程中获取自身的情况
+     */
+    private boolean creating;
+
+    public LazyBeanHolder(String beanName, Class<?> beanClass, BeanInstantiator instantiator) {
+        super(beanName, beanClass, instantiator);
+    }
+
+    @Override
+    public Object getBean() throws BeanCreationException {
+        Object bean = this.bean;
+        if (bean != null) {
+            return bean;
+        }
+
+        synchronized (this) {
+            bean = this.bean;
+            if (bean != null) {
+                return bean;
+            }
+            if (creating) {
+                throw new BeanCreationException(beanName, new BeanCircularDependencyException(List.of(beanClass)));
+            }
+
+            creating = true;
+            try {
+                bean = create();
+                this.bean = bean;
+                return bean;
+            } finally {
+                creating = false;
+            }
+        }
+    }
+
+    @Override
+    public boolean isInstantiated() {
+        return bean != null;
+    }
+}
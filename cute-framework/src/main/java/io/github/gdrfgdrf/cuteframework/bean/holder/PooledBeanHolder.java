@@ -0,0 +1,106 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.bean.holder;
+
+import com.google.common.collect.MapMaker;
+import io.github.gdrfgdrf.cuteframework.bean.BeanManager;
+import io.github.gdrfgdrf.cuteframework.bean.enums.ScopeType;
+import io.github.gdrfgdrf.cuteframework.bean.exception.BeanCreationException;
+import io.github.gdrfgdrf.cuteframework.bean.holder.base.AbstractBeanHolder;
+import io.github.gdrfgdrf.cuteframework.bean.holder.base.BeanInstantiator;
+import io.github.gdrfgdrf.cuteframework.utils.pool.BoundedObjectPool;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * 持有一个 {@link ScopeType#POOLED} 的 Bean 类，借出时从 {@link BoundedObjectPool} 中取出空闲实例，
+ * 没有空闲实例时创建新的实例，归还的实例放回对象池，对象池已满时丢弃，
+ * 借出的实例按照引用被记录，只有借出且尚未归还的实例才能被归还，
+ * 实例只能通过 {@link PooledBeanHolder#borrow()} 借出，{@link PooledBeanHolder#getBean()} 不会借出实例，
+ * 以免普通的获取与注入借出的实例永远不会被归还
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+public class PooledBeanHolder extends AbstractBeanHolder {
+    private final BoundedObjectPool<Object> pool;
+    /**
+     * 已借出且尚未归还的实例，按照引用比较，使用弱引用以免未归还的实例无法被回收
+     */
+    private final Set<Object> lent = Collections.newSetFromMap(new MapMaker().weakKeys().makeMap());
+
+    public PooledBeanHolder(String beanName, Class<?> beanClass, BeanInstantiator instantiator, int poolSize) {
+        super(beanName, beanClass, instantiator);
+        if (poolSize <= 0) {
+            poolSize = Runtime.getRuntime().availableProcessors() * 2;
+        }
+        this.pool = new BoundedObjectPool<>(poolSize);
+    }
+
+    /**
+     * 对象池作用域的 Bean 不能被直接获取
+     * @throws IllegalStateException
+     *         始终抛出，需要使用 {@link BeanManager#borrowBean(String)} 借出实例
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    @Override
+    public Object getBean() {
+        throw new IllegalStateException("The bean " + beanName + " is POOLED and can only be obtained through " +
+                "BeanManager#borrowBean and returned through BeanManager#returnBean");
+    }
+
+    /**
+     * 借出实例，没有空闲实例时创建新的实例，借出的实例需要通过 {@link PooledBeanHolder#release(Object)} 归还
+     * @return java.lang.Object
+     *         Bean 实例
+     * @throws BeanCreationException
+     *         创建 Bean 实例失败时抛出
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public Object borrow() throws BeanCreationException {
+        Object bean = pool.poll();
+        if (bean == null) {
+            bean = create();
+        }
+        lent.add(bean);
+        return bean;
+    }
+
+    /**
+     * 归还借出的实例
+     * @param bean
+     *        Bean 实例
+     * @throws IllegalArgumentException
+     *         该实例不是由该持有者借出的，或已经被归还时抛出
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    @Override
+    public void release(Object bean) {
+        if (!lent.remove(bean)) {
+            throw new IllegalArgumentException("The bean " + bean + " was not borrowed from " + beanName + " or has already been returned");
+        }
+        pool.offer(bean);
+    }
+
+    @Override
+    public boolean isInstantiated() {
+        return false;
+    }
+}
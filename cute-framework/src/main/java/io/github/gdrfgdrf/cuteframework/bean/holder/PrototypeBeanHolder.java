@@ -0,0 +1,43 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.bean.holder;
+
+import io.github.gdrfgdrf.cuteframework.bean.enums.ScopeType;
+import io.github.gdrfgdrf.cuteframework.bean.exception.BeanCreationException;
+import io.github.gdrfgdrf.cuteframework.bean.holder.base.AbstractBeanHolder;
+import io.github.gdrfgdrf.cuteframework.bean.holder.base.BeanInstantiator;
+
+/**
+ * 持有一个 {@link ScopeType#PROTOTYPE} 的 Bean 类，每次获取都创建新的 Bean 实例
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+public class PrototypeBeanHolder extends AbstractBeanHolder {
+    public PrototypeBeanHolder(String beanName, Class<?> beanClass, BeanInstantiator instantiator) {
+        super(beanName, beanClass, instantiator);
+    }
+
+    @Override
+    public Object getBean() throws BeanCreationException {
+        return create();
+    }
+
+    @Override
+    public boolean isInstantiated() {
+        return false;
+    }
+}
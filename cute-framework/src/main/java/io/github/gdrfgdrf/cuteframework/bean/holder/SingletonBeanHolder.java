@@ -0,0 +1,65 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.bean.holder;
+
+import io.github.gdrfgdrf.cuteframework.bean.holder.base.BeanHolder;
+
+/**
+ * 持有一个已经创建完成的 Bean 实例
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+public class SingletonBeanHolder implements BeanHolder {
+    /**
+     * Bean 名称
+     */
+    private final String beanName;
+    /**
+     * 声明的 Bean 类，类注入器返回的实例可能是它的子类或代理
+     */
+    private final Class<?> beanClass;
+    /**
+     * Bean 实例
+     */
+    private final Object bean;
+
+    public SingletonBeanHolder(String beanName, Class<?> beanClass, Object bean) {
+        this.beanName = beanName;
+        this.beanClass = beanClass;
+        this.bean = bean;
+    }
+
+    @Override
+    public String getBeanName() {
+        return beanName;
+    }
+
+    @Override
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    @Override
+    public Object getBean() {
+        return bean;
+    }
+
+    @Override
+    public boolean isInstantiated() {
+        return true;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.bean.holder;
+
+import io.github.gdrfgdrf.cuteframework.bean.enums.ScopeType;
+import io.github.gdrfgdrf.cuteframework.bean.exception.BeanCreationException;
+import io.github.gdrfgdrf.cuteframework.bean.holder.base.AbstractBeanHolder;
+import io.github.gdrfgdrf.cuteframework.bean.holder.base.BeanInstantiator;
+
+/**
+ * 持有一个 {@link ScopeType#THREAD} 的 Bean 类，每个线程第一次获取时创建属于该线程的 Bean 实例
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+public class ThreadLocalBeanHolder extends AbstractBeanHolder {
+    private final ThreadLocal<Object> BEAN = new ThreadLocal<>();
+
+    public ThreadLocalBeanHolder(String beanName, Class<?> beanClass, BeanInstantiator instantiator) {
+        super(beanName, beanClass, instantiator);
+    }
+
+    @Override
+    public Object getBean() throws BeanCreationException {
+        Object bean = BEAN.get();
+        if (bean == null) {
+            bean = create();
+            BEAN.set(bean);
+        }
+        return bean;
+    }
+
+    /**
+     * 当前线程的 Bean 实例是否已经被创建
+     * @return boolean
+     *         是否已经被创建
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    @Override
+    public boolean isInstantiated() {
+        return BEAN.get() != null;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.bean.holder.base;
+
+import io.github.gdrfgdrf.cuteframework.bean.exception.BeanCreationException;
+import lombok.Getter;
+
+/**
+ * 需要在获取时才创建 Bean 实例的 Bean 持有者
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+public abstract class AbstractBeanHolder implements BeanHolder {
+    /**
+     * Bean 名称
+     */
+    @Getter
+    protected final String beanName;
+    /**
+     * Bean 类
+     */
+    protected final Class<?> beanClass;
+    /**
+     * 创建 Bean 实例
+     */
+    private final BeanInstantiator instantiator;
+
+    protected AbstractBeanHolder(String beanName, Class<?> beanClass, BeanInstantiator instantiator) {
+        this.beanName = beanName;
+        this.beanClass = beanClass;
+        this.instantiator = instantiator;
+    }
+
+    @Override
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    /**
+     * 创建一个新的 Bean 实例
+     * @return java.lang.Object
+     *         Bean 实例
+     * @throws BeanCreationException
+     *         创建失败时抛出
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    protected Object create() throws BeanCreationException {
+        try {
+            return instantiator.instantiate(beanName, beanClass);
+        } catch (BeanCreationException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new BeanCreationException(beanName, e);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.bean.holder.base;
+
+import io.github.gdrfgdrf.cuteframework.bean.BeanManager;
+import io.github.gdrfgdrf.cuteframework.bean.exception.BeanCreationException;
+
+/**
+ * Bean 持有者，{@link BeanManager} 中每个 Bean 名称都对应一个 Bean 持有者
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+public interface BeanHolder {
+    /**
+     * 获取 Bean 名称
+     * @return java.lang.String
+     *         Bean 名称
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    String getBeanName();
+
+    /**
+     * 获取声明的 Bean 类，即被注册的类，而不是 Bean 实例的运行时类型
+     * @return java.lang.Class<?>
+     *         Bean 类
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    Class<?> getBeanClass();
+
+    /**
+     * 获取 Bean 实例，必要时创建
+     * @return java.lang.Object
+     *         Bean 实例
+     * @throws BeanCreationException
+     *         创建 Bean 实例失败时抛出
+     * @throws IllegalStateException
+     *         对象池作用域的 Bean 只能被借出，直接获取时抛出
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    Object getBean() throws BeanCreationException;
+
+    /**
+     * Bean 实例是否已经被创建
+     * @return boolean
+     *         是否已经被创建
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    boolean isInstantiated();
+
+    /**
+     * 归还通过 {@link BeanManager#borrowBean(String)} 借出的 Bean 实例，只有对象池作用域的 Bean 需要归还，其余作用域忽略
+     * @param bean
+     *        Bean 实例
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    default void release(Object bean) {
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.bean.holder.base;
+
+/**
+ * 创建 Bean 实例，由 {@link AbstractBeanHolder} 在需要时调用
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+@FunctionalInterface
+public interface BeanInstantiator {
+    Object instantiate(String beanName, Class<?> beanClass) throws Exception;
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.bean.index;
+
+import io.github.gdrfgdrf.cuteframework.api.loader.JarClassLoader;
+import io.github.gdrfgdrf.cuteframework.bean.compare.OrderComparator;
+import io.github.gdrfgdrf.cuteframework.common.Constants;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bean 类索引，由编译时的注解处理器 cute-framework-processor 生成，
+ * 位于每个 jar 或类目录的 {@link Constants#COMPONENT_INDEX_FILE_NAME}，
+ * 使用索引时只有 Bean 类会被加载，而不需要加载并初始化包下的所有类
+ *
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+@Slf4j
+@Getter
+public class ComponentIndex {
+    /**
+     * 使用 {@link OrderComparator#toOrderKey(Integer)} 的排序键，与 {@link OrderComparator} 的排序规则相同，
+     * 拥有 Order 值的记录按照值从小到大排在前面，没有 Order 值的记录按照原本的顺序排在后面
+     */
+    public static final Comparator<ComponentIndexEntry> ORDER_COMPARATOR =
+            Comparator.comparingLong(entry -> OrderComparator.toOrderKey(entry.getOrder()));
+
+    /**
+     * jar 或类目录的根路径到其索引的映射，同一个根路径只会被读取一次
+     */
+    private static final Map<String, ComponentIndex> INDEX_CACHE = new ConcurrentHashMap<>();
+    /**
+     * 代表某个根路径下不存在索引
+     */
+    private static final ComponentIndex ABSENT = new ComponentIndex(Collections.emptySet(), Collections.emptyList());
+
+    /**
+     * 生成该索引时所编译的所有包
+     */
+    private final Set<String> packages;
+    /**
+     * 索引中的所有 Bean 类记录
+     */
+    private final List<ComponentIndexEntry> entries;
+
+    private ComponentIndex(Set<String> packages, List<ComponentIndexEntry> entries) {
+        this.packages = packages;
+        this.entries = entries;
+    }
+
+    /**
+     * 从类加载器中获取某个包下的所有 Bean 类记录，
+     * 该包所在的每一个 jar 或类目录都必须存在覆盖该包的索引，
+     * 否则说明索引不完整，此时返回 null，调用方应回退到扫描
+     *
+     * @param classLoader
+     *        类加载器
+     * @param packageName
+     *        包名
+     * @return java.util.List<io.github.gdrfgdrf.cuteframework.bean.index.ComponentIndexEntry>
+     *         该包下的所有 Bean 类记录，索引不完整时返回 null
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public static List<ComponentIndexEntry> find(ClassLoader classLoader, String packageName) {
+        String packagePath = packageName.replace('.', '/');
+
+        List<ComponentIndexEntry> result = new ArrayList<>();
+        try {
+            Enumeration<URL> urlEnumeration = classLoader.getResources(packagePath);
+            if (!urlEnumeration.hasMoreElements()) {
+                return null;
+            }
+
+            while (urlEnumeration.hasMoreElements()) {
+                String url = urlEnumeration.nextElement().toString();
+                int index = url.lastIndexOf(packagePath);
+                if (index < 0) {
+                    return null;
+                }
+
+                String root = url.substring(0, index);
+                ComponentIndex componentIndex = INDEX_CACHE.computeIfAbsent(root, key -> load(classLoader, key));
+                if (componentIndex == ABSENT || !componentIndex.covers(packageName)) {
+                    return null;
+                }
+                result.addAll(componentIndex.getEntries(packageName));
+            }
+        } catch (IOException e) {
+            return null;
+        }
+
+        return result;
+    }
+
+    /**
+     * 该索引是否覆盖了某个包
+     * @param packageName
+     *        包名
+     * @return boolean
+     *         是否覆盖
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public boolean covers(String packageName) {
+        for (String indexedPackage : packages) {
+            if (indexedPackage.equals(packageName) || indexedPackage.startsWith(packageName + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 获取某个包下的所有 Bean 类记录
+     * @param packageName
+     *        包名
+     * @return java.util.List<io.github.gdrfgdrf.cuteframework.bean.index.ComponentIndexEntry>
+     *         Bean 类记录
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public List<ComponentIndexEntry> getEntries(String packageName) {
+        String prefix = packageName + ".";
+        return entries.stream()
+                .filter(entry -> entry.getClassName().startsWith(prefix))
+                .toList();
+    }
+
+    /**
+     * 读取某个根路径下的索引，
+     * 插件的类加载器只会返回插件自己的 jar 包，因此直接通过其持有的 jar 包读取，
+     * 其余情况下不使用 {@link URLConnection} 的缓存，读取完成后 jar 包会随输入流一同关闭
+     * @param classLoader
+     *        得到该根路径的类加载器
+     * @param root
+     *        jar 或类目录的根路径
+     * @return io.github.gdrfgdrf.cuteframework.bean.index.ComponentIndex
+     *         索引，不存在时返回 {@link ComponentIndex#ABSENT}
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private static ComponentIndex load(ClassLoader classLoader, String root) {
+        try (InputStream inputStream = open(classLoader, root)) {
+            if (inputStream == null) {
+                return ABSENT;
+            }
+            return read(inputStream);
+        } catch (IOException e) {
+            return ABSENT;
+        } catch (Exception e) {
+            log.warn("Unable to read the component index of " + root + ", fall back to scanning", e);
+            return ABSENT;
+        }
+    }
+
+    private static InputStream open(ClassLoader classLoader, String root) throws IOException {
+        if (classLoader instanceof JarClassLoader jarClassLoader) {
+            return jarClassLoader.findResourceAsStream(Constants.COMPONENT_INDEX_FILE_NAME);
+        }
+
+        URLConnection connection = new URL(root + Constants.COMPONENT_INDEX_FILE_NAME).openConnection();
+        connection.setUseCaches(false);
+        return connection.getInputStream();
+    }
+
+    /**
+     * 解析索引文件
+     * @param inputStream
+     *        索引文件输入流
+     * @return io.github.gdrfgdrf.cuteframework.bean.index.ComponentIndex
+     *         索引
+     * @throws IOException
+     *         读取错误
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public static ComponentIndex read(InputStream inputStream) throws IOException {
+        Set<String> packages = new HashSet<>();
+        List<ComponentIndexEntry> entries = new ArrayList<>();
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+
+            String[] fields = line.split("\t");
+            if (fields.length < 2) {
+                continue;
+            }
+            if ("package".equals(fields[0])) {
+                packages.add(fields[1]);
+                continue;
+            }
+            if (!"component".equals(fields[0])) {
+                continue;
+            }
+
+            Map<String, String> attributes = new HashMap<>();
+            for (int i = 2; i < fields.length; i++) {
+                int separator = fields[i].indexOf('=');
+                if (separator < 0) {
+                    continue;
+                }
+                attributes.put(fields[i].substring(0, separator), fields[i].substring(separator + 1));
+            }
+            entries.add(new ComponentIndexEntry(fields[1], attributes));
+        }
+
+        return new ComponentIndex(packages, entries);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.bean.index;
+
+import io.github.gdrfgdrf.cuteframework.bean.annotation.Order;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * Bean 类索引中的一条记录，代表着一个 Bean 类
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+@Getter
+public class ComponentIndexEntry {
+    /**
+     * Bean 类的二进制名称，可直接提供给 {@link Class#forName(String, boolean, ClassLoader)}
+     */
+    private final String className;
+    /**
+     * 该记录的所有属性，例如 name 和 order
+     */
+    private final Map<String, String> attributes;
+
+    public ComponentIndexEntry(String className, Map<String, String> attributes) {
+        this.className = className;
+        this.attributes = attributes;
+    }
+
+    /**
+     * 获取编译时解析出来的 Bean 名称
+     * @return java.lang.String
+     *         Bean 名称
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public String getName() {
+        return attributes.get("name");
+    }
+
+    /**
+     * 获取编译时解析出来的 {@link Order} 值
+     * @return java.lang.Integer
+     *         {@link Order} 值，Bean 类没有 {@link Order} 注解时返回 null
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public Integer getOrder() {
+        String order = attributes.get("order");
+        if (order == null) {
+            return null;
+        }
+        return Integer.parseInt(order);
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.bean.inject;
+
+import io.github.gdrfgdrf.cuteframework.bean.annotation.Inject;
+import io.github.gdrfgdrf.cuteframework.bean.exception.BeanInjectionException;
+import io.github.gdrfgdrf.cuteframework.classinjector.ClassInjector;
+import lombok.Getter;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bean 类的注入计划，每个 Bean 类只会计算一次并缓存在 {@link ClassValue} 中，包括：
+ * 1. 被 {@link Inject} 注解的构造函数的参数类型以及每个参数的注入点，没有时为 null，
+ *    Bean 类注册了类注入器时由类注入器负责创建实例，此时不进行构造函数注入
+ * 2. 所有被 {@link Inject} 注解的字段（包括父类的字段，父类在前）的注入点以及对应的 {@link VarHandle}
+ *
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+public class InjectionPlan {
+    private static final InjectionPlan EMPTY = new InjectionPlan(null, null, List.of(), List.of(), List.of());
+
+    private static final ClassValue<Object> PLAN_CACHE = new ClassValue<>() {
+        @Override
+        protected Object computeValue(Class<?> type) {
+            try {
+                return create(type);
+            } catch (BeanInjectionException e) {
+                return e;
+            } catch (IllegalAccessException e) {
+                return new BeanInjectionException(type, "fields", e.getMessage());
+            }
+        }
+    };
+
+    /**
+     * 该计划所属的 Bean 类
+     */
+    private final Class<?> beanClass;
+    /**
+     * 需要注入的构造函数的参数类型，不需要构造函数注入时为 null
+     */
+    @Getter
+    private final Class<?>[] constructorParameterTypes;
+    /**
+     * 构造函数每个参数的注入点
+     */
+    @Getter
+    private final List<InjectionPoint> constructorInjectionPoints;
+    /**
+     * 每个字段的注入点
+     */
+    @Getter
+    private final List<InjectionPoint> fieldInjectionPoints;
+    /**
+     * 每个字段的 {@link VarHandle}，与 {@link InjectionPlan#fieldInjectionPoints} 一一对应
+     */
+    private final List<VarHandle> fieldHandles;
+
+    private InjectionPlan(
+            Class<?> beanClass,
+            Class<?>[] constructorParameterTypes,
+            List<InjectionPoint> constructorInjectionPoints,
+            List<InjectionPoint> fieldInjectionPoints,
+            List<VarHandle> fieldHandles
+    ) {
+        this.beanClass = beanClass;
+        this.constructorParameterTypes = constructorParameterTypes;
+        this.constructorInjectionPoints = constructorInjectionPoints;
+        this.fieldInjectionPoints = fieldInjectionPoints;
+        this.fieldHandles = fieldHandles;
+    }
+
+    /**
+     * 获取 Bean 类的注入计划
+     * @param beanClass
+     *        Bean 类
+     * @return io.github.gdrfgdrf.cuteframework.bean.inject.InjectionPlan
+     *         注入计划
+     * @throws BeanInjectionException
+     *         Bean 类的注入声明不合法时抛出
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public static InjectionPlan get(Class<?> beanClass) throws BeanInjectionException {
+        Object plan = PLAN_CACHE.get(beanClass);
+        if (plan instanceof BeanInjectionException e) {
+            throw e;
+        }
+        return (InjectionPlan) plan;
+    }
+
+    /**
+     * 是否需要构造函数注入，Bean 类注册了类注入器时总是不需要
+     * @return boolean
+     *         是否需要构造函数注入
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public boolean hasConstructorInjection() {
+        return constructorParameterTypes != null && !ClassInjector.getInstance().hasInjector(beanClass);
+    }
+
+    /**
+     * 获取所有注入点，需要构造函数注入时构造函数参数在前
+     * @return java.util.List<io.github.gdrfgdrf.cuteframework.bean.inject.InjectionPoint>
+     *         所有注入点
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public List<InjectionPoint> getInjectionPoints() {
+        if (!hasConstructorInjection()) {
+            return fieldInjectionPoints;
+        }
+        List<InjectionPoint> result = new ArrayList<>(constructorInjectionPoints);
+        result.addAll(fieldInjectionPoints);
+        return result;
+    }
+
+    /**
+     * 向 Bean 实例的字段注入依赖
+     * @param bean
+     *        Bean 实例
+     * @param values
+     *        依赖，与 {@link InjectionPlan#fieldInjectionPoints} 一一对应
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public void injectFields(Object bean, Object[] values) {
+        for (int i = 0; i < values.length; i++) {
+            fieldHandles.get(i).set(bean, values[i]);
+        }
+    }
+
+    private static InjectionPlan create(Class<?> beanClass) throws BeanInjectionException, IllegalAccessException {
+        Constructor<?> constructor = findInjectConstructor(beanClass);
+
+        Class<?>[] constructorParameterTypes = null;
+        List<InjectionPoint> constructorInjectionPoints = List.of();
+        if (constructor != null) {
+            constructorParameterTypes = constructor.getParameterTypes();
+            List<InjectionPoint> points = new ArrayList<>();
+            for (Parameter parameter : constructor.getParameters()) {
+                Inject inject = parameter.getAnnotation(Inject.class);
+                points.add(new InjectionPoint(
+                        parameter.getType(),
+                        inject == null ? "" : inject.name(),
+                        "constructor parameter " + parameter.getName()
+                ));
+            }
+            constructorInjectionPoints = List.copyOf(points);
+        }
+
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> clazz = beanClass; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            hierarchy.add(0, clazz);
+        }
+
+        List<InjectionPoint> fieldInjectionPoints = new ArrayList<>();
+        List<VarHandle> fieldHandles = new ArrayList<>();
+        for (Class<?> clazz : hierarchy) {
+            MethodHandles.Lookup lookup = null;
+            for (Field field : clazz.getDeclaredFields()) {
+                Inject inject = field.getAnnotation(Inject.class);
+                if (inject == null) {
+                    continue;
+                }
+                if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+                    throw new BeanInjectionException(beanClass, "field " + field.getName(), "the field must not be static or final");
+                }
+
+                if (lookup == null) {
+                    lookup = MethodHandles.privateLookupIn(clazz, MethodHandles.lookup());
+                }
+                fieldInjectionPoints.add(new InjectionPoint(field.getType(), inject.name(), "field " + field.getName()));
+                fieldHandles.add(lookup.unreflectVarHandle(field));
+            }
+        }
+
+        if (constructor == null && fieldInjectionPoints.isEmpty()) {
+            return EMPTY;
+        }
+        return new InjectionPlan(
+                beanClass,
+                constructorParameterTypes,
+                constructorInjectionPoints,
+                List.copyOf(fieldInjectionPoints),
+                List.copyOf(fieldHandles)
+        );
+    }
+
+    /**
+     * 查找被 {@link Inject} 注解的构造函数，没有注解的构造函数不会被用于注入
+     * @param beanClass
+     *        Bean 类
+     * @return java.lang.reflect.Constructor<?>
+     *         需要注入的构造函数，不需要构造函数注入时为 null
+     * @throws BeanInjectionException
+     *         存在多个被 {@link Inject} 注解的构造函数时抛出
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private static Constructor<?> findInjectConstructor(Class<?> beanClass) throws BeanInjectionException {
+        Constructor<?>[] constructors = beanClass.getDeclaredConstructors();
+
+        Constructor<?> result = null;
+        for (Constructor<?> constructor : constructors) {
+            if (!constructor.isAnnotationPresent(Inject.class)) {
+                continue;
+            }
+            if (result != null) {
+                throw new BeanInjectionException(beanClass, "constructor", "more than one constructor is annotated with @Inject");
+            }
+            result = constructor;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.bean.inject;
+
+import io.github.gdrfgdrf.cuteframework.bean.annotation.Inject;
+import io.github.gdrfgdrf.cuteframework.utils.StringUtils;
+
+/**
+ * 注入点，即一个被 {@link Inject} 注解的字段或需要注入的构造函数参数
+ * @param type
+ *        需要的类型
+ * @param name
+ *        需要的 Bean 名称，为空时按照类型注入
+ * @param target
+ *        注入的目标，用于错误信息
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+public record InjectionPoint(Class<?> type, String name, String target) {
+    /**
+     * 是否按照名称注入
+     * @return boolean
+     *         是否按照名称注入
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public boolean isByName() {
+        return !StringUtils.isBlank(name);
+    }
+}
@@ -16,16 +16,22 @@
 
 package io.github.gdrfgdrf.cuteframework.bean.resolver;
 
+import io.github.gdrfgdrf.cuteframework.bean.resolver.method.base.BeanMethod;
 import io.github.gdrfgdrf.cuteframework.bean.resolver.method.base.BeanMethodResolver;
 import io.github.gdrfgdrf.cuteframework.bean.resolver.method.exception.BeanMethodResolverException;
+import io.github.gdrfgdrf.cuteframework.bean.snapshot.StartupSnapshot;
 import io.github.gdrfgdrf.cuteframework.utils.asserts.AssertUtils;
 import io.github.gdrfgdrf.cuteframework.utils.asserts.exception.AssertNotNullException;
 import io.github.gdrfgdrf.cuteframework.bean.BeanManager;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -43,6 +49,11 @@ public class BeanMethodResolverManager {
      * Bean 内方法所使用的注解类型到 Bean 方法解析器的映射
      */
     private final Map<Class<? extends Annotation>, BeanMethodResolver> BEAN_METHOD_RESOLVER_MAP = new ConcurrentHashMap<>();
+    /**
+     * Bean 类到其解析计划的缓存，解析计划为 Bean 类中所有需要解析的方法与对应的 Bean 方法解析器
+     */
+    private final ResolutionPlanCache<List<MethodResolution>> RESOLUTION_PLAN_CACHE =
+            new ResolutionPlanCache<>(this::createResolutionPlan);
 
     private BeanMethodResolverManager() {}
 
@@ -75,6 +86,7 @@ public class BeanMethodResolverManager {
         AssertUtils.notNull("bean method annotation type", beanAnnotationType);
         AssertUtils.notNull("bean method resolver", resolver);
         BEAN_METHOD_RESOLVER_MAP.put(beanAnnotationType, resolver);
+        RESOLUTION_PLAN_CACHE.invalidate();
     }
 
     /**
@@ -89,10 +101,23 @@ public class BeanMethodResolverManager {
     public void removeBeanMethodResolver(Class<? extends Annotation> beanAnnotationType) throws AssertNotNullException {
         AssertUtils.notNull("bean method annotation type", beanAnnotationType);
         BEAN_METHOD_RESOLVER_MAP.remove(beanAnnotationType);
+        RESOLUTION_PLAN_CACHE.invalidate();
     }
 
     /**
-     * 获取并调用对应的 Bean 方法解析器
+     * 获取已注册 Bean 方法解析器的注解类型
+     * @return java.util.Set<java.lang.Class<? extends java.lang.annotation.Annotation>>
+     *         注解类型的快照
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public Set<Class<? extends Annotation>> getBeanAnnotationTypes() {
+        return Set.copyOf(BEAN_METHOD_RESOLVER_MAP.keySet());
+    }
+
+    /**
+     * 获取并调用对应的 Bean 方法解析器，同一个 Bean 中需要同一个解析器的方法会按照声明顺序一起交给
+     * {@link BeanMethodResolver#resolveAll(List)}，每个解析器对每个 Bean 只会被调用一次
      * @param bean
 	 *        Bean 实例
      * @throws AssertNotNullException
@@ -105,29 +130,103 @@ public class BeanMethodResolverManager {
     public void resolve(Object bean) throws AssertNotNullException, BeanMethodResolverException {
         AssertUtils.notNull("bean", bean);
 
-        Method[] methods = Arrays.stream(bean.getClass().getDeclaredMethods())
-                .filter(method -> {
-                    Annotation[] annotations = method.getAnnotations();
-                    return Arrays.stream(annotations).anyMatch(annotation ->
-                            BEAN_METHOD_RESOLVER_MAP.containsKey(annotation.annotationType()));
-                })
-                .toArray(Method[]::new);
+        Map<BeanMethodResolver, List<BeanMethod>> batches = new LinkedHashMap<>();
+        for (MethodResolution resolution : RESOLUTION_PLAN_CACHE.get(bean.getClass())) {
+            batches.computeIfAbsent(resolution.resolver(), key -> new ArrayList<>())
+                    .add(new BeanMethod(bean, resolution.method()));
+        }
 
-        for (Method method : methods) {
-            Annotation[] annotations = method.getAnnotations();
+        for (Map.Entry<BeanMethodResolver, List<BeanMethod>> batch : batches.entrySet()) {
+            try {
+                batch.getKey().resolveAll(batch.getValue());
+            } catch (Exception e) {
+                throw new BeanMethodResolverException(bean, batch.getKey(), e);
+            }
+        }
+    }
+
+    /**
+     * 计算 Bean 类的解析计划，即 Bean 类中声明的方法上每个拥有 Bean 方法解析器的注解所对应的解析器与方法
+     * @param beanClass
+     *        Bean 类
+     * @return java.util.List<io.github.gdrfgdrf.cuteframework.bean.resolver.BeanMethodResolverManager.MethodResolution>
+     *         解析计划
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private List<MethodResolution> createResolutionPlan(Class<?> beanClass) {
+        boolean snapshotEnabled = StartupSnapshot.isEnabled();
+        if (snapshotEnabled) {
+            List<MethodResolution> replayed = replayResolutionPlan(beanClass);
+            if (replayed != null) {
+                return replayed;
+            }
+        }
 
-            for (Annotation annotation : annotations) {
+        List<MethodResolution> plan = new ArrayList<>();
+        List<StartupSnapshot.MethodBinding> bindings = new ArrayList<>();
+        for (Method method : beanClass.getDeclaredMethods()) {
+            for (Annotation annotation : method.getAnnotations()) {
                 BeanMethodResolver resolver = BEAN_METHOD_RESOLVER_MAP.get(annotation.annotationType());
-                if (resolver == null) {
-                    continue;
+                if (resolver != null) {
+                    plan.add(new MethodResolution(resolver, method));
+                    bindings.add(new StartupSnapshot.MethodBinding(
+                            annotation.annotationType().getName(),
+                            StartupSnapshot.signature(method)
+                    ));
                 }
+            }
+        }
 
-                try {
-                    resolver.resolve(bean, method);
-                } catch (Exception e) {
-                    throw new BeanMethodResolverException(bean, resolver, e);
-                }
+        if (snapshotEnabled) {
+            StartupSnapshot.getInstance().recordMethodBindings(beanClass, bindings);
+        }
+        return List.copyOf(plan);
+    }
+
+    /**
+     * 通过 {@link StartupSnapshot} 重放 Bean 类的解析计划，方法按照签名查找，不再读取每个方法上的注解
+     * @param beanClass
+     *        Bean 类
+     * @return java.util.List<io.github.gdrfgdrf.cuteframework.bean.resolver.BeanMethodResolverManager.MethodResolution>
+     *         解析计划，快照中不存在该 Bean 类，某个方法已不存在或某个注解的 Bean 方法解析器尚未注册时返回 null
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private List<MethodResolution> replayResolutionPlan(Class<?> beanClass) {
+        List<StartupSnapshot.MethodBinding> bindings = StartupSnapshot.getInstance().getMethodBindings(beanClass);
+        if (bindings == null) {
+            return null;
+        }
+        if (bindings.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, BeanMethodResolver> resolverMap = new HashMap<>();
+        BEAN_METHOD_RESOLVER_MAP.forEach((annotationType, resolver) -> resolverMap.put(annotationType.getName(), resolver));
+        Map<String, Method> methodMap = new HashMap<>();
+        for (Method method : beanClass.getDeclaredMethods()) {
+            methodMap.put(StartupSnapshot.signature(method), method);
+        }
+
+        List<MethodResolution> plan = new ArrayList<>(bindings.size());
+        for (StartupSnapshot.MethodBinding binding : bindings) {
+            BeanMethodResolver resolver = resolverMap.get(binding.getAnnotation());
+            Method method = methodMap.get(binding.getMethod());
+            if (resolver == null || method == null) {
+                return null;
             }
+            plan.add(new MethodResolution(resolver, method));
         }
+        return List.copyOf(plan);
     }
+
+    /**
+     * 解析计划中的一项
+     * @param resolver
+     *        Bean 方法解析器
+     * @param method
+     *        需要解析的方法
+     */
+    private record MethodResolution(BeanMethodResolver resolver, Method method) {}
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.bean.resolver;
+
+import io.github.gdrfgdrf.cuteframework.bean.resolver.clazz.BeanClassResolverManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bean 类的解析计划缓存，供 {@link BeanMethodResolverManager} 与 {@link BeanClassResolverManager} 使用，
+ * 解析计划存储在 {@link ClassValue} 中，不会阻止插件的类被回收，
+ * 注册或移除解析器时只需要增加版本号，旧版本的解析计划将会在下次获取时重新计算
+ *
+ * @param <T> 解析计划
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+public class ResolutionPlanCache<T> {
+    /**
+     * 计算某个 Bean 类的解析计划
+     */
+    private final Function<Class<?>, T> planner;
+    /**
+     * 当前版本号
+     */
+    private final AtomicLong generation = new AtomicLong();
+    private final ClassValue<Holder<T>> PLAN_CACHE = new ClassValue<>() {
+        @Override
+        protected Holder<T> computeValue(Class<?> type) {
+            return new Holder<>();
+        }
+    };
+
+    public ResolutionPlanCache(Function<Class<?>, T> planner) {
+        this.planner = planner;
+    }
+
+    /**
+     * 获取 Bean 类的解析计划，版本号不一致时重新计算
+     * @param beanClass
+     *        Bean 类
+     * @return T
+     *         解析计划
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public T get(Class<?> beanClass) {
+        long currentGeneration = generation.get();
+        Holder<T> holder = PLAN_CACHE.get(beanClass);
+
+        Versioned<T> versioned = holder.versioned;
+        if (versioned != null && versioned.generation() == currentGeneration) {
+            return versioned.plan();
+        }
+
+        T plan = planner.apply(beanClass);
+        holder.versioned = new Versioned<>(currentGeneration, plan);
+        return plan;
+    }
+
+    /**
+     * 使所有解析计划失效
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    private static class Holder<T> {
+        private volatile Versioned<T> versioned;
+    }
+
+    private record Versioned<T>(long generation, T plan) {}
+}
@@ -16,13 +16,18 @@
 
 package io.github.gdrfgdrf.cuteframework.bean.resolver.clazz;
 
+import io.github.gdrfgdrf.cuteframework.bean.resolver.ResolutionPlanCache;
 import io.github.gdrfgdrf.cuteframework.bean.resolver.clazz.base.BeanClassResolver;
 import io.github.gdrfgdrf.cuteframework.bean.resolver.clazz.exception.BeanClassResolverException;
+import io.github.gdrfgdrf.cuteframework.bean.snapshot.StartupSnapshot;
 import io.github.gdrfgdrf.cuteframework.utils.asserts.AssertUtils;
 import io.github.gdrfgdrf.cuteframework.utils.asserts.exception.AssertNotNullException;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -38,6 +43,11 @@ public class BeanClassResolverManager {
      */
     private final Map<Class<? extends Annotation>, BeanClassResolver> BEAN_CLASS_RESOLVER_MAP =
             new ConcurrentHashMap<>();
+    /**
+     * Bean 类到其解析计划的缓存，解析计划为 Bean 类上所有注解对应的 Bean 类解析器
+     */
+    private final ResolutionPlanCache<List<BeanClassResolver>> RESOLUTION_PLAN_CACHE =
+            new ResolutionPlanCache<>(this::createResolutionPlan);
 
     private BeanClassResolverManager() {}
 
@@ -72,6 +82,7 @@ public class BeanClassResolverManager {
         AssertUtils.notNull("bean class annotation type", beanAnnotationType);
         AssertUtils.notNull("bean class resolver", resolver);
         BEAN_CLASS_RESOLVER_MAP.put(beanAnnotationType, resolver);
+        RESOLUTION_PLAN_CACHE.invalidate();
     }
 
     /**
@@ -86,6 +97,18 @@ public class BeanClassResolverManager {
     public void removeBeanClassResolver(Class<? extends Annotation> beanAnnotationType) throws AssertNotNullException {
         AssertUtils.notNull("bean class annotation type", beanAnnotationType);
         BEAN_CLASS_RESOLVER_MAP.remove(beanAnnotationType);
+        RESOLUTION_PLAN_CACHE.invalidate();
+    }
+
+    /**
+     * 获取已注册 Bean 类解析器的注解类型
+     * @return java.util.Set<java.lang.Class<? extends java.lang.annotation.Annotation>>
+     *         注解类型的快照
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public Set<Class<? extends Annotation>> getBeanAnnotationTypes() {
+        return Set.copyOf(BEAN_CLASS_RESOLVER_MAP.keySet());
     }
 
     /**
@@ -102,13 +125,7 @@ public class BeanClassResolverManager {
     public void resolve(Object bean) throws AssertNotNullException, BeanClassResolverException {
         AssertUtils.notNull("bean", bean);
 
-        Annotation[] annotations = bean.getClass().getAnnotations();
-        for (Annotation annotation : annotations) {
-            BeanClassResolver resolver = BEAN_CLASS_RESOLVER_MAP.get(annotation.annotationType());
-            if (resolver == null) {
-                continue;
-            }
-
+        for (BeanClassResolver resolver : RESOLUTION_PLAN_CACHE.get(bean.getClass())) {
             try {
                 resolver.resolve(bean);
             } catch (Exception e) {
@@ -116,4 +133,68 @@ public class BeanClassResolverManager {
             }
         }
     }
+
+    /**
+     * 计算 Bean 类的解析计划，即 Bean 类上每个拥有 Bean 类解析器的注解所对应的解析器
+     * @param beanClass
+     *        Bean 类
+     * @return java.util.List<io.github.gdrfgdrf.cuteframework.bean.resolver.clazz.base.BeanClassResolver>
+     *         解析计划
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private List<BeanClassResolver> createResolutionPlan(Class<?> beanClass) {
+        boolean snapshotEnabled = StartupSnapshot.isEnabled();
+        if (snapshotEnabled) {
+            List<BeanClassResolver> replayed = replayResolutionPlan(beanClass);
+            if (replayed != null) {
+                return replayed;
+            }
+        }
+
+        List<BeanClassResolver> plan = new ArrayList<>();
+        List<String> annotationNames = new ArrayList<>();
+        for (Annotation annotation : beanClass.getAnnotations()) {
+            BeanClassResolver resolver = BEAN_CLASS_RESOLVER_MAP.get(annotation.annotationType());
+            if (resolver != null) {
+                plan.add(resolver);
+                annotationNames.add(annotation.annotationType().getName());
+            }
+        }
+
+        if (snapshotEnabled) {
+            StartupSnapshot.getInstance().recordClassResolution(beanClass, annotationNames);
+        }
+        return List.copyOf(plan);
+    }
+
+    /**
+     * 通过 {@link StartupSnapshot} 重放 Bean 类的解析计划，不再读取 Bean 类上的注解
+     * @param beanClass
+     *        Bean 类
+     * @return java.util.List<io.github.gdrfgdrf.cuteframework.bean.resolver.clazz.base.BeanClassResolver>
+     *         解析计划，快照中不存在该 Bean 类或某个注解的 Bean 类解析器尚未注册时返回 null
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private List<BeanClassResolver> replayResolutionPlan(Class<?> beanClass) {
+        List<String> annotationNames = StartupSnapshot.getInstance().getClassResolution(beanClass);
+        if (annotationNames == null) {
+            return null;
+        }
+
+        List<BeanClassResolver> plan = new ArrayList<>(annotationNames.size());
+        for (String annotationName : annotationNames) {
+            BeanClassResolver resolver = BEAN_CLASS_RESOLVER_MAP.entrySet().stream()
+                    .filter(entry -> entry.getKey().getName().equals(annotationName))
+                    .map(Map.Entry::getValue)
+                    .findFirst()
+                    .orElse(null);
+            if (resolver == null) {
+                return null;
+            }
+            plan.add(resolver);
+        }
+        return List.copyOf(plan);
+    }
 }
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.bean.resolver.method.base;
+
+import java.lang.reflect.Method;
+
+/**
+ * 批量解析时需要交给 {@link BeanMethodResolver} 的一项
+ * @param bean
+ *        Bean 实例
+ * @param method
+ *        需要解析的方法
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+public record BeanMethod(Object bean, Method method) {
+}
@@ -24,6 +24,7 @@ import io.github.gdrfgdrf.cuteframework.exceptionhandler.ExceptionDispatcher;
 import io.github.gdrfgdrf.cuteframework.exceptionhandler.annotation.ExceptionHandler;
 
 import java.lang.reflect.Method;
+import java.util.List;
 
 /**
  * Bean 方法解析器，Bean 由 {@link BeanManager} 实例化完成后，
@@ -51,6 +52,23 @@ public abstract class BeanMethodResolver {
      */
     public abstract void resolve(Object bean, Method method) throws Exception;
 
+    /**
+     * 批量解析同一个 Bean 中需要该解析器的所有方法，
+     * 由 {@link BeanMethodResolverManager} 在该 Bean 创建完成后立即调用一次，
+     * 默认逐个调用 {@link BeanMethodResolver#resolve(Object, Method)}，
+     * 支持批量注册的解析器可以重写该方法
+     *
+     * @param beanMethods
+     *        同一个 Bean 实例与其中按照声明顺序排列的方法
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public void resolveAll(List<BeanMethod> beanMethods) throws Exception {
+        for (BeanMethod beanMethod : beanMethods) {
+            resolve(beanMethod.bean(), beanMethod.method());
+        }
+    }
+
     /**
      * 检查某个方法的参数是否是指定参数
      * @param method
@@ -0,0 +1,496 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.bean.snapshot;
+
+import io.github.gdrfgdrf.cuteframework.api.PluginManager;
+import io.github.gdrfgdrf.cuteframework.bean.BeanManager;
+import io.github.gdrfgdrf.cuteframework.bean.condition.ConditionEvaluator;
+import io.github.gdrfgdrf.cuteframework.bean.condition.annotation.ConditionalOnClass;
+import io.github.gdrfgdrf.cuteframework.bean.resolver.BeanMethodResolverManager;
+import io.github.gdrfgdrf.cuteframework.bean.resolver.clazz.BeanClassResolverManager;
+import io.github.gdrfgdrf.cuteframework.common.Constants;
+import io.github.gdrfgdrf.cuteframework.config.ConfigManager;
+import io.github.gdrfgdrf.cuteframework.config.common.Config;
+import io.github.gdrfgdrf.cuteframework.utils.FileUtils;
+import io.github.gdrfgdrf.cuteframework.utils.classfile.MetaAnnotationResolver;
+import io.github.gdrfgdrf.cuteframework.utils.jackson.JacksonUtils;
+import io.github.gdrfgdrf.cuteframework.utils.scan.ClassScanner;
+import io.github.gdrfgdrf.cuteframework.utils.scan.ScanResultCache;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 启动快照，在配置中启用 startupSnapshot 后，{@link BeanManager} 每次查找 Bean 类时都会记录排序后的 Bean 类，
+ * {@link BeanClassResolverManager} 与 {@link BeanMethodResolverManager} 会记录每个 Bean 类的解析计划，
+ * 即 Bean 类解析器的注解以及需要解析的方法与其 Bean 方法解析器的注解，
+ * 包括事件订阅者与异常处理方法的绑定，启动完成后保存在 {@link Constants#CACHE_FOLDER} 下
+ *
+ * 下次启动时，若这些包所在的每一个 jar 或类目录的指纹，提供了元注解以及 Bean 类解析器与 Bean 方法解析器注解的文件的指纹，
+ * 框架配置以及已注册的插件都没有变化，
+ * 且 {@link ConditionalOnClass} 检查过的类是否存在也都没有变化，
+ * 则直接按照快照中的顺序加载 Bean 类，不再读取索引或扫描，也不再计算条件与排序，
+ * 解析计划也直接按照快照中的方法签名获取方法，不再读取每个方法上的注解，
+ * 快照中的某一项无法使用时只会回退该项
+ *
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+@Slf4j
+public class StartupSnapshot {
+    /**
+     * 快照文件格式版本，格式变化时旧的快照文件将会被丢弃
+     */
+    private static final int VERSION = 3;
+
+    private static StartupSnapshot INSTANCE;
+
+    /**
+     * 包名组合到 Bean 类查找结果的映射
+     */
+    private final Map<String, Entry> ENTRY_MAP = new ConcurrentHashMap<>();
+    /**
+     * 本次启动中记录的包名组合到其类加载器的映射，保存时用于找到元注解与解析器注解所在的文件
+     */
+    private final Map<String, ClassLoader> RECORDED_CLASS_LOADER_MAP = new ConcurrentHashMap<>();
+    /**
+     * 已经确认可以重放的 Bean 类名到其 Bean 类解析器注解的映射
+     */
+    private final Map<String, List<String>> REPLAY_CLASS_RESOLUTION_MAP = new ConcurrentHashMap<>();
+    /**
+     * 已经确认可以重放的 Bean 类名到其需要解析的方法的映射
+     */
+    private final Map<String, List<MethodBinding>> REPLAY_METHOD_BINDING_MAP = new ConcurrentHashMap<>();
+    /**
+     * 本次启动中计算得到的 Bean 类名到其 Bean 类解析器注解的映射
+     */
+    private final Map<String, List<String>> CLASS_RESOLUTION_MAP = new ConcurrentHashMap<>();
+    /**
+     * 本次启动中计算得到的 Bean 类名到其需要解析的方法的映射
+     */
+    private final Map<String, List<MethodBinding>> METHOD_BINDING_MAP = new ConcurrentHashMap<>();
+    private final File file;
+    private volatile boolean dirty;
+
+    private StartupSnapshot(File file) {
+        this.file = file;
+    }
+
+    public static synchronized StartupSnapshot getInstance() {
+        if (INSTANCE == null) {
+            INSTANCE = new StartupSnapshot(new File(
+                    Constants.CACHE_FOLDER + "cute-framework/" + Constants.STARTUP_SNAPSHOT_FILE_NAME
+            ));
+            INSTANCE.load();
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * 是否启用启动快照，框架配置还未加载时不启用
+     * @return boolean
+     *         是否启用
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public static boolean isEnabled() {
+        Config config = ConfigManager.getInstance().getConfig();
+        return config != null && config.isStartupSnapshot();
+    }
+
+    /**
+     * 重放某些包下的 Bean 类，
+     * 成功时这些 Bean 类的解析计划也将可以被 {@link StartupSnapshot#getClassResolution(Class)} 等方法获取
+     * @param classLoader
+     *        类加载器
+     * @param packageNames
+     *        包名
+     * @return java.util.Map<java.lang.String, java.util.Set<java.lang.Class<?>>>
+     *         包名到排序后的 Bean 类的映射，快照不存在或已经失效时返回 null
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public Map<String, Set<Class<?>>> replayComponents(ClassLoader classLoader, List<String> packageNames) {
+        Entry entry = ENTRY_MAP.get(toKey(packageNames));
+        if (entry == null) {
+            return null;
+        }
+
+        try {
+            if (!entry.getEnvironment().equals(environment()) || !isUpToDate(entry, classLoader, packageNames)) {
+                return null;
+            }
+            for (Map.Entry<String, Boolean> classCondition : entry.getClassConditions().entrySet()) {
+                if (ConditionEvaluator.isClassPresent(classLoader, classCondition.getKey()) != classCondition.getValue()) {
+                    return null;
+                }
+            }
+
+            Map<String, Set<Class<?>>> result = new LinkedHashMap<>();
+            for (String packageName : packageNames) {
+                Set<Class<?>> components = new LinkedHashSet<>();
+                for (String className : entry.getComponents().getOrDefault(packageName, List.of())) {
+                    components.add(Class.forName(className, false, classLoader));
+                }
+                result.put(packageName, components);
+            }
+
+            REPLAY_CLASS_RESOLUTION_MAP.putAll(entry.getClassResolutions());
+            REPLAY_METHOD_BINDING_MAP.putAll(entry.getMethodBindings());
+            return result;
+        } catch (Exception e) {
+            log.warn("Unable to replay the startup snapshot of " + packageNames + ", they will be rediscovered", e);
+            return null;
+        }
+    }
+
+    /**
+     * 记录某些包下排序后的 Bean 类
+     * @param classLoader
+     *        类加载器
+     * @param packageNames
+     *        包名
+     * @param components
+     *        包名到排序后的 Bean 类的映射
+     * @param classConditions
+     *        查找时 {@link ConditionalOnClass} 检查过的类名到其是否存在的映射
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public void recordComponents(
+            ClassLoader classLoader,
+            List<String> packageNames,
+            Map<String, Set<Class<?>>> components,
+            Map<String, Boolean> classConditions
+    ) {
+        try {
+            Map<String, List<String>> classNames = new LinkedHashMap<>();
+            components.forEach((packageName, classes) -> classNames.put(
+                    packageName,
+                    classes.stream().map(Class::getName).toList()
+            ));
+
+            RECORDED_CLASS_LOADER_MAP.put(toKey(packageNames), classLoader);
+            ENTRY_MAP.put(toKey(packageNames), new Entry(
+                    environment(),
+                    ClassScanner.fingerprint(classLoader, packageNames, ScanResultCache.isHashEnabled()),
+                    classConditions,
+                    classNames,
+                    new LinkedHashMap<>(),
+                    new LinkedHashMap<>()
+            ));
+            dirty = true;
+        } catch (IOException e) {
+            log.warn("Unable to record the startup snapshot of " + packageNames, e);
+        }
+    }
+
+    /**
+     * 获取快照中 Bean 类的 Bean 类解析器注解
+     * @param beanClass
+     *        Bean 类
+     * @return java.util.List<java.lang.String>
+     *         Bean 类解析器注解的类名，快照中不存在时为 null
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public List<String> getClassResolution(Class<?> beanClass) {
+        return REPLAY_CLASS_RESOLUTION_MAP.get(beanClass.getName());
+    }
+
+    /**
+     * 记录 Bean 类的 Bean 类解析器注解
+     * @param beanClass
+     *        Bean 类
+     * @param annotationNames
+     *        Bean 类解析器注解的类名
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public void recordClassResolution(Class<?> beanClass, List<String> annotationNames) {
+        CLASS_RESOLUTION_MAP.put(beanClass.getName(), List.copyOf(annotationNames));
+        dirty = true;
+    }
+
+    /**
+     * 获取快照中 Bean 类需要解析的方法
+     * @param beanClass
+     *        Bean 类
+     * @return java.util.List<io.github.gdrfgdrf.cuteframework.bean.snapshot.StartupSnapshot.MethodBinding>
+     *         需要解析的方法，快照中不存在时为 null
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public List<MethodBinding> getMethodBindings(Class<?> beanClass) {
+        return REPLAY_METHOD_BINDING_MAP.get(beanClass.getName());
+    }
+
+    /**
+     * 记录 Bean 类需要解析的方法
+     * @param beanClass
+     *        Bean 类
+     * @param bindings
+     *        需要解析的方法
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public void recordMethodBindings(Class<?> beanClass, List<MethodBinding> bindings) {
+        METHOD_BINDING_MAP.put(beanClass.getName(), List.copyOf(bindings));
+        dirty = true;
+    }
+
+    /**
+     * 将快照写入文件，本次启动中计算得到的解析计划将被归入包含该 Bean 类的那一项，
+     * 本次启动中记录的每一项还将加入元注解与解析器注解所在文件的指纹，此时所有的解析器都已注册，没有变化时不写入
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public synchronized void save() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+
+        for (Entry entry : ENTRY_MAP.values()) {
+            for (List<String> classNames : entry.getComponents().values()) {
+                for (String className : classNames) {
+                    List<String> classResolution = CLASS_RESOLUTION_MAP.get(className);
+                    if (classResolution != null) {
+                        entry.getClassResolutions().put(className, classResolution);
+                    }
+                    List<MethodBinding> methodBindings = METHOD_BINDING_MAP.get(className);
+                    if (methodBindings != null) {
+                        entry.getMethodBindings().put(className, methodBindings);
+                    }
+                }
+            }
+        }
+
+        boolean hash = ScanResultCache.isHashEnabled();
+        RECORDED_CLASS_LOADER_MAP.forEach((key, classLoader) -> {
+            Entry entry = ENTRY_MAP.get(key);
+            if (entry == null) {
+                return;
+            }
+            for (String path : dependencyFiles(classLoader)) {
+                try {
+                    entry.getFingerprints().putIfAbsent(path, fingerprint(new File(path), hash));
+                } catch (IOException e) {
+                    log.warn("Unable to fingerprint " + path + " for the startup snapshot of " + key, e);
+                }
+            }
+        });
+        RECORDED_CLASS_LOADER_MAP.clear();
+
+        try {
+            File folder = file.getParentFile();
+            if (folder != null && !folder.exists()) {
+                folder.mkdirs();
+            }
+
+            try (Writer writer = FileUtils.getWriter(file)) {
+                writer.write(JacksonUtils.writeJsonString(new SnapshotFile(VERSION, ENTRY_MAP)));
+            }
+        } catch (IOException e) {
+            log.warn("Unable to save the startup snapshot to " + file.getPath(), e);
+        }
+    }
+
+    private void load() {
+        if (!file.exists()) {
+            return;
+        }
+
+        try {
+            SnapshotFile snapshotFile = JacksonUtils.readFile(file, SnapshotFile.class);
+            if (snapshotFile.getVersion() != VERSION || snapshotFile.getEntries() == null) {
+                return;
+            }
+            ENTRY_MAP.putAll(snapshotFile.getEntries());
+        } catch (Exception e) {
+            log.warn("Unable to read the startup snapshot from " + file.getPath() + ", it will be rebuilt", e);
+        }
+    }
+
+    /**
+     * 快照中的指纹是否仍然与当前的文件一致，包所在的 jar 或类目录重新计算，
+     * 其余记录的文件即元注解与解析器注解所在的文件按照路径重新计算
+     * @param entry
+     *        快照中的一项
+     * @param classLoader
+     *        类加载器
+     * @param packageNames
+     *        包名
+     * @return boolean
+     *         是否一致
+     * @throws IOException
+     *         读取 jar 错误
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private static boolean isUpToDate(Entry entry, ClassLoader classLoader, List<String> packageNames) throws IOException {
+        boolean hash = ScanResultCache.isHashEnabled();
+        Map<String, ScanResultCache.Fingerprint> fingerprints = ClassScanner.fingerprint(classLoader, packageNames, hash);
+        for (String path : entry.getFingerprints().keySet()) {
+            if (!fingerprints.containsKey(path)) {
+                fingerprints.put(path, fingerprint(new File(path), hash));
+            }
+        }
+        return entry.getFingerprints().equals(fingerprints);
+    }
+
+    /**
+     * 获取可能影响 Bean 类查找结果与解析计划的其他文件，
+     * 即 {@link MetaAnnotationResolver} 读取过的元注解所在的文件，以及已注册的解析器注解所在的文件
+     * @param classLoader
+     *        类加载器
+     * @return java.util.Set<java.lang.String>
+     *         按照路径排序的文件路径
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private static Set<String> dependencyFiles(ClassLoader classLoader) {
+        Set<String> files = new TreeSet<>(MetaAnnotationResolver.getInstance(classLoader).getSourceFiles());
+
+        Set<Class<? extends Annotation>> annotationTypes = new HashSet<>(
+                BeanClassResolverManager.getInstance().getBeanAnnotationTypes()
+        );
+        annotationTypes.addAll(BeanMethodResolverManager.getInstance().getBeanAnnotationTypes());
+        for (Class<? extends Annotation> annotationType : annotationTypes) {
+            ClassLoader annotationClassLoader = annotationType.getClassLoader();
+            if (annotationClassLoader == null) {
+                continue;
+            }
+            URL url = annotationClassLoader.getResource(annotationType.getName().replace('.', '/') + ".class");
+            File file = url != null ? ClassScanner.locate(url) : null;
+            if (file != null) {
+                files.add(file.getPath());
+            }
+        }
+        return files;
+    }
+
+    /**
+     * 计算单个文件的指纹，文件不存在时为 null
+     */
+    private static ScanResultCache.Fingerprint fingerprint(File file, boolean hash) throws IOException {
+        return file.exists() ? ScanResultCache.fingerprint(file, hash) : null;
+    }
+
+    private static String toKey(List<String> packageNames) {
+        return String.join(",", packageNames);
+    }
+
+    /**
+     * 计算影响 Bean 类查找结果的环境，包括框架配置以及已注册的插件
+     * @return java.lang.String
+     *         环境的 SHA-256 哈希
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private static String environment() throws IOException {
+        String environment = JacksonUtils.writeJsonString(ConfigManager.getInstance().getConfig()) +
+                "\n" +
+                String.join(",", new TreeSet<>(PluginManager.getInstance().getPlugins().keySet()));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(environment.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * 方法的签名，由方法名与参数类型组成
+     * @param method
+     *        方法
+     * @return java.lang.String
+     *         方法的签名
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public static String signature(Method method) {
+        StringJoiner joiner = new StringJoiner(",", method.getName() + "(", ")");
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            joiner.add(parameterType.getName());
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * 解析计划中需要解析的一个方法
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MethodBinding {
+        /**
+         * Bean 方法解析器注解的类名
+         */
+        private String annotation;
+        /**
+         * 由 {@link StartupSnapshot#signature(Method)} 得到的方法签名
+         */
+        private String method;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        /**
+         * 由 {@link StartupSnapshot#environment()} 得到的环境哈希
+         */
+        private String environment;
+        /**
+         * jar 或类目录的路径到其指纹的映射，
+         * 还包括提供了元注解与解析器注解的 jar 或 class 文件，不存在的文件的指纹为 null
+         */
+        private Map<String, ScanResultCache.Fingerprint> fingerprints;
+        /**
+         * {@link ConditionalOnClass} 检查过的类名到其是否存在的映射
+         */
+        private Map<String, Boolean> classConditions;
+        /**
+         * 包名到排序后的 Bean 类名的映射
+         */
+        private Map<String, List<String>> components;
+        private Map<String, List<String>> classResolutions;
+        private Map<String, List<MethodBinding>> methodBindings;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SnapshotFile {
+        private int version;
+        private Map<String, Entry> entries;
+    }
+}
@@ -19,6 +19,9 @@ package io.github.gdrfgdrf.cuteframework.classinjector;
 import io.github.gdrfgdrf.cuteframework.utils.asserts.AssertUtils;
 import io.github.gdrfgdrf.cuteframework.utils.asserts.exception.AssertNotNullException;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Map;
@@ -39,10 +42,26 @@ import java.util.concurrent.ConcurrentHashMap;
 public class ClassInjector {
     private static ClassInjector INSTANCE;
 
+    /**
+     * createInstance 方法的统一类型，(Object, Class[], Object[])Object
+     */
+    private static final MethodType CREATE_INSTANCE_METHOD_TYPE =
+            MethodType.methodType(Object.class, Object.class, Class[].class, Object[].class);
+
     /**
      * createInstance 方法需要的类型到 createInstance 方法的映射，
+     * createInstance 方法在注册时便被转换为 {@link MethodHandle}，调用时不再需要反射
      */
-    private final Map<Class<?>, Method> CREATE_INSTANCE_METHOD_MAP = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Injector> CREATE_INSTANCE_METHOD_MAP = new ConcurrentHashMap<>();
+    /**
+     * 没有注册类注入器的类所使用的实例工厂，每个类只会创建一次
+     */
+    private final ClassValue<InstanceFactory> INSTANCE_FACTORY = new ClassValue<>() {
+        @Override
+        protected InstanceFactory computeValue(Class<?> type) {
+            return new InstanceFactory(type);
+        }
+    };
 
     private ClassInjector() {}
 
@@ -84,7 +103,13 @@ public class ClassInjector {
         AssertUtils.notNull("injector", injector);
 
         Method method = injector.getDeclaredMethod("createInstance", type, Class[].class, Object[].class);
-        CREATE_INSTANCE_METHOD_MAP.put(type, method);
+        Injector result;
+        try {
+            result = new Injector(MethodHandles.lookup().unreflect(method).asType(CREATE_INSTANCE_METHOD_TYPE), null);
+        } catch (IllegalAccessException e) {
+            result = new Injector(null, e);
+        }
+        CREATE_INSTANCE_METHOD_MAP.put(type, result);
     }
 
     /**
@@ -102,6 +127,19 @@ public class ClassInjector {
         CREATE_INSTANCE_METHOD_MAP.remove(type);
     }
 
+    /**
+     * 是否为某个类型注册了类注入器
+     * @param type
+     *        createInstance 方法的返回类型
+     * @return boolean
+     *         是否注册了类注入器
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public boolean hasInjector(Class<?> type) {
+        return CREATE_INSTANCE_METHOD_MAP.containsKey(type);
+    }
+
     public Object createInstance(Class<?> clazz) throws
             AssertNotNullException,
             InvocationTargetException,
@@ -115,7 +153,7 @@ public class ClassInjector {
     /**
      * 通过动态代理创建一个对象，
      * 若找不到指定的动态代理创建对象的方法，
-     * 则使用 {@link java.lang.reflect.Constructor#newInstance(Object...)} 创建
+     * 则使用该类缓存在 {@link ClassValue} 中的构造函数 {@link MethodHandle} 创建，
      * 若找到则会调用创建对象的方法并返回
      *
      * @return java.lang.Object
@@ -133,7 +171,8 @@ public class ClassInjector {
      * @throws InvocationTargetException
      *         动态代理创建对象的方法出错或无参构造函数出错时抛出
      * @throws IllegalAccessException
-     *         可以找到动态代理创建对象的方法或无参构造函数，但因为访问权限而无法使用
+     *         可以找到动态代理创建对象的方法或无参构造函数，但因为访问权限而无法使用，
+     *         与反射调用相同，只有公开的方法与构造函数才能被使用
      * @author gdrfgdrf
      * @since v1_0_0_20240525_RELEASE
      */
@@ -146,17 +185,34 @@ public class ClassInjector {
     {
         AssertUtils.notNull("class", clazz);
 
-        Method method = CREATE_INSTANCE_METHOD_MAP.get(clazz);
-        if (method == null) {
+        Injector injector = CREATE_INSTANCE_METHOD_MAP.get(clazz);
+        if (injector == null) {
+            InstanceFactory factory = INSTANCE_FACTORY.get(clazz);
             if (argumentTypes == null || arguments == null || arguments.length == 0) {
-                return clazz.getDeclaredConstructor().newInstance();
+                return factory.create();
             }
-            return clazz.getDeclaredConstructor(argumentTypes).newInstance(arguments);
+            return factory.create(argumentTypes, arguments);
         }
 
-        return method.invoke(null, clazz, argumentTypes, arguments);
+        if (injector.accessException() != null) {
+            throw injector.accessException();
+        }
+        try {
+            return injector.methodHandle().invokeExact((Object) clazz, argumentTypes, arguments);
+        } catch (Throwable e) {
+            // 参数的类型转换只有 clazz 转换为 createInstance 的参数类型，注册时的类型保证其一定成功，因此这里只会捕获到 createInstance 本身抛出的异常
+            throw new InvocationTargetException(e);
+        }
     }
 
-
-
+    /**
+     * 已注册的类注入器，createInstance 方法因为访问权限而无法使用时，
+     * 与之前通过反射调用时相同，注册仍然成功，但每次创建对象时都会抛出该异常
+     * @param methodHandle
+     *        createInstance 方法，无法访问时为 null
+     * @param accessException
+     *        无法访问 createInstance 方法的原因，可以访问时为 null
+     */
+    private record Injector(MethodHandle methodHandle, IllegalAccessException accessException) {
+    }
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.classinjector;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 某个类的实例工厂，由 {@link ClassInjector} 通过 {@link ClassValue} 为每个类缓存一个，
+ * 构造函数只会被查找一次并转换为 {@link MethodHandle}，之后的实例化不再需要反射或查找，
+ * 访问权限与 {@link java.lang.reflect.Constructor#newInstance(Object...)} 相同，不会访问无法访问的构造函数，
+ * 只有构造函数本身抛出的异常会被包装为 {@link InvocationTargetException}
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+class InstanceFactory {
+    private static final MethodType DEFAULT_CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private final Class<?> clazz;
+    /**
+     * 无参构造函数，类型为 ()Object
+     */
+    private volatile MethodHandle defaultConstructor;
+    /**
+     * 构造函数参数类型到构造函数的映射，构造函数类型为 (Object[])Object
+     */
+    private final Map<List<Class<?>>, MethodHandle> CONSTRUCTOR_MAP = new ConcurrentHashMap<>();
+
+    InstanceFactory(Class<?> clazz) {
+        this.clazz = clazz;
+    }
+
+    Object create() throws
+            NoSuchMethodException,
+            InvocationTargetException,
+            InstantiationException,
+            IllegalAccessException
+    {
+        MethodHandle constructor = defaultConstructor;
+        if (constructor == null) {
+            constructor = findConstructor().asType(DEFAULT_CONSTRUCTOR_TYPE);
+            defaultConstructor = constructor;
+        }
+
+        try {
+            return constructor.invokeExact();
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    Object create(Class<?>[] argumentTypes, Object[] arguments) throws
+            NoSuchMethodException,
+            InvocationTargetException,
+            InstantiationException,
+            IllegalAccessException
+    {
+        List<Class<?>> key = Arrays.asList(argumentTypes);
+        MethodHandle constructor = CONSTRUCTOR_MAP.get(key);
+        if (constructor == null) {
+            constructor = findConstructor(argumentTypes)
+                    .asSpreader(Object[].class, argumentTypes.length)
+                    .asType(CONSTRUCTOR_TYPE);
+            CONSTRUCTOR_MAP.putIfAbsent(Arrays.asList(argumentTypes.clone()), constructor);
+        }
+
+        if (arguments.length != argumentTypes.length) {
+            throw new IllegalArgumentException("wrong number of arguments: " + arguments.length + " expected: " + argumentTypes.length);
+        }
+        for (int i = 0; i < arguments.length; i++) {
+            if (!isAssignable(argumentTypes[i], arguments[i])) {
+                throw new IllegalArgumentException("argument type mismatch");
+            }
+        }
+        try {
+            return constructor.invokeExact(arguments);
+        } catch (Throwable e) {
+            // 参数的个数与类型已经检查过，因此这里只会捕获到构造函数本身抛出的异常
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    private MethodHandle findConstructor(Class<?>... argumentTypes) throws
+            NoSuchMethodException,
+            InstantiationException,
+            IllegalAccessException
+    {
+        if (clazz.isInterface() || Modifier.isAbstract(clazz.getModifiers())) {
+            throw new InstantiationException(clazz.getName());
+        }
+
+        return MethodHandles.lookup().findConstructor(clazz, MethodType.methodType(void.class, argumentTypes));
+    }
+
+    /**
+     * 参数实例是否可以传给该类型的参数，与反射调用的规则相同，基本类型的参数需要对应的包装类型实例
+     */
+    private static boolean isAssignable(Class<?> type, Object argument) {
+        if (!type.isPrimitive()) {
+            return argument == null || type.isInstance(argument);
+        }
+        return argument != null && MethodType.methodType(type).wrap().returnType().isInstance(argument);
+    }
+}
@@ -32,4 +32,13 @@ public class Constants {
     public static final String CONFIG_FOLDER = "config/";
     public static final String CONFIG_FILE_NAME = "config.json";
 
+    public static final String CACHE_FOLDER = "cache/";
+    public static final String SCAN_CACHE_FILE_NAME = "scan-cache.json";
+    public static final String STARTUP_SNAPSHOT_FILE_NAME = "startup-snapshot.json";
+
+    public static final String COMPONENT_INDEX_FILE_NAME = "META-INF/cute-framework/components.idx";
+    public static final String BEAN_FACTORY_SUFFIX = "$$BeanFactory";
+
+    public static final long DEFAULT_SHUTDOWN_TIMEOUT = 10000L;
+
 }
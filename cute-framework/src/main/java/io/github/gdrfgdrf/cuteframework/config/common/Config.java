@@ -17,6 +17,7 @@
 package io.github.gdrfgdrf.cuteframework.config.common;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.github.gdrfgdrf.cuteframework.common.Constants;
 import lombok.Data;
 
 /**
@@ -31,8 +32,56 @@ public class Config {
      */
     @JsonProperty(defaultValue = "chinese_simplified")
     private String language;
+    /**
+     * 是否将类路径扫描结果缓存到 {@link Constants#CACHE_FOLDER}
+     */
+    @JsonProperty(defaultValue = "true")
+    private boolean scanCache = true;
+    /**
+     * 扫描结果缓存是否校验 jar 的内容哈希，关闭时只校验路径，大小与修改时间
+     */
+    @JsonProperty(defaultValue = "false")
+    private boolean scanCacheHash = false;
+    /**
+     * 是否按照 Bean 之间的依赖关系并行创建互不依赖的 Bean
+     */
+    @JsonProperty(defaultValue = "false")
+    private boolean parallelBeanCreation = false;
+    /**
+     * 是否并行实例化管理器注解中声明的所有类，启用时管理器的 instantiate 方法需要是线程安全的
+     */
+    @JsonProperty(defaultValue = "false")
+    private boolean parallelManagerInstantiation = false;
+    /**
+     * 是否并行读取插件文件并实例化插件主类，插件仍然按照名称的顺序注册
+     */
+    @JsonProperty(defaultValue = "false")
+    private boolean parallelPluginLoading = false;
+    /**
+     * 是否并行改变同一依赖层级中的插件的状态，插件之间的依赖顺序不受影响
+     */
+    @JsonProperty(defaultValue = "false")
+    private boolean parallelPluginLifecycle = false;
+    /**
+     * 程序关闭时每一步所允许的最长时间，单位为毫秒，超时后不再等待并继续下一步
+     */
+    @JsonProperty(defaultValue = "10000")
+    private long shutdownTimeout = Constants.DEFAULT_SHUTDOWN_TIMEOUT;
+    /**
+     * 是否在启动完成后将 Bean 类的查找结果与解析计划保存为启动快照，并在下次启动时重放
+     */
+    @JsonProperty(defaultValue = "false")
+    private boolean startupSnapshot = false;
 
     public static void reset(Config config) {
         config.language = "chinese_simplified";
+        config.scanCache = true;
+        config.scanCacheHash = false;
+        config.parallelBeanCreation = false;
+        config.parallelManagerInstantiation = false;
+        config.parallelPluginLoading = false;
+        config.parallelPluginLifecycle = false;
+        config.shutdownTimeout = Constants.DEFAULT_SHUTDOWN_TIMEOUT;
+        config.startupSnapshot = false;
     }
 }
@@ -87,6 +87,31 @@ public class ExceptionDispatcher {
         exceptionHandlers.add(exceptionHandleMethod);
     }
 
+    /**
+     * 批量注册异常处理方法，每个异常类型对应的方法只会被一次性添加到 {@link ExceptionDispatcher#EXCEPTION_HANDLER_MAP}
+     * @param exceptionHandlers
+     *        异常类型到异常处理方法的映射
+     * @throws AssertNotNullException
+     *         当 exceptionHandlers 为 null 时抛出
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public void registerExceptionHandlers(Map<Class<? extends Throwable>, List<Method>> exceptionHandlers)
+            throws AssertNotNullException
+    {
+        AssertUtils.notNull("exception handlers", exceptionHandlers);
+
+        for (Map.Entry<Class<? extends Throwable>, List<Method>> entry : exceptionHandlers.entrySet()) {
+            AssertUtils.notNull("exception type", entry.getKey());
+            AssertUtils.notNull("exception handle methods", entry.getValue());
+
+            EXCEPTION_HANDLER_MAP.computeIfAbsent(
+                    entry.getKey(),
+                    clazz -> new CopyOnWriteArrayList<>()
+            ).addAll(entry.getValue());
+        }
+    }
+
     /**
      * 移除移除处理器，会根据异常类型从 {@link ExceptionDispatcher#EXCEPTION_HANDLER_MAP} 中异常对应的异常处理方法
      * @param throwableType
@@ -17,6 +17,7 @@
 package io.github.gdrfgdrf.cuteframework.exceptionhandler.resolver;
 
 import io.github.gdrfgdrf.cuteframework.bean.resolver.method.annotation.BeanMethodResolverAnnotation;
+import io.github.gdrfgdrf.cuteframework.bean.resolver.method.base.BeanMethod;
 import io.github.gdrfgdrf.cuteframework.bean.resolver.method.base.BeanMethodResolver;
 import io.github.gdrfgdrf.cuteframework.exceptionhandler.ExceptionDispatcher;
 import io.github.gdrfgdrf.cuteframework.exceptionhandler.annotation.ExceptionHandler;
@@ -24,6 +25,10 @@ import io.github.gdrfgdrf.cuteframework.exceptionhandler.exception.ExceptionHand
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 解析所有 Bean 中拥有 {@link ExceptionHandler} 的所有方法，并将其注册到 {@link ExceptionDispatcher}
@@ -34,10 +39,7 @@ import java.lang.reflect.Modifier;
 public class ExceptionHandlerResolver extends BeanMethodResolver {
     @Override
     public void resolve(Object bean, Method method) throws Exception {
-        if (!Modifier.isStatic(method.getModifiers())) {
-            throw new ExceptionHandleMethodIsNotStaticException(bean.getClass(), method);
-        }
-        checkMethodArgument(method, Thread.class, Throwable.class);
+        check(bean, method);
 
         ExceptionHandler exceptionHandler = method.getAnnotation(ExceptionHandler.class);
         Class<? extends Throwable>[] support = exceptionHandler.support();
@@ -46,4 +48,34 @@ public class ExceptionHandlerResolver extends BeanMethodResolver {
             ExceptionDispatcher.getInstance().registerExceptionHandler(throwableType, method);
         }
     }
+
+    /**
+     * 先检查所有方法，再按照异常类型将方法分组后一次性注册到 {@link ExceptionDispatcher}，
+     * 任意一个方法不合法时不会注册任何方法
+     * @param beanMethods
+     *        同一个 Bean 实例与其中按照声明顺序排列的方法
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    @Override
+    public void resolveAll(List<BeanMethod> beanMethods) throws Exception {
+        Map<Class<? extends Throwable>, List<Method>> exceptionHandlers = new LinkedHashMap<>();
+        for (BeanMethod beanMethod : beanMethods) {
+            Method method = beanMethod.method();
+            check(beanMethod.bean(), method);
+
+            for (Class<? extends Throwable> throwableType : method.getAnnotation(ExceptionHandler.class).support()) {
+                exceptionHandlers.computeIfAbsent(throwableType, key -> new ArrayList<>()).add(method);
+            }
+        }
+
+        ExceptionDispatcher.getInstance().registerExceptionHandlers(exceptionHandlers);
+    }
+
+    private void check(Object bean, Method method) throws Exception {
+        if (!Modifier.isStatic(method.getModifiers())) {
+            throw new ExceptionHandleMethodIsNotStaticException(bean.getClass(), method);
+        }
+        checkMethodArgument(method, Thread.class, Throwable.class);
+    }
 }
@@ -0,0 +1,339 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.lifecycle;
+
+import io.github.gdrfgdrf.cuteframework.api.PluginManager;
+import io.github.gdrfgdrf.cuteframework.api.base.Plugin;
+import io.github.gdrfgdrf.cuteframework.api.common.PluginDescription;
+import io.github.gdrfgdrf.cuteframework.bean.BeanManager;
+import io.github.gdrfgdrf.cuteframework.bean.annotation.PreDestroy;
+import io.github.gdrfgdrf.cuteframework.bean.destroy.DestroyCallbacks;
+import io.github.gdrfgdrf.cuteframework.bean.holder.ThreadLocalBeanHolder;
+import io.github.gdrfgdrf.cuteframework.bean.holder.base.BeanHolder;
+import io.github.gdrfgdrf.cuteframework.common.Constants;
+import io.github.gdrfgdrf.cuteframework.config.ConfigManager;
+import io.github.gdrfgdrf.cuteframework.config.common.Config;
+import io.github.gdrfgdrf.cuteframework.utils.thread.NamedThreadFactory;
+import io.github.gdrfgdrf.cuteframework.utils.thread.ThreadPoolService;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+/**
+ * 关闭协调器，由 {@link ShutdownCoordinator#registerShutdownHook()} 注册为 JVM 关闭钩子，也可以直接调用
+ * {@link ShutdownCoordinator#shutdown()}，整个关闭流程只会执行一次，按照启动的相反顺序进行：
+ * 1. 调用插件的 Bean 的 {@link PreDestroy} 方法
+ * 2. 停止所有插件，即调用 {@link PluginManager#stopAllPlugin()}
+ * 3. 禁用所有插件，即调用 {@link PluginManager#disableAllPlugin()}
+ * 4. 调用其余 Bean 的 {@link PreDestroy} 方法
+ * 5. 关闭 {@link ThreadPoolService} 中的所有线程池
+ *
+ * 第一步与第四步中，一个 Bean 只有在所有依赖于它的 Bean 都处理结束后才会被处理，
+ * 互不依赖的 Bean 将会并行处理，某个 Bean 处理失败时只会记录错误，它所依赖的 Bean 仍然会被处理，
+ * 避免其持有的连接，文件等资源因为其他 Bean 的错误而无法被释放，
+ * 插件的处理顺序与失败时的行为由 {@link PluginManager} 决定，
+ * 每一步都在单独的线程池中执行，最多等待配置中的 shutdownTimeout，
+ * 超时后该线程池将被立即关闭，仍在执行的任务被中断，尚未开始的任务被跳过，然后进入下一步
+ *
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+@Slf4j
+public class ShutdownCoordinator {
+    private static ShutdownCoordinator INSTANCE;
+
+    private final AtomicBoolean registered = new AtomicBoolean();
+    private final AtomicBoolean shutdown = new AtomicBoolean();
+
+    private ShutdownCoordinator() {}
+
+    /**
+     * 单例模式，获取 {@link ShutdownCoordinator} 实例
+     * @return io.github.gdrfgdrf.cuteframework.lifecycle.ShutdownCoordinator
+     *         {@link ShutdownCoordinator} 实例
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public static ShutdownCoordinator getInstance() {
+        if (INSTANCE == null) {
+            INSTANCE = new ShutdownCoordinator();
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * 将 {@link ShutdownCoordinator#shutdown()} 注册为 JVM 关闭钩子，重复调用只会注册一次
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public void registerShutdownHook() {
+        if (registered.compareAndSet(false, true)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "CuteFramework-Shutdown"));
+        }
+    }
+
+    /**
+     * 执行关闭流程，只有第一次调用会生效，该方法不会抛出异常，每一步的错误都只会被记录
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public void shutdown() {
+        if (!shutdown.compareAndSet(false, true)) {
+            return;
+        }
+
+        long timeout = getTimeout();
+        try {
+            Set<ClassLoader> pluginClassLoaders = new HashSet<>();
+            for (Plugin plugin : PluginManager.getInstance().getPlugins().values()) {
+                PluginDescription pluginDescription = plugin.getPluginDescription();
+                if (pluginDescription != null && pluginDescription.getClassLoader() != null) {
+                    pluginClassLoaders.add(pluginDescription.getClassLoader());
+                }
+            }
+            Predicate<Class<?>> isPluginBean = beanClass -> pluginClassLoaders.contains(beanClass.getClassLoader());
+
+            destroyBeans(timeout, isPluginBean);
+            updatePlugins(timeout, "stop", PluginManager.getInstance()::stopAllPlugin);
+            updatePlugins(timeout, "disable", PluginManager.getInstance()::disableAllPlugin);
+            destroyBeans(timeout, isPluginBean.negate());
+        } catch (Exception e) {
+            log.error("Error occurred when shutting down", e);
+        } finally {
+            if (!ThreadPoolService.shutdown(timeout, TimeUnit.MILLISECONDS)) {
+                log.warn("Some thread pools did not terminate within " + timeout + " ms");
+            }
+        }
+    }
+
+    /**
+     * 调用满足条件的已创建的单例 Bean 的 {@link PreDestroy} 方法，
+     * 依赖于某个 Bean 的所有 Bean 都处理结束后才会处理该 Bean，无论它们是否处理成功
+     * @param timeout
+     *        该步骤的超时时间，单位为毫秒
+     * @param filter
+     *        Bean 类需要满足的条件
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private void destroyBeans(long timeout, Predicate<Class<?>> filter) throws Exception {
+        BeanManager beanManager = BeanManager.getInstance();
+        if (beanManager == null) {
+            return;
+        }
+
+        Map<String, Object> beans = new LinkedHashMap<>();
+        Map<String, DestroyCallbacks> callbacks = new HashMap<>();
+        for (String name : beanManager.getBeanNames()) {
+            BeanHolder holder = beanManager.getBeanHolder(name);
+            if (holder == null ||
+                    holder instanceof ThreadLocalBeanHolder ||
+                    !holder.isInstantiated() ||
+                    !filter.test(holder.getBeanClass())) {
+                continue;
+            }
+            DestroyCallbacks destroyCallbacks = DestroyCallbacks.get(holder.getBeanClass());
+            if (destroyCallbacks.isEmpty()) {
+                continue;
+            }
+            beans.put(name, holder.getBean());
+            callbacks.put(name, destroyCallbacks);
+        }
+        if (beans.isEmpty()) {
+            return;
+        }
+
+        Map<String, Set<String>> dependencies = new HashMap<>();
+        for (String name : beanManager.getBeanNames()) {
+            if (filter.test(beanManager.getBeanHolder(name).getBeanClass())) {
+                dependencies.put(name, beanManager.getDependencyNames(name));
+            }
+        }
+
+        runInReverseOrder(
+                timeout,
+                "destroy beans",
+                dependencies,
+                name -> {
+                    Object bean = beans.get(name);
+                    if (bean != null) {
+                        callbacks.get(name).invoke(bean);
+                    }
+                }
+        );
+    }
+
+    /**
+     * 在单独的线程池中更新所有插件的状态，顺序由 {@link PluginManager} 决定，
+     * 超时后中断更新并进入下一步
+     * @param timeout
+     *        该步骤的超时时间，单位为毫秒
+     * @param stepName
+     *        步骤名称
+     * @param update
+     *        更新所有插件状态的方法
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private void updatePlugins(long timeout, String stepName, Step update) {
+        ExecutorService executorService = newStepExecutorService();
+        try {
+            CompletableFuture.runAsync(() -> {
+                try {
+                    update.run();
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            }, executorService).get(timeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Timed out when trying to " + stepName + " plugins");
+        } catch (ExecutionException e) {
+            log.error("Error occurred when trying to " + stepName + " plugins", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * 按照依赖关系的相反顺序执行任务，一个节点在所有依赖于它的节点都执行结束后便会被提交到线程池，
+     * 因此互不依赖的节点将会并行执行，存在循环依赖时，环上第一个被访问到的节点不再等待环上的其他节点，
+     * 某个节点执行失败时只会记录错误，不影响它所依赖的节点，
+     * 到达超时时间后线程池将被立即关闭，仍未结束的节点被中断，尚未开始的节点被跳过
+     * @param timeout
+     *        整个步骤的超时时间，单位为毫秒
+     * @param stepName
+     *        步骤名称
+     * @param dependencies
+     *        每个节点到其依赖的节点的映射，不在映射的键中的依赖将被忽略
+     * @param task
+     *        需要对每个节点执行的任务
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private void runInReverseOrder(
+            long timeout,
+            String stepName,
+            Map<String, Set<String>> dependencies,
+            Task<String> task
+    ) {
+        Map<String, List<String>> dependents = new HashMap<>();
+        for (Map.Entry<String, Set<String>> entry : dependencies.entrySet()) {
+            for (String dependency : entry.getValue()) {
+                if (dependencies.containsKey(dependency)) {
+                    dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(entry.getKey());
+                }
+            }
+        }
+
+        ExecutorService executorService = newStepExecutorService();
+        Map<String, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+        try {
+            for (String node : new TreeSet<>(dependencies.keySet())) {
+                schedule(executorService, stepName, node, dependents, task, futures, new HashSet<>());
+            }
+
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                    .get(timeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            List<String> unfinished = futures.entrySet().stream()
+                    .filter(entry -> !entry.getValue().isDone())
+                    .map(Map.Entry::getKey)
+                    .toList();
+            log.warn("Timed out when trying to " + stepName + ", interrupt or skip: " + unfinished);
+        } catch (ExecutionException e) {
+            log.error("Error occurred when trying to " + stepName, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private CompletableFuture<Void> schedule(
+            ExecutorService executorService,
+            String stepName,
+            String node,
+            Map<String, List<String>> dependents,
+            Task<String> task,
+            Map<String, CompletableFuture<Void>> futures,
+            Set<String> visiting
+    ) {
+        CompletableFuture<Void> future = futures.get(node);
+        if (future != null) {
+            return future;
+        }
+        if (!visiting.add(node)) {
+            log.warn("Circular dependency found when trying to " + stepName + ": " + node);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        List<CompletableFuture<Void>> waiting = new ArrayList<>();
+        for (String dependent : dependents.getOrDefault(node, List.of())) {
+            waiting.add(schedule(executorService, stepName, dependent, dependents, task, futures, visiting));
+        }
+        visiting.remove(node);
+
+        future = futures.get(node);
+        if (future != null) {
+            return future;
+        }
+        future = CompletableFuture.allOf(waiting.toArray(CompletableFuture[]::new))
+                .thenRunAsync(() -> {
+                    try {
+                        task.run(node);
+                    } catch (Exception e) {
+                        // 只记录错误，正常结束该节点，它所依赖的节点仍然需要释放资源
+                        log.error("Error occurred when trying to " + stepName + ": " + node, e);
+                    }
+                }, executorService);
+        futures.put(node, future);
+        return future;
+    }
+
+    private ExecutorService newStepExecutorService() {
+        return Executors.newCachedThreadPool(new NamedThreadFactory(true));
+    }
+
+    private long getTimeout() {
+        Config config = ConfigManager.getInstance().getConfig();
+        if (config == null || config.getShutdownTimeout() <= 0) {
+            return Constants.DEFAULT_SHUTDOWN_TIMEOUT;
+        }
+        return config.getShutdownTimeout();
+    }
+
+    /**
+     * 关闭流程中的一步
+     */
+    @FunctionalInterface
+    private interface Step {
+        void run() throws Exception;
+    }
+
+    /**
+     * 对某个节点执行的任务
+     */
+    @FunctionalInterface
+    private interface Task<N> {
+        void run(N node) throws Exception;
+    }
+}
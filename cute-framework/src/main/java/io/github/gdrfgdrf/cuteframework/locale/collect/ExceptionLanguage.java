@@ -33,6 +33,11 @@ public class ExceptionLanguage implements LanguageCollect {
     public static LanguageString BEAN_NAME_CONFLICT;
     public static LanguageString BEAN_CLASS_RESOLVER_PROCESSING_ERROR;
     public static LanguageString BEAN_METHOD_RESOLVER_PROCESSING_ERROR;
+    public static LanguageString BEAN_DEPENDENCY_NOT_FOUND;
+    public static LanguageString BEAN_CIRCULAR_DEPENDENCY;
+    public static LanguageString BEAN_CREATION_ERROR;
+    public static LanguageString BEAN_NOT_UNIQUE;
+    public static LanguageString BEAN_INJECTION_ERROR;
 
     public static LanguageString STACK_ILLEGAL_OPERATION;
     public static LanguageString STACK_ILLEGAL_ARGUMENT;
@@ -44,4 +49,8 @@ public class ExceptionLanguage implements LanguageCollect {
     public static LanguageString PLUGIN_MAIN_CLASS_EXTEND_ERROR;
     public static LanguageString PLUGIN_NAME_CONFLICT;
     public static LanguageString PLUGIN_ILLEGAL_STATE_CHANGE;
+    public static LanguageString PLUGIN_STATE_CHANGE_FAILED;
+    public static LanguageString PLUGIN_DEPENDENCY_UNAVAILABLE;
+    public static LanguageString PLUGIN_DEPENDENT_ACTIVE;
+    public static LanguageString PLUGIN_CIRCULAR_DEPENDENCY;
 }
@@ -32,6 +32,11 @@ class ExceptionLanguage implements LanguageBlock {
     public static final LanguageString BEAN_NAME_CONFLICT = new LanguageString("无法创建 Bean 类 {}，因为已经有了一个同名的 Bean 实例存在");
     public static final LanguageString BEAN_CLASS_RESOLVER_PROCESSING_ERROR = new LanguageString("Bean 类解析器 {} 处理 Bean {} 是发生错误：{}");
     public static final LanguageString BEAN_METHOD_RESOLVER_PROCESSING_ERROR = new LanguageString("Bean 方法解析器 {} 处理 Bean {} 时发生错误：{}");
+    public static final LanguageString BEAN_DEPENDENCY_NOT_FOUND = new LanguageString("无法创建 Bean 类 {}，因为其依赖的 Bean {} 不存在");
+    public static final LanguageString BEAN_CIRCULAR_DEPENDENCY = new LanguageString("无法创建 Bean 类 {}，因为它们之间存在循环依赖");
+    public static final LanguageString BEAN_CREATION_ERROR = new LanguageString("创建 Bean {} 时发生错误：{}");
+    public static final LanguageString BEAN_NOT_UNIQUE = new LanguageString("类型为 {} 的 Bean 应只有一个，但找到了 {}");
+    public static final LanguageString BEAN_INJECTION_ERROR = new LanguageString("无法注入 Bean 类 {} 的 {}：{}");
 
     public static final LanguageString STACK_ILLEGAL_OPERATION = new LanguageString("{} 类的 {} 方法违规调用了 {} 类的 {} 方法，已终止其操作");
     public static final LanguageString STACK_ILLEGAL_ARGUMENT = new LanguageString("{} 类的 {} 需要被保护，但提供了错误的参数，已终止其调用方的操作");
@@ -43,4 +48,8 @@ class ExceptionLanguage implements LanguageBlock {
     public static final LanguageString PLUGIN_MAIN_CLASS_EXTEND_ERROR = new LanguageString("插件 {} 的主类 {} 没有继承 io.github.gdrfgdrf.cuteframework.api.base.Plugin");
     public static final LanguageString PLUGIN_NAME_CONFLICT = new LanguageString("无法注册插件 {}，因为先前已注册了同名插件 {}");
     public static final LanguageString PLUGIN_ILLEGAL_STATE_CHANGE = new LanguageString("无法改变插件 {} 的状态，从状态 {} 变化到状态 {}");
+    public static final LanguageString PLUGIN_STATE_CHANGE_FAILED = new LanguageString("将插件 {} 变化到状态 {} 时发生错误：{}");
+    public static final LanguageString PLUGIN_DEPENDENCY_UNAVAILABLE = new LanguageString("无法将插件 {} 变化到状态 {}，因为其依赖的插件 {} 不存在或还未到达该状态 (目前状态: {})");
+    public static final LanguageString PLUGIN_DEPENDENT_ACTIVE = new LanguageString("无法将插件 {} 变化到状态 {}，因为依赖于它的插件 {} 仍处于状态 {}");
+    public static final LanguageString PLUGIN_CIRCULAR_DEPENDENCY = new LanguageString("已跳过插件 {}，因为插件 {} 之间存在循环依赖");
 }
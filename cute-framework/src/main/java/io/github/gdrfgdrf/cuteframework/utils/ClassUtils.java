@@ -16,6 +16,7 @@
 
 package io.github.gdrfgdrf.cuteframework.utils;
 
+import io.github.gdrfgdrf.cuteframework.utils.scan.ClassScanner;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.annotation.processing.Generated;
@@ -25,15 +26,10 @@ import java.lang.annotation.*;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.net.JarURLConnection;
 import java.net.URL;
-import java.util.Arrays;
-import java.util.Enumeration;
-import java.util.Set;
+import java.util.*;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
-import java.util.jar.JarEntry;
-import java.util.jar.JarFile;
 
 /**
  * 类对象工具类
@@ -42,6 +38,22 @@ import java.util.jar.JarFile;
  */
 @Slf4j
 public class ClassUtils {
+    /**
+     * 查找元注解时跳过的注解的类名，这些注解不会被继续向上解析，
+     * {@link ClassUtils#getAnnotations(Class)} 与 MetaAnnotationResolver 都使用该定义，
+     * 编译时的注解处理器不能依赖框架本身，其中的副本需要与该定义保持一致
+     */
+    public static final Set<String> IGNORED_ANNOTATIONS = Set.of(
+            Deprecated.class.getName(),
+            SuppressWarnings.class.getName(),
+            Override.class.getName(),
+            Generated.class.getName(),
+            Target.class.getName(),
+            Retention.class.getName(),
+            Documented.class.getName(),
+            Inherited.class.getName()
+    );
+
     private ClassUtils() {}
 
     public static String formatPackageName(String packageName) {
@@ -51,37 +63,82 @@ public class ClassUtils {
         return packageName.substring(0, packageName.lastIndexOf("."));
     }
 
+    /**
+     * 类到其所有注解 (包括元注解) 的映射，每个类只会计算一次，
+     * 注解按照深度优先的顺序排列，同一类型的注解只保留第一个被找到的
+     */
+    private static final ClassValue<Map<Class<? extends Annotation>, Annotation>> ANNOTATION_CACHE = new ClassValue<>() {
+        @Override
+        protected Map<Class<? extends Annotation>, Annotation> computeValue(Class<?> type) {
+            Map<Class<? extends Annotation>, Annotation> result = new LinkedHashMap<>();
+            collectAnnotations(type, result, new HashSet<>());
+            return Collections.unmodifiableMap(result);
+        }
+    };
+
     public static boolean hasAnnotation(Class<?> clazz, Class<? extends Annotation> targetAnnotation) {
-        Annotation annotation = getAnnotation(clazz, targetAnnotation);
-        return annotation != null;
+        return getAnnotations(clazz).containsKey(targetAnnotation);
     }
 
     @SuppressWarnings("unchecked")
     public static <T extends Annotation> T getAnnotation(Class<?> clazz, Class<? extends T> targetAnnotation) {
-        Annotation[] annotations = clazz.getAnnotations();
-
-        for (Annotation annotation : annotations) {
-            if (annotation.annotationType() != Deprecated.class &&
-                    annotation.annotationType() != SuppressWarnings.class &&
-                    annotation.annotationType() != Override.class &&
-                    annotation.annotationType() != Generated.class &&
-                    annotation.annotationType() != Target.class &&
-                    annotation.annotationType() != Retention.class &&
-                    annotation.annotationType() != Documented.class &&
-                    annotation.annotationType() != Inherited.class
-            ) {
-                if (annotation.annotationType() == targetAnnotation) {
-                    return (T) annotation;
-                } else {
-                    T deeperAnnotation = getAnnotation(annotation.annotationType(), targetAnnotation);
-                    if (deeperAnnotation != null) {
-                        return deeperAnnotation;
-                    }
-                }
-            }
+        return (T) getAnnotations(clazz).get(targetAnnotation);
+    }
+
+    /**
+     * 获取类上直接存在的以及通过元注解间接存在的所有注解，结果会被缓存
+     * @param clazz
+     *        类
+     * @return java.util.Map<java.lang.Class<? extends java.lang.annotation.Annotation>, java.lang.annotation.Annotation>
+     *         注解类型到注解实例的映射，不可修改
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public static Map<Class<? extends Annotation>, Annotation> getAnnotations(Class<?> clazz) {
+        return ANNOTATION_CACHE.get(clazz);
+    }
+
+    /**
+     * 获取类自身以及它的所有父类和所有直接或间接实现的接口
+     * @param clazz
+     *        类
+     * @return java.util.Set<java.lang.Class<?>>
+     *         类自身以及所有父类型，类自身在最前
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public static Set<Class<?>> getSuperTypes(Class<?> clazz) {
+        Set<Class<?>> result = new LinkedHashSet<>();
+        collectSuperTypes(clazz, result);
+        return result;
+    }
+
+    private static void collectSuperTypes(Class<?> clazz, Set<Class<?>> result) {
+        if (clazz == null || !result.add(clazz)) {
+            return;
+        }
+        collectSuperTypes(clazz.getSuperclass(), result);
+        for (Class<?> interfaceClass : clazz.getInterfaces()) {
+            collectSuperTypes(interfaceClass, result);
+        }
+    }
+
+    private static void collectAnnotations(
+            Class<?> clazz,
+            Map<Class<? extends Annotation>, Annotation> result,
+            Set<Class<?>> visited
+    ) {
+        if (!visited.add(clazz)) {
+            return;
         }
 
-        return null;
+        for (Annotation annotation : clazz.getAnnotations()) {
+            Class<? extends Annotation> annotationType = annotation.annotationType();
+            if (!IGNORED_ANNOTATIONS.contains(annotationType.getName())) {
+                result.putIfAbsent(annotationType, annotation);
+                collectAnnotations(annotationType, result, visited);
+            }
+        }
     }
 
     @SuppressWarnings("all")
@@ -163,6 +220,20 @@ public class ClassUtils {
         }
     }
 
+    /**
+     * 通过 {@link ClassScanner} 查找 jar 或类目录中某个包下的所有类，
+     * 扫描结果由 {@link io.github.gdrfgdrf.cuteframework.utils.scan.ScanResultCache} 缓存，类只会被加载而不会被初始化
+     * @param classLoader
+     *        类加载器
+     * @param packageName
+     *        包名
+     * @param predicate
+     *        类过滤器，为 null 时不过滤
+     * @param result
+     *        满足条件的类将被加入该集合
+     * @author gdrfgdrf
+     * @since v1_0_0_20240525_RELEASE
+     */
     public static void searchJar(
             ClassLoader classLoader,
             String packageName,
@@ -170,50 +241,18 @@ public class ClassUtils {
             Set<Class<?>> result
     ) {
         try {
-            Enumeration<URL> urlEnumeration = classLoader
-                    .getResources(packageName.replace(".", "/"));
-
-            while (urlEnumeration.hasMoreElements()) {
-                URL url = urlEnumeration.nextElement();
-                String protocol = url.getProtocol();
-
-                if (!"jar".equalsIgnoreCase(protocol)) {
-                    if ("file".equalsIgnoreCase(protocol)) {
-                        String classpath = url.getPath().replace(
-                                packageName.replace(".", "/"),
-                                ""
-                        );
-                        String packagePath = packageName.replace(".", "/");
-                        File searchRoot = new File(classpath + packagePath);
-
-                        search(searchRoot, packageName, predicate, classLoader, result);
-                    }
-                    continue;
-                }
-                JarURLConnection connection = (JarURLConnection) url.openConnection();
-                if (connection == null) {
-                    continue;
-                }
-                JarFile jarFile = connection.getJarFile();
-                if (jarFile == null) {
-                    continue;
-                }
+            List<String> classNames = ClassScanner.scan(
+                    classLoader,
+                    List.of(packageName),
+                    null,
+                    ClassScanner.ALL_CLASSES_CACHE_KEY,
+                    null
+            ).get(packageName);
+            for (String className : classNames) {
+                Class<?> clazz = Class.forName(className, false, classLoader);
 
-                Enumeration<JarEntry> entryEnumeration = jarFile.entries();
-                while (entryEnumeration.hasMoreElements()) {
-                    JarEntry entry = entryEnumeration.nextElement();
-                    String entryName = entry.getName();
-                    if (!entryName.contains(".class") ||
-                            !entryName.replaceAll("/", ".").startsWith(packageName)) {
-                        continue;
-                    }
-                    String className = entryName.substring(0, entryName.lastIndexOf("."))
-                            .replace("/", ".");
-                    Class<?> clazz = Class.forName(className, true, classLoader);
-
-                    if (predicate == null || predicate.test(clazz)) {
-                        result.add(clazz);
-                    }
+                if (predicate == null || predicate.test(clazz)) {
+                    result.add(clazz);
                 }
             }
         } catch (IOException | ClassNotFoundException e) {
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.utils.classfile;
+
+import lombok.Getter;
+
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 直接从 class 文件中读取出来的类元数据，读取时不会加载该类
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+@Getter
+public class ClassMetadata {
+    /**
+     * 类的二进制名称，例如 a.b.C$D
+     */
+    private final String className;
+    /**
+     * 父类的二进制名称，java.lang.Object 与模块描述为 null
+     */
+    private final String superClassName;
+    /**
+     * 直接实现的接口的二进制名称
+     */
+    private final List<String> interfaceNames;
+    /**
+     * 类的访问标志
+     */
+    private final int accessFlags;
+    /**
+     * 类上直接存在的运行时可见注解，注解类名到注解属性的映射，
+     * 注解属性中枚举值以常量名称表示，类以二进制名称表示，嵌套的注解以属性映射表示，数组以 {@link List} 表示
+     */
+    private final Map<String, Map<String, Object>> annotations;
+
+    public ClassMetadata(
+            String className,
+            String superClassName,
+            List<String> interfaceNames,
+            int accessFlags,
+            Map<String, Map<String, Object>> annotations
+    ) {
+        this.className = className;
+        this.superClassName = superClassName;
+        this.interfaceNames = Collections.unmodifiableList(interfaceNames);
+        this.accessFlags = accessFlags;
+        this.annotations = Collections.unmodifiableMap(annotations);
+    }
+
+    public String getPackageName() {
+        int index = className.lastIndexOf('.');
+        return index < 0 ? "" : className.substring(0, index);
+    }
+
+    public Set<String> getAnnotationNames() {
+        return annotations.keySet();
+    }
+
+    public Map<String, Object> getAnnotationAttributes(String annotationName) {
+        return annotations.get(annotationName);
+    }
+
+    public boolean isAnnotation() {
+        return (accessFlags & 0x2000) != 0;
+    }
+
+    public boolean isInterface() {
+        return Modifier.isInterface(accessFlags);
+    }
+
+    public boolean isAbstract() {
+        return Modifier.isAbstract(accessFlags);
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.utils.classfile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.*;
+
+/**
+ * class 文件读取器，只解析常量池，类的基本信息以及类上的 RuntimeVisibleAnnotations 属性，
+ * 字段与方法将会被直接跳过，整个过程不会加载或初始化任何类
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+public class ClassMetadataReader {
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_FLOAT = 4;
+    private static final int CONSTANT_LONG = 5;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELD_REF = 9;
+    private static final int CONSTANT_METHOD_REF = 10;
+    private static final int CONSTANT_INTERFACE_METHOD_REF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+    private static final int CONSTANT_METHOD_HANDLE = 15;
+    private static final int CONSTANT_METHOD_TYPE = 16;
+    private static final int CONSTANT_DYNAMIC = 17;
+    private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+    private static final int CONSTANT_MODULE = 19;
+    private static final int CONSTANT_PACKAGE = 20;
+
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    private final ByteBuffer buffer;
+    /**
+     * 常量池，Utf8 常量为字符串，数值常量为对应的包装类型，Class 常量为其名称所在的索引
+     */
+    private Object[] constantPool;
+
+    private ClassMetadataReader(byte[] bytes) {
+        this.buffer = ByteBuffer.wrap(bytes);
+    }
+
+    public static ClassMetadata read(InputStream inputStream) throws IOException {
+        return read(inputStream.readAllBytes());
+    }
+
+    public static ClassMetadata read(byte[] bytes) throws IOException {
+        try {
+            return new ClassMetadataReader(bytes).read();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException | ClassCastException e) {
+            throw new IOException("Malformed class file", e);
+        }
+    }
+
+    private ClassMetadata read() throws IOException {
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("Not a class file");
+        }
+        // minor_version, major_version
+        skip(4);
+        readConstantPool();
+
+        int accessFlags = u2();
+        String className = classNameAt(u2());
+        int superClassIndex = u2();
+        String superClassName = superClassIndex == 0 ? null : classNameAt(superClassIndex);
+
+        int interfaceCount = u2();
+        List<String> interfaceNames = new ArrayList<>(interfaceCount);
+        for (int i = 0; i < interfaceCount; i++) {
+            interfaceNames.add(classNameAt(u2()));
+        }
+
+        // fields, methods
+        skipMembers();
+        skipMembers();
+
+        Map<String, Map<String, Object>> annotations = new LinkedHashMap<>();
+        int attributeCount = u2();
+        for (int i = 0; i < attributeCount; i++) {
+            String attributeName = utf8At(u2());
+            int length = buffer.getInt();
+            if (!RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName)) {
+                skip(length);
+                continue;
+            }
+
+            int annotationCount = u2();
+            for (int j = 0; j < annotationCount; j++) {
+                String annotationName = descriptorToClassName(utf8At(u2()));
+                annotations.put(annotationName, readAnnotationAttributes());
+            }
+        }
+
+        return new ClassMetadata(className, superClassName, interfaceNames, accessFlags, annotations);
+    }
+
+    private void readConstantPool() throws IOException {
+        int count = u2();
+        constantPool = new Object[count];
+
+        for (int i = 1; i < count; i++) {
+            int tag = buffer.get() & 0xFF;
+            switch (tag) {
+                case CONSTANT_UTF8 -> constantPool[i] = readUtf8();
+                case CONSTANT_INTEGER -> constantPool[i] = buffer.getInt();
+                case CONSTANT_FLOAT -> constantPool[i] = buffer.getFloat();
+                case CONSTANT_LONG -> constantPool[i++] = buffer.getLong();
+                case CONSTANT_DOUBLE -> constantPool[i++] = buffer.getDouble();
+                case CONSTANT_CLASS -> constantPool[i] = u2();
+                case CONSTANT_STRING, CONSTANT_METHOD_TYPE, CONSTANT_MODULE, CONSTANT_PACKAGE -> skip(2);
+                case CONSTANT_METHOD_HANDLE -> skip(3);
+                case CONSTANT_FIELD_REF,
+                        CONSTANT_METHOD_REF,
+                        CONSTANT_INTERFACE_METHOD_REF,
+                        CONSTANT_NAME_AND_TYPE,
+                        CONSTANT_DYNAMIC,
+                        CONSTANT_INVOKE_DYNAMIC -> skip(4);
+                default -> throw new IOException("Unknown constant pool tag " + tag + " at index " + i);
+            }
+        }
+    }
+
+    private void skipMembers() {
+        int memberCount = u2();
+        for (int i = 0; i < memberCount; i++) {
+            // access_flags, name_index, descriptor_index
+            skip(6);
+            int attributeCount = u2();
+            for (int j = 0; j < attributeCount; j++) {
+                skip(2);
+                skip(buffer.getInt());
+            }
+        }
+    }
+
+    private Map<String, Object> readAnnotationAttributes() throws IOException {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        int pairCount = u2();
+        for (int i = 0; i < pairCount; i++) {
+            String name = utf8At(u2());
+            attributes.put(name, readElementValue());
+        }
+        return attributes;
+    }
+
+    private Object readElementValue() throws IOException {
+        char tag = (char) (buffer.get() & 0xFF);
+        switch (tag) {
+            case 'B':
+                return (byte) (int) (Integer) constantPool[u2()];
+            case 'C':
+                return (char) (int) (Integer) constantPool[u2()];
+            case 'S':
+                return (short) (int) (Integer) constantPool[u2()];
+            case 'Z':
+                return (Integer) constantPool[u2()] != 0;
+            case 'I':
+            case 'J':
+            case 'F':
+            case 'D':
+                return constantPool[u2()];
+            case 's':
+                return utf8At(u2());
+            case 'e':
+                // type_name_index
+                skip(2);
+                return utf8At(u2());
+            case 'c':
+                return descriptorToClassName(utf8At(u2()));
+            case '@':
+                // type_index
+                skip(2);
+                return readAnnotationAttributes();
+            case '[':
+                int count = u2();
+                List<Object> values = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    values.add(readElementValue());
+                }
+                return values;
+            default:
+                throw new IOException("Unknown element value tag " + tag);
+        }
+    }
+
+    /**
+     * 解码 class 文件所使用的 Modified UTF-8 字符串
+     */
+    private String readUtf8() {
+        int length = u2();
+        int end = buffer.position() + length;
+        StringBuilder builder = new StringBuilder(length);
+
+        while (buffer.position() < end) {
+            int b = buffer.get() & 0xFF;
+            if (b < 0x80) {
+                builder.append((char) b);
+            } else if ((b & 0xE0) == 0xC0) {
+                builder.append((char) (((b & 0x1F) << 6) | (buffer.get() & 0x3F)));
+            } else {
+                int b2 = buffer.get() & 0x3F;
+                int b3 = buffer.get() & 0x3F;
+                builder.append((char) (((b & 0x0F) << 12) | (b2 << 6) | b3));
+            }
+        }
+
+        return builder.toString();
+    }
+
+    private String utf8At(int index) {
+        return (String) constantPool[index];
+    }
+
+    private String classNameAt(int index) {
+        return utf8At((Integer) constantPool[index]).replace('/', '.');
+    }
+
+    private int u2() {
+        return buffer.getShort() & 0xFFFF;
+    }
+
+    private void skip(int length) {
+        buffer.position(buffer.position() + length);
+    }
+
+    /**
+     * 将字段描述符转换为二进制类名，例如 La/b/C; 转换为 a.b.C，基本类型与数组保持原样
+     */
+    public static String descriptorToClassName(String descriptor) {
+        if (descriptor.length() > 2 && descriptor.charAt(0) == 'L' && descriptor.charAt(descriptor.length() - 1) == ';') {
+            return descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+        }
+        return descriptor;
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.utils.classfile;
+
+import io.github.gdrfgdrf.cuteframework.utils.ClassUtils;
+import io.github.gdrfgdrf.cuteframework.utils.scan.ClassScanner;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 基于 class 文件的元注解解析器，通过读取注解类的 class 文件得到其所有的元注解，
+ * 与 {@link io.github.gdrfgdrf.cuteframework.utils.ClassUtils#getAnnotation(Class, Class)} 的规则相同，
+ * 但不需要加载任何类，每个类加载器对应一个解析器，解析结果会被缓存
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+@Slf4j
+public class MetaAnnotationResolver {
+    private static final Map<ClassLoader, MetaAnnotationResolver> RESOLVER_MAP =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * 弱引用，避免 {@link MetaAnnotationResolver#RESOLVER_MAP} 的值强引用其键，导致插件的类加载器无法被回收
+     */
+    private final WeakReference<ClassLoader> classLoaderReference;
+    /**
+     * 注解类名到其所有元注解 (包括元注解的元注解) 类名的映射
+     */
+    private final Map<String, Set<String>> META_ANNOTATION_MAP = new ConcurrentHashMap<>();
+    /**
+     * 读取过的注解 class 文件所在的 jar 或 class 文件本身的路径
+     */
+    private final Set<String> sourceFiles = ConcurrentHashMap.newKeySet();
+
+    private MetaAnnotationResolver(ClassLoader classLoader) {
+        this.classLoaderReference = new WeakReference<>(classLoader);
+    }
+
+    public static MetaAnnotationResolver getInstance(ClassLoader classLoader) {
+        return RESOLVER_MAP.computeIfAbsent(classLoader, MetaAnnotationResolver::new);
+    }
+
+    /**
+     * 类上是否直接或通过元注解间接存在某个注解
+     * @param metadata
+     *        类元数据
+     * @param annotationName
+     *        注解类名
+     * @return boolean
+     *         是否存在
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public boolean hasAnnotation(ClassMetadata metadata, String annotationName) {
+        for (String name : metadata.getAnnotationNames()) {
+            if (ClassUtils.IGNORED_ANNOTATIONS.contains(name)) {
+                continue;
+            }
+            if (name.equals(annotationName) || getMetaAnnotations(name).contains(annotationName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 获取某个注解的所有元注解，循环引用的注解只会被解析一次
+     * @param annotationName
+     *        注解类名
+     * @return java.util.Set<java.lang.String>
+     *         所有元注解的类名
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public Set<String> getMetaAnnotations(String annotationName) {
+        Set<String> cached = META_ANNOTATION_MAP.get(annotationName);
+        if (cached != null) {
+            return cached;
+        }
+
+        Set<String> result = new HashSet<>();
+        Deque<String> pending = new ArrayDeque<>();
+        pending.push(annotationName);
+
+        while (!pending.isEmpty()) {
+            ClassMetadata metadata = readMetadata(pending.pop());
+            if (metadata == null) {
+                continue;
+            }
+            for (String name : metadata.getAnnotationNames()) {
+                if (!ClassUtils.IGNORED_ANNOTATIONS.contains(name) && result.add(name)) {
+                    pending.push(name);
+                }
+            }
+        }
+
+        result = Collections.unmodifiableSet(result);
+        Set<String> previous = META_ANNOTATION_MAP.putIfAbsent(annotationName, result);
+        return previous != null ? previous : result;
+    }
+
+    /**
+     * 获取解析过程中读取过的所有注解 class 文件所在的 jar 或 class 文件本身的路径，
+     * 解析结果依赖于这些文件，缓存解析结果时需要同时记录它们的指纹
+     * @return java.util.Set<java.lang.String>
+     *         文件路径
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public Set<String> getSourceFiles() {
+        return new TreeSet<>(sourceFiles);
+    }
+
+    private ClassMetadata readMetadata(String className) {
+        ClassLoader classLoader = classLoaderReference.get();
+        if (classLoader == null) {
+            return null;
+        }
+
+        String resourceName = className.replace('.', '/') + ".class";
+        URL resource = classLoader.getResource(resourceName);
+        if (resource == null) {
+            return null;
+        }
+        File sourceFile = ClassScanner.locate(resource);
+        if (sourceFile != null) {
+            sourceFiles.add(sourceFile.getPath());
+        }
+
+        try (InputStream inputStream = classLoader.getResourceAsStream(resourceName)) {
+            if (inputStream == null) {
+                return null;
+            }
+            return ClassMetadataReader.read(inputStream);
+        } catch (IOException e) {
+            log.warn("Unable to read the class file of annotation " + className, e);
+            return null;
+        }
+    }
+}
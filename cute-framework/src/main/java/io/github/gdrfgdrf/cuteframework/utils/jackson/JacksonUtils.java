@@ -17,6 +17,7 @@
 package io.github.gdrfgdrf.cuteframework.utils.jackson;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
@@ -105,6 +106,19 @@ public class JacksonUtils {
         return (T) MAPPER_INSTANCE.readValue(bytes, type);
     }
 
+    /**
+     * 将对象转换为 Json 树
+     * @param obj
+     *        对象
+     * @return com.fasterxml.jackson.databind.JsonNode
+     *         Json 树
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public static JsonNode valueToTree(Object obj) {
+        return MAPPER_INSTANCE.valueToTree(obj);
+    }
+
     /**
      * 新建一个可操作的 Json 对象实例
      * @return com.fasterxml.jackson.databind.node.ObjectNode
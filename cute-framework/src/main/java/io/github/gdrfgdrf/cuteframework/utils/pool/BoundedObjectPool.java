@@ -0,0 +1,100 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.utils.pool;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 无锁的有界对象池，空闲对象保存在固定长度的槽位中，借出与归还都只通过 CAS 修改槽位，
+ * 每个线程从不同的槽位开始查找以减少竞争，
+ * 池中没有空闲对象时 {@link BoundedObjectPool#poll()} 返回 null，池已满时归还的对象将被丢弃
+ *
+ * @param <T> 对象类型
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+public class BoundedObjectPool<T> {
+    private final AtomicReferenceArray<T> slots;
+
+    public BoundedObjectPool(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * 取出一个空闲对象
+     * @return T
+     *         空闲对象，没有时返回 null
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public T poll() {
+        int capacity = slots.length();
+        int start = probe(capacity);
+        for (int i = 0; i < capacity; i++) {
+            int index = (start + i) % capacity;
+            T obj = slots.get(index);
+            if (obj != null && slots.compareAndSet(index, obj, null)) {
+                return obj;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 放入一个空闲对象
+     * @param obj
+     *        空闲对象
+     * @return boolean
+     *         是否放入成功，池已满时返回 false
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public boolean offer(T obj) {
+        if (obj == null) {
+            return false;
+        }
+
+        int capacity = slots.length();
+        int start = probe(capacity);
+        for (int i = 0; i < capacity; i++) {
+            int index = (start + i) % capacity;
+            if (slots.get(index) == null && slots.compareAndSet(index, null, obj)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 获取池的容量
+     * @return int
+     *         容量
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public int capacity() {
+        return slots.length();
+    }
+
+    private static int probe(int capacity) {
+        long threadId = Thread.currentThread().getId();
+        return (int) ((threadId * 0x9E3779B97F4A7C15L >>> 33) % capacity);
+    }
+}
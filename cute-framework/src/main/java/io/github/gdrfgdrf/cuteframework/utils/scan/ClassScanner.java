@@ -0,0 +1,596 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.utils.scan;
+
+import io.github.gdrfgdrf.cuteframework.api.loader.JarClassLoader;
+import io.github.gdrfgdrf.cuteframework.utils.classfile.ClassMetadata;
+import io.github.gdrfgdrf.cuteframework.utils.classfile.ClassMetadataReader;
+import io.github.gdrfgdrf.cuteframework.utils.thread.ThreadPoolService;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * 类路径扫描器，一次性扫描多个包，
+ * 每个 jar 或类目录只会被遍历一次，不同的 jar 或类目录在 ForkJoin 线程池中并行扫描，
+ * 扫描结果的顺序是确定的：按照类加载器返回 jar 或类目录的顺序，同一个 jar 或类目录中按照条目名称排序
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+public class ClassScanner {
+    /**
+     * jar 中需要读取 class 文件的条目数量大于该值时将会被拆分为多个任务
+     */
+    private static final int SPLIT_THRESHOLD = 64;
+    /**
+     * 不过滤类元数据，即 predicate 为 null 时使用的缓存键
+     */
+    public static final String ALL_CLASSES_CACHE_KEY = "*";
+
+    private ClassScanner() {}
+
+    /**
+     * 扫描多个包下的类，并使用 {@link ScanResultCache} 缓存每个 jar 或类目录的扫描结果
+     * @param classLoader
+     *        类加载器
+     * @param packageNames
+     *        包名
+     * @param predicate
+     *        类元数据过滤器，为 null 时不读取 class 文件，直接返回所有类
+     * @param cacheKey
+     *        代表 predicate 过滤条件的缓存键，相同的缓存键必须对应相同的过滤条件，
+     *        predicate 为 null 时应使用 {@link ClassScanner#ALL_CLASSES_CACHE_KEY}，为 null 时不使用缓存
+     * @param dependencies
+     *        predicate 在扫描过程中读取过的其它文件的路径，例如元注解所在的 jar，
+     *        读取缓存时这些文件的指纹必须与写入缓存时相同，为 null 时代表 predicate 只依赖于类元数据本身
+     * @return java.util.Map<java.lang.String, java.util.List<java.lang.String>>
+     *         包名到该包下所有符合条件的类名的映射，顺序与 packageNames 相同
+     * @throws IOException
+     *         读取 jar 或 class 文件错误
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public static Map<String, List<String>> scan(
+            ClassLoader classLoader,
+            Collection<String> packageNames,
+            Predicate<ClassMetadata> predicate,
+            String cacheKey,
+            Supplier<? extends Collection<String>> dependencies
+    ) throws IOException {
+        ScanResultCache cache = cacheKey != null && ScanResultCache.isEnabled() ? ScanResultCache.getInstance() : null;
+        String signature = cacheKey + ":" + String.join(",", new TreeSet<>(packageNames));
+        boolean hash = ScanResultCache.isHashEnabled();
+        Map<String, ScanResultCache.Fingerprint> dependencyFingerprints = new ConcurrentHashMap<>();
+
+        PackageTrie trie = new PackageTrie();
+        Map<String, Set<String>> result = new LinkedHashMap<>();
+        for (String packageName : packageNames) {
+            trie.add(packageName);
+            result.put(packageName, new LinkedHashSet<>());
+        }
+
+        Map<String, RecursiveTask<List<ScannedClass>>> tasks = new LinkedHashMap<>();
+        List<JarFile> openedJarFiles = new ArrayList<>();
+        try {
+            for (String packageName : packageNames) {
+                String packagePath = packageName.replace('.', '/');
+                Enumeration<URL> urlEnumeration = classLoader.getResources(packagePath);
+
+                while (urlEnumeration.hasMoreElements()) {
+                    URL url = urlEnumeration.nextElement();
+                    String protocol = url.getProtocol();
+
+                    if ("jar".equalsIgnoreCase(protocol)) {
+                        File file = jarFile(url);
+                        if (!tasks.containsKey(file.getPath())) {
+                            JarFile jarFile;
+                            if (classLoader instanceof JarClassLoader jarClassLoader) {
+                                jarFile = jarClassLoader.getJarFile();
+                            } else {
+                                jarFile = new JarFile(file);
+                                openedJarFiles.add(jarFile);
+                            }
+
+                            RecursiveTask<List<ScannedClass>> task = new JarTask(jarFile, trie, predicate);
+                            if (cache != null) {
+                                task = new CachedTask(file, signature, cache, hash, trie, dependencies, dependencyFingerprints, task);
+                            }
+                            tasks.put(file.getPath(), task);
+                        }
+                        continue;
+                    }
+                    if ("file".equalsIgnoreCase(protocol)) {
+                        File root = classpathRoot(url, packageName);
+                        if (root != null && !tasks.containsKey(root.getPath())) {
+                            RecursiveTask<List<ScannedClass>> task = new DirectoryTask(root, "", trie.getRoot(), false, trie, predicate);
+                            if (cache != null) {
+                                task = new CachedTask(root, signature, cache, hash, trie, dependencies, dependencyFingerprints, task);
+                            }
+                            tasks.put(root.getPath(), task);
+                        }
+                    }
+                }
+            }
+
+            List<ForkJoinTask<List<ScannedClass>>> submitted = new ArrayList<>(tasks.size());
+            for (RecursiveTask<List<ScannedClass>> task : tasks.values()) {
+                submitted.add(ThreadPoolService.getScanForkJoinPool().submit(task));
+            }
+            for (ForkJoinTask<List<ScannedClass>> task : submitted) {
+                List<ScannedClass> matches;
+                try {
+                    matches = task.join();
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+
+                for (ScannedClass scannedClass : matches) {
+                    for (String packageName : scannedClass.getPackageNames()) {
+                        result.get(packageName).add(scannedClass.getClassName());
+                    }
+                }
+            }
+        } finally {
+            for (JarFile jarFile : openedJarFiles) {
+                jarFile.close();
+            }
+        }
+
+        if (cache != null) {
+            cache.save();
+        }
+
+        Map<String, List<String>> classNames = new LinkedHashMap<>();
+        result.forEach((packageName, names) -> classNames.put(packageName, new ArrayList<>(names)));
+        return classNames;
+    }
+
+    /**
+     * 由资源的 URL 得到其所在的文件，jar 中的资源返回该 jar，类目录中的资源返回资源文件本身，
+     * 只解析 URL 而不会打开 jar
+     * @param url
+     *        资源的 URL
+     * @return java.io.File
+     *         资源所在的文件，无法定位到本地文件时为 null
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public static File locate(URL url) {
+        try {
+            if ("jar".equalsIgnoreCase(url.getProtocol())) {
+                return jarFile(url);
+            }
+            if ("file".equalsIgnoreCase(url.getProtocol())) {
+                return new File(url.toURI());
+            }
+        } catch (IOException | URISyntaxException | IllegalArgumentException ignored) {
+            // 无法定位的资源不参与指纹计算
+        }
+        return null;
+    }
+
+    /**
+     * 由 jar 中某个条目的 URL 得到该 jar 文件，
+     * 只解析 URL 而不会连接，因此不会通过 {@link JarURLConnection} 的缓存再打开一个 jar
+     */
+    private static File jarFile(URL url) throws IOException {
+        URL jarFileUrl = ((JarURLConnection) url.openConnection()).getJarFileURL();
+        try {
+            return new File(jarFileUrl.toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return new File(jarFileUrl.getPath());
+        }
+    }
+
+    /**
+     * 由包目录的 URL 得到该包所在的类目录
+     */
+    private static File classpathRoot(URL url, String packageName) {
+        File file;
+        try {
+            file = new File(url.toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            file = new File(url.getPath());
+        }
+
+        if (!packageName.isEmpty()) {
+            int segments = packageName.split("\\.").length;
+            for (int i = 0; i < segments && file != null; i++) {
+                file = file.getParentFile();
+            }
+        }
+        return file;
+    }
+
+    /**
+     * 计算多个包所在的每一个 jar 或类目录的指纹，与 {@link ScanResultCache} 使用的指纹相同，不会读取 class 文件
+     * @param classLoader
+     *        类加载器
+     * @param packageNames
+     *        包名
+     * @param hash
+     *        是否计算 jar 的内容哈希
+     * @return java.util.Map<java.lang.String, io.github.gdrfgdrf.cuteframework.utils.scan.ScanResultCache.Fingerprint>
+     *         jar 或类目录的路径到其指纹的映射，顺序与类加载器返回的顺序相同
+     * @throws IOException
+     *         读取 jar 错误
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public static Map<String, ScanResultCache.Fingerprint> fingerprint(
+            ClassLoader classLoader,
+            Collection<String> packageNames,
+            boolean hash
+    ) throws IOException {
+        PackageTrie trie = new PackageTrie();
+        packageNames.forEach(trie::add);
+
+        Map<String, ScanResultCache.Fingerprint> fingerprints = new LinkedHashMap<>();
+        for (String packageName : packageNames) {
+            Enumeration<URL> urlEnumeration = classLoader.getResources(packageName.replace('.', '/'));
+            while (urlEnumeration.hasMoreElements()) {
+                URL url = urlEnumeration.nextElement();
+                String protocol = url.getProtocol();
+
+                if ("jar".equalsIgnoreCase(protocol)) {
+                    File file = jarFile(url);
+                    if (!fingerprints.containsKey(file.getPath())) {
+                        fingerprints.put(file.getPath(), ScanResultCache.fingerprint(file, hash));
+                    }
+                    continue;
+                }
+                if ("file".equalsIgnoreCase(protocol)) {
+                    File root = classpathRoot(url, packageName);
+                    if (root != null && !fingerprints.containsKey(root.getPath())) {
+                        fingerprints.put(root.getPath(), directoryFingerprint(root, trie));
+                    }
+                }
+            }
+        }
+        return fingerprints;
+    }
+
+    /**
+     * 计算类目录中被扫描的部分的指纹，只会进入前缀树上存在的目录或被扫描的包内的目录
+     */
+    private static ScanResultCache.Fingerprint directoryFingerprint(File directory, PackageTrie trie) {
+        long[] state = new long[3];
+        walk(directory, trie.getRoot(), false, state);
+        return new ScanResultCache.Fingerprint(state[0], state[1], "files:" + state[2]);
+    }
+
+    private static void walk(File directory, PackageTrie.Node node, boolean insidePackage, long[] state) {
+        state[1] = Math.max(state[1], directory.lastModified());
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+
+        boolean inside = insidePackage || (node != null && node.isPackage());
+        for (File file : files) {
+            if (file.isDirectory()) {
+                PackageTrie.Node child = node == null ? null : node.child(file.getName());
+                if (inside || child != null) {
+                    walk(file, child, inside, state);
+                }
+                continue;
+            }
+            if (inside && isClassFile(file.getName())) {
+                state[0] += file.length();
+                state[1] = Math.max(state[1], file.lastModified());
+                state[2]++;
+            }
+        }
+    }
+
+    public static boolean isClassFile(String fileName) {
+        return fileName.endsWith(".class") &&
+                !fileName.endsWith("module-info.class") &&
+                !fileName.endsWith("package-info.class");
+    }
+
+    private static String toClassName(String entryName) {
+        return entryName.substring(0, entryName.length() - ".class".length()).replace('/', '.');
+    }
+
+    private static boolean test(Predicate<ClassMetadata> predicate, InputStream inputStream) throws IOException {
+        if (predicate == null) {
+            return true;
+        }
+        return predicate.test(ClassMetadataReader.read(inputStream));
+    }
+
+    /**
+     * 先从 {@link ScanResultCache} 中获取扫描结果，
+     * 根路径或过滤条件依赖的文件的指纹不一致时才真正扫描并写入缓存
+     */
+    private static class CachedTask extends RecursiveTask<List<ScannedClass>> {
+        private final File root;
+        private final String signature;
+        private final ScanResultCache cache;
+        private final boolean hash;
+        private final PackageTrie trie;
+        private final Supplier<? extends Collection<String>> dependencies;
+        /**
+         * 同一次扫描中的所有任务共享，每个依赖的文件只计算一次指纹
+         */
+        private final Map<String, ScanResultCache.Fingerprint> dependencyFingerprints;
+        private final RecursiveTask<List<ScannedClass>> delegate;
+
+        private CachedTask(
+                File root,
+                String signature,
+                ScanResultCache cache,
+                boolean hash,
+                PackageTrie trie,
+                Supplier<? extends Collection<String>> dependencies,
+                Map<String, ScanResultCache.Fingerprint> dependencyFingerprints,
+                RecursiveTask<List<ScannedClass>> delegate
+        ) {
+            this.root = root;
+            this.signature = signature;
+            this.cache = cache;
+            this.hash = hash;
+            this.trie = trie;
+            this.dependencies = dependencies;
+            this.dependencyFingerprints = dependencyFingerprints;
+            this.delegate = delegate;
+        }
+
+        @Override
+        protected List<ScannedClass> compute() {
+            ScanResultCache.Fingerprint fingerprint;
+            try {
+                fingerprint = root.isDirectory() ?
+                        directoryFingerprint(root, trie) :
+                        ScanResultCache.fingerprint(root, hash);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            ScanResultCache.Result cached = cache.get(root.getPath(), fingerprint, signature);
+            if (cached != null && isUpToDate(cached.getDependencies())) {
+                return cached.getClasses();
+            }
+
+            List<ScannedClass> result = delegate.invoke();
+            // 在扫描完成后才获取依赖，此时该根路径下所有类的注解都已被过滤条件解析过
+            Map<String, ScanResultCache.Fingerprint> dependencyMap = new TreeMap<>();
+            if (dependencies != null) {
+                for (String path : dependencies.get()) {
+                    dependencyMap.put(path, dependencyFingerprint(path));
+                }
+            }
+            cache.put(root.getPath(), fingerprint, signature, new ScanResultCache.Result(result, dependencyMap));
+            return result;
+        }
+
+        private boolean isUpToDate(Map<String, ScanResultCache.Fingerprint> recorded) {
+            if (recorded == null) {
+                return dependencies == null;
+            }
+            for (Map.Entry<String, ScanResultCache.Fingerprint> entry : recorded.entrySet()) {
+                if (!entry.getValue().equals(dependencyFingerprint(entry.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private ScanResultCache.Fingerprint dependencyFingerprint(String path) {
+            return dependencyFingerprints.computeIfAbsent(path, key -> {
+                try {
+                    return ScanResultCache.fingerprint(new File(key), hash);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    /**
+     * 扫描一个 jar，条目只遍历一次，需要读取的 class 文件会被拆分为多个子任务
+     */
+    private static class JarTask extends RecursiveTask<List<ScannedClass>> {
+        private final JarFile jarFile;
+        private final PackageTrie trie;
+        private final Predicate<ClassMetadata> predicate;
+
+        private JarTask(JarFile jarFile, PackageTrie trie, Predicate<ClassMetadata> predicate) {
+            this.jarFile = jarFile;
+            this.trie = trie;
+            this.predicate = predicate;
+        }
+
+        @Override
+        protected List<ScannedClass> compute() {
+            List<JarEntry> entries = new ArrayList<>();
+            List<List<String>> packageNames = new ArrayList<>();
+
+            Enumeration<JarEntry> entryEnumeration = jarFile.entries();
+            while (entryEnumeration.hasMoreElements()) {
+                JarEntry entry = entryEnumeration.nextElement();
+                if (entry.isDirectory() || !isClassFile(entry.getName())) {
+                    continue;
+                }
+                List<String> matched = trie.match(entry.getName());
+                if (!matched.isEmpty()) {
+                    entries.add(entry);
+                    packageNames.add(matched);
+                }
+            }
+
+            Integer[] order = new Integer[entries.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparing(index -> entries.get(index).getName()));
+
+            List<JarEntry> sortedEntries = new ArrayList<>(order.length);
+            List<List<String>> sortedPackageNames = new ArrayList<>(order.length);
+            for (Integer index : order) {
+                sortedEntries.add(entries.get(index));
+                sortedPackageNames.add(packageNames.get(index));
+            }
+
+            return new JarEntriesTask(jarFile, sortedEntries, sortedPackageNames, 0, order.length, predicate).compute();
+        }
+    }
+
+    private static class JarEntriesTask extends RecursiveTask<List<ScannedClass>> {
+        private final JarFile jarFile;
+        private final List<JarEntry> entries;
+        private final List<List<String>> packageNames;
+        private final int from;
+        private final int to;
+        private final Predicate<ClassMetadata> predicate;
+
+        private JarEntriesTask(
+                JarFile jarFile,
+                List<JarEntry> entries,
+                List<List<String>> packageNames,
+                int from,
+                int to,
+                Predicate<ClassMetadata> predicate
+        ) {
+            this.jarFile = jarFile;
+            this.entries = entries;
+            this.packageNames = packageNames;
+            this.from = from;
+            this.to = to;
+            this.predicate = predicate;
+        }
+
+        @Override
+        protected List<ScannedClass> compute() {
+            if (predicate != null && to - from > SPLIT_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                JarEntriesTask left = new JarEntriesTask(jarFile, entries, packageNames, from, middle, predicate);
+                JarEntriesTask right = new JarEntriesTask(jarFile, entries, packageNames, middle, to, predicate);
+                right.fork();
+
+                List<ScannedClass> result = new ArrayList<>(left.compute());
+                result.addAll(right.join());
+                return result;
+            }
+
+            List<ScannedClass> result = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                JarEntry entry = entries.get(i);
+                if (predicate != null) {
+                    try (InputStream inputStream = jarFile.getInputStream(entry)) {
+                        if (!test(predicate, inputStream)) {
+                            continue;
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                result.add(new ScannedClass(toClassName(entry.getName()), packageNames.get(i)));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 扫描一个目录，只会进入前缀树上存在的目录或被扫描的包内的目录，每个子目录为一个子任务
+     */
+    private static class DirectoryTask extends RecursiveTask<List<ScannedClass>> {
+        private final File directory;
+        private final String path;
+        private final PackageTrie.Node node;
+        private final boolean insidePackage;
+        private final PackageTrie trie;
+        private final Predicate<ClassMetadata> predicate;
+
+        private DirectoryTask(
+                File directory,
+                String path,
+                PackageTrie.Node node,
+                boolean insidePackage,
+                PackageTrie trie,
+                Predicate<ClassMetadata> predicate
+        ) {
+            this.directory = directory;
+            this.path = path;
+            this.node = node;
+            this.insidePackage = insidePackage;
+            this.trie = trie;
+            this.predicate = predicate;
+        }
+
+        @Override
+        protected List<ScannedClass> compute() {
+            File[] files = directory.listFiles();
+            if (files == null) {
+                return Collections.emptyList();
+            }
+            Arrays.sort(files, Comparator.comparing(File::getName));
+
+            boolean inside = insidePackage || (node != null && node.isPackage());
+            List<DirectoryTask> subtasks = new ArrayList<>();
+            List<ScannedClass> result = new ArrayList<>();
+
+            for (File file : files) {
+                String name = file.getName();
+                if (file.isDirectory()) {
+                    PackageTrie.Node child = node == null ? null : node.child(name);
+                    if (inside || child != null) {
+                        DirectoryTask subtask = new DirectoryTask(file, path + name + "/", child, inside, trie, predicate);
+                        subtask.fork();
+                        subtasks.add(subtask);
+                    }
+                    continue;
+                }
+                if (!inside || !isClassFile(name)) {
+                    continue;
+                }
+
+                String entryName = path + name;
+                if (predicate != null) {
+                    try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+                        if (!test(predicate, inputStream)) {
+                            continue;
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                result.add(new ScannedClass(toClassName(entryName), trie.match(entryName)));
+            }
+
+            for (DirectoryTask subtask : subtasks) {
+                result.addAll(subtask.join());
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.utils.scan;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 包名前缀树，按照包名的每一段进行匹配，
+ * 因此 a.b 不会匹配到 a.bc 下的类，并且不需要对每个条目做字符串替换
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+public class PackageTrie {
+    private final Node root = new Node();
+
+    public void add(String packageName) {
+        Node node = root;
+        if (!packageName.isEmpty()) {
+            for (String segment : packageName.split("\\.")) {
+                node = node.children.computeIfAbsent(segment, key -> new Node());
+            }
+        }
+        node.packageName = packageName;
+    }
+
+    /**
+     * 获取某个条目所属的所有包
+     * @param entryName
+     *        以 / 分隔的条目名称，例如 a/b/C.class
+     * @return java.util.List<java.lang.String>
+     *         条目所属的所有包，从外层到内层排列，不属于任何包时返回空列表
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public List<String> match(String entryName) {
+        List<String> result = null;
+        Node node = root;
+        int start = 0;
+
+        while (true) {
+            if (node.packageName != null) {
+                if (result == null) {
+                    result = new ArrayList<>(1);
+                }
+                result.add(node.packageName);
+            }
+
+            int end = entryName.indexOf('/', start);
+            if (end < 0) {
+                break;
+            }
+            node = node.children.get(entryName.substring(start, end));
+            if (node == null) {
+                break;
+            }
+            start = end + 1;
+        }
+
+        return result == null ? Collections.emptyList() : result;
+    }
+
+    Node getRoot() {
+        return root;
+    }
+
+    static class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private String packageName;
+
+        Node child(String segment) {
+            return children.get(segment);
+        }
+
+        boolean isPackage() {
+            return packageName != null;
+        }
+    }
+}
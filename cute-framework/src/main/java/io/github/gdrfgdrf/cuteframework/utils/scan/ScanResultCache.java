@@ -0,0 +1,257 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.utils.scan;
+
+import io.github.gdrfgdrf.cuteframework.common.Constants;
+import io.github.gdrfgdrf.cuteframework.config.ConfigManager;
+import io.github.gdrfgdrf.cuteframework.config.common.Config;
+import io.github.gdrfgdrf.cuteframework.utils.FileUtils;
+import io.github.gdrfgdrf.cuteframework.utils.jackson.JacksonUtils;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 扫描结果的持久化缓存，保存在 {@link Constants#CACHE_FOLDER} 下，
+ * 每个 jar 或类目录的扫描结果以其路径，大小，修改时间以及可选的内容哈希作为键，
+ * 过滤条件读取过的其它文件 (例如元注解所在的 jar) 的指纹也会随扫描结果一起保存，
+ * 未发生变化的 jar 或类目录在重启后不需要再次读取 class 文件
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+@Slf4j
+public class ScanResultCache {
+    /**
+     * 缓存文件格式版本，格式变化时旧的缓存文件将会被丢弃
+     */
+    private static final int VERSION = 3;
+
+    private static ScanResultCache INSTANCE;
+
+    /**
+     * jar 或类目录的路径到其扫描结果的映射
+     */
+    private final Map<String, Entry> ENTRY_MAP = new ConcurrentHashMap<>();
+    private final File file;
+    private volatile boolean dirty;
+
+    private ScanResultCache(File file) {
+        this.file = file;
+    }
+
+    public static synchronized ScanResultCache getInstance() {
+        if (INSTANCE == null) {
+            INSTANCE = new ScanResultCache(new File(
+                    Constants.CACHE_FOLDER + "cute-framework/" + Constants.SCAN_CACHE_FILE_NAME
+            ));
+            INSTANCE.load();
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * 是否启用扫描结果缓存，框架配置还未加载时不启用
+     * @return boolean
+     *         是否启用
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public static boolean isEnabled() {
+        Config config = ConfigManager.getInstance().getConfig();
+        return config != null && config.isScanCache();
+    }
+
+    /**
+     * 是否在缓存的键中加入 jar 的内容哈希
+     * @return boolean
+     *         是否加入
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public static boolean isHashEnabled() {
+        Config config = ConfigManager.getInstance().getConfig();
+        return config != null && config.isScanCacheHash();
+    }
+
+    /**
+     * 获取缓存的扫描结果
+     * @param path
+     *        jar 或类目录的路径
+     * @param fingerprint
+     *        jar 或类目录当前的指纹
+     * @param signature
+     *        扫描的签名，由扫描的包以及过滤条件组成
+     * @return io.github.gdrfgdrf.cuteframework.utils.scan.ScanResultCache.Result
+     *         扫描结果，指纹不一致或不存在时返回 null，调用方还需要检查 {@link Result#getDependencies()}
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public Result get(String path, Fingerprint fingerprint, String signature) {
+        Entry entry = ENTRY_MAP.get(path);
+        if (entry == null || !fingerprint.equals(entry.getFingerprint())) {
+            return null;
+        }
+        return entry.getResults().get(signature);
+    }
+
+    public void put(String path, Fingerprint fingerprint, String signature, Result result) {
+        Entry entry = ENTRY_MAP.compute(path, (key, previous) -> {
+            if (previous == null || !fingerprint.equals(previous.getFingerprint())) {
+                return new Entry(fingerprint, new ConcurrentHashMap<>());
+            }
+            return previous;
+        });
+        entry.getResults().put(signature, result);
+        dirty = true;
+    }
+
+    /**
+     * 将缓存写入文件，没有变化时不写入
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public synchronized void save() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+
+        try {
+            File folder = file.getParentFile();
+            if (folder != null && !folder.exists()) {
+                folder.mkdirs();
+            }
+
+            try (Writer writer = FileUtils.getWriter(file)) {
+                writer.write(JacksonUtils.writeJsonString(new CacheFile(VERSION, ENTRY_MAP)));
+            }
+        } catch (IOException e) {
+            log.warn("Unable to save the scan result cache to " + file.getPath(), e);
+        }
+    }
+
+    private void load() {
+        if (!file.exists()) {
+            return;
+        }
+
+        try {
+            CacheFile cacheFile = JacksonUtils.readFile(file, CacheFile.class);
+            if (cacheFile.getVersion() != VERSION || cacheFile.getEntries() == null) {
+                return;
+            }
+
+            cacheFile.getEntries().forEach((path, entry) -> {
+                if (new File(path).exists()) {
+                    ENTRY_MAP.put(path, new Entry(entry.getFingerprint(), new ConcurrentHashMap<>(entry.getResults())));
+                } else {
+                    dirty = true;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Unable to read the scan result cache from " + file.getPath() + ", it will be rebuilt", e);
+        }
+    }
+
+    /**
+     * 计算 jar 的指纹
+     * @param jar
+     *        jar 文件
+     * @param hash
+     *        是否计算内容哈希
+     * @return io.github.gdrfgdrf.cuteframework.utils.scan.ScanResultCache.Fingerprint
+     *         指纹
+     * @throws IOException
+     *         读取 jar 错误
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public static Fingerprint fingerprint(File jar, boolean hash) throws IOException {
+        String contentHash = null;
+        if (hash) {
+            try (InputStream inputStream = Files.newInputStream(jar.toPath())) {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                byte[] buffer = new byte[8192];
+                int length;
+                while ((length = inputStream.read(buffer)) != -1) {
+                    digest.update(buffer, 0, length);
+                }
+                contentHash = HexFormat.of().formatHex(digest.digest());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IOException(e);
+            }
+        }
+        return new Fingerprint(jar.length(), jar.lastModified(), contentHash);
+    }
+
+    /**
+     * jar 或类目录的指纹，类目录的大小为其中所有 class 文件的大小之和，
+     * 修改时间为其中所有文件与目录的最大修改时间，哈希为其中 class 文件的数量
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Fingerprint {
+        private long size;
+        private long lastModified;
+        private String hash;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        private Fingerprint fingerprint;
+        /**
+         * 扫描签名到扫描结果的映射
+         */
+        private Map<String, Result> results;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Result {
+        private List<ScannedClass> classes;
+        /**
+         * 过滤条件在扫描时读取过的其它文件的路径到其指纹的映射，
+         * 任意一个文件的指纹发生变化时该扫描结果都不再有效
+         */
+        private Map<String, Fingerprint> dependencies;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CacheFile {
+        private int version;
+        private Map<String, Entry> entries;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframework.utils.scan;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 扫描到的一个类
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScannedClass {
+    /**
+     * 类的二进制名称
+     */
+    private String className;
+    /**
+     * 该类所属的被扫描的包
+     */
+    private List<String> packageNames;
+}
@@ -30,9 +30,18 @@ public class NamedThreadFactory implements ThreadFactory {
     private final AtomicInteger poolCount = new AtomicInteger();
     private final AtomicInteger count = new AtomicInteger();
     private final ThreadGroup group;
+    /**
+     * 创建的线程是否为守护线程
+     */
+    private final boolean daemon;
 
-    @SuppressWarnings("all")
     public NamedThreadFactory() {
+        this(false);
+    }
+
+    @SuppressWarnings("all")
+    public NamedThreadFactory(boolean daemon) {
+        this.daemon = daemon;
         poolCount.incrementAndGet();
         SecurityManager securityManager = System.getSecurityManager();
         group = securityManager != null ?
@@ -44,6 +53,7 @@ public class NamedThreadFactory implements ThreadFactory {
     public Thread newThread(@NotNull Runnable r) {
         Thread result = new Thread(group, r);
         result.setName("Pool-" + poolCount.incrementAndGet() + " Thread-" + count.incrementAndGet());
+        result.setDaemon(daemon);
         return result;
     }
 }
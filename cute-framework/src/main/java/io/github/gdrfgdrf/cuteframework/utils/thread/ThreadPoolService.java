@@ -16,6 +16,7 @@
 
 package io.github.gdrfgdrf.cuteframework.utils.thread;
 
+import java.util.List;
 import java.util.concurrent.*;
 
 /**
@@ -52,6 +53,106 @@ public class ThreadPoolService {
             new ThreadPoolExecutor.CallerRunsPolicy()
     );
 
+    /**
+     * 并行扫描类路径的 ForkJoin 线程池
+     */
+    private static final ForkJoinPool SCAN_FORK_JOIN_POOL = new ForkJoinPool(
+            Runtime.getRuntime().availableProcessors()
+    );
+
+    /**
+     * 并行实例化管理器所声明的类的 ForkJoin 线程池
+     */
+    private static final ForkJoinPool MANAGER_FORK_JOIN_POOL = new ForkJoinPool(
+            Runtime.getRuntime().availableProcessors()
+    );
+
+    /**
+     * 并行创建 Bean 的线程池，线程数量不超过处理器数量，空闲的线程将会被回收
+     */
+    private static final ThreadPoolExecutor BEAN_EXECUTOR_SERVICE = new ThreadPoolExecutor(
+            Runtime.getRuntime().availableProcessors(),
+            Runtime.getRuntime().availableProcessors(),
+            30L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new NamedThreadFactory(true)
+    );
+
+    /**
+     * 异步创建 Bean 的线程池，任务按照提交顺序执行，
+     * 因为 Bean 总是在它依赖的 Bean 之后提交，所以等待依赖的 Bean 不会导致死锁
+     */
+    private static final ThreadPoolExecutor ASYNC_BEAN_EXECUTOR_SERVICE = new ThreadPoolExecutor(
+            Runtime.getRuntime().availableProcessors(),
+            Runtime.getRuntime().availableProcessors(),
+            30L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new NamedThreadFactory(true)
+    );
+
+    /**
+     * 并行加载插件文件以及并行改变插件状态的线程池，线程数量不超过处理器数量，空闲的线程将会被回收
+     */
+    private static final ThreadPoolExecutor PLUGIN_EXECUTOR_SERVICE = new ThreadPoolExecutor(
+            Runtime.getRuntime().availableProcessors(),
+            Runtime.getRuntime().availableProcessors(),
+            30L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new NamedThreadFactory(true)
+    );
+
+    static {
+        BEAN_EXECUTOR_SERVICE.allowCoreThreadTimeOut(true);
+        ASYNC_BEAN_EXECUTOR_SERVICE.allowCoreThreadTimeOut(true);
+        PLUGIN_EXECUTOR_SERVICE.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 关闭所有线程池，已提交的任务会继续执行，
+     * 公共线程池与事件线程池的线程不是守护线程，其中的任务会阻止 JVM 退出，
+     * 其余仅由框架内部使用的线程池的线程都是守护线程，
+     * 超过 timeout 后仍未结束的线程池将被强制关闭，正在执行的任务会被中断
+     * @param timeout
+     *        等待所有线程池结束的最长时间
+     * @param unit
+     *        时间单位
+     * @return boolean
+     *         是否所有线程池都在超时前结束
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public static boolean shutdown(long timeout, TimeUnit unit) {
+        List<ExecutorService> executorServices = List.of(
+                EXECUTOR_SERVICE,
+                EVENT_EXECUTOR_SERVICE,
+                SCAN_FORK_JOIN_POOL,
+                MANAGER_FORK_JOIN_POOL,
+                BEAN_EXECUTOR_SERVICE,
+                ASYNC_BEAN_EXECUTOR_SERVICE,
+                PLUGIN_EXECUTOR_SERVICE
+        );
+        executorServices.forEach(ExecutorService::shutdown);
+
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        boolean terminated = true;
+        for (ExecutorService executorService : executorServices) {
+            try {
+                if (!executorService.awaitTermination(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    executorService.shutdownNow();
+                    terminated = false;
+                }
+            } catch (InterruptedException e) {
+                executorService.shutdownNow();
+                Thread.currentThread().interrupt();
+                terminated = false;
+            }
+        }
+        return terminated;
+    }
+
     /**
      * 往公共线程池添加任务
      * @param runnable
@@ -73,4 +174,59 @@ public class ThreadPoolService {
     public static ExecutorService getEventExecutorService() {
         return EVENT_EXECUTOR_SERVICE;
     }
+
+    /**
+     * 获取并行扫描类路径的 ForkJoin 线程池
+     * @return java.util.concurrent.ForkJoinPool
+     *         并行扫描类路径的 ForkJoin 线程池
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public static ForkJoinPool getScanForkJoinPool() {
+        return SCAN_FORK_JOIN_POOL;
+    }
+
+    /**
+     * 获取并行实例化管理器所声明的类的 ForkJoin 线程池
+     * @return java.util.concurrent.ForkJoinPool
+     *         并行实例化管理器所声明的类的 ForkJoin 线程池
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public static ForkJoinPool getManagerForkJoinPool() {
+        return MANAGER_FORK_JOIN_POOL;
+    }
+
+    /**
+     * 获取并行创建 Bean 的线程池
+     * @return java.util.concurrent.ExecutorService
+     *         并行创建 Bean 的线程池
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public static ExecutorService getBeanExecutorService() {
+        return BEAN_EXECUTOR_SERVICE;
+    }
+
+    /**
+     * 获取异步创建 Bean 的线程池
+     * @return java.util.concurrent.ExecutorService
+     *         异步创建 Bean 的线程池
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public static ExecutorService getAsyncBeanExecutorService() {
+        return ASYNC_BEAN_EXECUTOR_SERVICE;
+    }
+
+    /**
+     * 获取并行加载插件文件以及并行改变插件状态的线程池
+     * @return java.util.concurrent.ExecutorService
+     *         插件线程池
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    public static ExecutorService getPluginExecutorService() {
+        return PLUGIN_EXECUTOR_SERVICE;
+    }
 }
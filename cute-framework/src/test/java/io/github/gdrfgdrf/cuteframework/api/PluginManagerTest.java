@@ -0,0 +1,192 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.gdrfgdrf.cuteframework.api;
+
+import io.github.gdrfgdrf.cuteframework.api.base.Plugin;
+import io.github.gdrfgdrf.cuteframework.api.common.PluginDescription;
+import io.github.gdrfgdrf.cuteframework.api.common.PluginState;
+import io.github.gdrfgdrf.cuteframework.api.exception.PluginDependencyUnavailableException;
+import io.github.gdrfgdrf.cuteframework.api.exception.PluginDependentActiveException;
+import io.github.gdrfgdrf.cuteframework.api.exception.PluginIllegalStateChangeException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link PluginManager} 的测试，包括状态变化时的依赖检查，并发变化同一个插件的状态，以及批量变化状态时跳过依赖于失败插件的插件
+ *
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+public class PluginManagerTest {
+    public static class TestPlugin extends Plugin {
+        private final AtomicInteger enabled = new AtomicInteger();
+        private final AtomicInteger stopped = new AtomicInteger();
+        private final boolean failOnEnable;
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private volatile CountDownLatch release;
+
+        public TestPlugin(String name, boolean failOnEnable, String... depends) {
+            this.failOnEnable = failOnEnable;
+            setPluginDescription(new PluginDescription(name, "test.Main", (String) null, "test", List.of(depends), List.of()));
+        }
+
+        @Override
+        public void onEnable() {
+            enabled.incrementAndGet();
+            entered.countDown();
+            if (release != null) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (failOnEnable) {
+                throw new IllegalStateException("Enable failed on purpose");
+            }
+        }
+
+        @Override
+        public void onStop() {
+            stopped.incrementAndGet();
+        }
+    }
+
+    private final PluginManager pluginManager = PluginManager.getInstance();
+    private final List<String> registered = new ArrayList<>();
+
+    private TestPlugin register(String name, boolean failOnEnable, String... depends) throws Exception {
+        TestPlugin plugin = new TestPlugin(name, failOnEnable, depends);
+        pluginManager.registerPlugin(name, plugin);
+        registered.add(name);
+        return plugin;
+    }
+
+    @AfterEach
+    public void unregister() throws Exception {
+        for (String name : registered) {
+            pluginManager.unregisterPlugin(name);
+        }
+    }
+
+    @Test
+    public void enableRequiresDependencyToBeEnabled() throws Exception {
+        TestPlugin dependency = register("EnableDependency", false);
+        TestPlugin dependent = register("EnableDependent", false, "EnableDependency");
+
+        PluginDependencyUnavailableException exception = assertThrows(
+                PluginDependencyUnavailableException.class,
+                () -> pluginManager.enablePlugin("EnableDependent")
+        );
+        assertEquals("EnableDependency", exception.getDependencyName());
+        assertEquals(PluginState.REGISTERED, pluginManager.getPluginState(dependent));
+        assertEquals(0, dependent.enabled.get());
+
+        pluginManager.enablePlugin("EnableDependency");
+        pluginManager.enablePlugin("EnableDependent");
+        assertEquals(PluginState.ENABLED, pluginManager.getPluginState(dependency));
+        assertEquals(PluginState.ENABLED, pluginManager.getPluginState(dependent));
+    }
+
+    @Test
+    public void enableRejectsMissingDependency() throws Exception {
+        TestPlugin plugin = register("MissingDependent", false, "MissingDependency");
+
+        PluginDependencyUnavailableException exception = assertThrows(
+                PluginDependencyUnavailableException.class,
+                () -> pluginManager.enablePlugin("MissingDependent")
+        );
+        assertEquals("MissingDependency", exception.getDependencyName());
+        assertNull(exception.getDependencyState());
+        assertEquals(0, plugin.enabled.get());
+    }
+
+    @Test
+    public void stopRequiresDependentsToBeStopped() throws Exception {
+        TestPlugin dependency = register("StopDependency", false);
+        TestPlugin dependent = register("StopDependent", false, "StopDependency");
+        pluginManager.enablePlugin("StopDependency");
+        pluginManager.enablePlugin("StopDependent");
+        pluginManager.loadPlugin("StopDependency");
+        pluginManager.loadPlugin("StopDependent");
+
+        PluginDependentActiveException exception = assertThrows(
+                PluginDependentActiveException.class,
+                () -> pluginManager.stopPlugin("StopDependency")
+        );
+        assertEquals("StopDependent", exception.getDependentName());
+        assertEquals(PluginState.LOADED, pluginManager.getPluginState(dependency));
+        assertEquals(0, dependency.stopped.get());
+
+        pluginManager.stopPlugin("StopDependent");
+        pluginManager.stopPlugin("StopDependency");
+        assertEquals(PluginState.STOPPED, pluginManager.getPluginState(dependency));
+        assertEquals(1, dependent.stopped.get());
+    }
+
+    @Test
+    public void enableAllSkipsDependentsOfFailedPlugin() throws Exception {
+        TestPlugin failing = register("FailingPlugin", true);
+        TestPlugin dependent = register("FailingDependent", false, "FailingPlugin");
+        TestPlugin transitive = register("FailingTransitive", false, "FailingDependent");
+        TestPlugin independent = register("IndependentPlugin", false);
+
+        pluginManager.enableAllPlugin();
+
+        assertEquals(1, failing.enabled.get());
+        assertEquals(PluginState.REGISTERED, pluginManager.getPluginState(failing));
+        assertEquals(0, dependent.enabled.get());
+        assertEquals(PluginState.REGISTERED, pluginManager.getPluginState(dependent));
+        assertEquals(0, transitive.enabled.get());
+        assertEquals(PluginState.REGISTERED, pluginManager.getPluginState(transitive));
+        assertEquals(PluginState.ENABLED, pluginManager.getPluginState(independent));
+    }
+
+    @Test
+    public void concurrentEnableRunsOnEnableOnce() throws Exception {
+        TestPlugin plugin = register("ConcurrentPlugin", false);
+        plugin.release = new CountDownLatch(1);
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> {
+            try {
+                pluginManager.enablePlugin("ConcurrentPlugin");
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(plugin.entered.await(10, TimeUnit.SECONDS));
+        assertEquals(PluginState.TRANSITIONING, pluginManager.getPluginState(plugin));
+
+        assertThrows(PluginIllegalStateChangeException.class, () -> pluginManager.enablePlugin("ConcurrentPlugin"));
+
+        plugin.release.countDown();
+        first.get(10, TimeUnit.SECONDS);
+
+        assertEquals(1, plugin.enabled.get());
+        assertEquals(PluginState.ENABLED, pluginManager.getPluginState(plugin));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.gdrfgdrf.cuteframework.api.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link PluginStateHolder} 的测试，包括状态变化期间拒绝其他变化，回滚以及并发开始状态变化
+ *
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+public class PluginStateHolderTest {
+    @Test
+    public void beginRejectsChangesWhileTransitioning() {
+        PluginStateHolder holder = new PluginStateHolder(PluginState.REGISTERED);
+
+        assertEquals(PluginState.REGISTERED, holder.begin(PluginState.ENABLED));
+        assertEquals(PluginState.TRANSITIONING, holder.get());
+        assertNull(holder.begin(PluginState.ENABLED));
+
+        holder.complete(PluginState.ENABLED);
+        assertEquals(PluginState.ENABLED, holder.get());
+        assertNull(holder.begin(PluginState.ENABLED));
+    }
+
+    @Test
+    public void rollbackRestoresPreviousState() {
+        PluginStateHolder holder = new PluginStateHolder(PluginState.REGISTERED);
+
+        PluginState previous = holder.begin(PluginState.ENABLED);
+        holder.rollback(previous);
+
+        assertEquals(PluginState.REGISTERED, holder.get());
+        assertEquals(PluginState.REGISTERED, holder.begin(PluginState.ENABLED));
+    }
+
+    @Test
+    public void concurrentBeginSucceedsOnce() throws Exception {
+        int threads = 8;
+        PluginStateHolder holder = new PluginStateHolder(PluginState.REGISTERED);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<PluginState>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    return holder.begin(PluginState.ENABLED);
+                }));
+            }
+            start.countDown();
+
+            int began = 0;
+            for (Future<PluginState> future : futures) {
+                if (future.get(10, TimeUnit.SECONDS) != null) {
+                    began++;
+                }
+            }
+            assertEquals(1, began);
+            assertEquals(PluginState.TRANSITIONING, holder.get());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.gdrfgdrf.cuteframework.api.graph;
+
+import io.github.gdrfgdrf.cuteframework.api.base.Plugin;
+import io.github.gdrfgdrf.cuteframework.api.common.PluginDescription;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link PluginDependencyGraph} 的测试，包括层级划分，循环依赖，缺失的依赖以及依赖于某个插件的插件
+ *
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+public class PluginDependencyGraphTest {
+    private static Plugin plugin(String name, List<String> depends, List<String> softDepends) {
+        Plugin plugin = new Plugin() {};
+        plugin.setPluginDescription(new PluginDescription(name, "test.Main", (String) null, "test", depends, softDepends));
+        return plugin;
+    }
+
+    private static PluginDependencyGraph graph(Plugin... plugins) {
+        Map<String, Plugin> map = new LinkedHashMap<>();
+        for (Plugin plugin : plugins) {
+            map.put(plugin.getPluginDescription().getName(), plugin);
+        }
+        return new PluginDependencyGraph(map);
+    }
+
+    @Test
+    public void dependenciesComeInEarlierLevels() {
+        PluginDependencyGraph graph = graph(
+                plugin("C", List.of("B"), List.of()),
+                plugin("B", List.of("A"), List.of()),
+                plugin("A", List.of(), List.of()),
+                plugin("D", List.of(), List.of("A"))
+        );
+
+        assertEquals(List.of(List.of("A"), List.of("B", "D"), List.of("C")), graph.getLevels());
+        assertTrue(graph.getCyclicPluginNames().isEmpty());
+    }
+
+    @Test
+    public void softDependenciesOrderButAreNotHard() {
+        PluginDependencyGraph graph = graph(
+                plugin("A", List.of(), List.of()),
+                plugin("B", List.of(), List.of("A"))
+        );
+
+        assertEquals(Set.of("A"), graph.getDependencies("B"));
+        assertTrue(graph.getHardDependencies("B").isEmpty());
+        assertTrue(graph.getHardDependents("A").isEmpty());
+    }
+
+    @Test
+    public void hardDependentsAreRecorded() {
+        PluginDependencyGraph graph = graph(
+                plugin("A", List.of(), List.of()),
+                plugin("C", List.of("A"), List.of()),
+                plugin("B", List.of("A"), List.of())
+        );
+
+        assertEquals(List.of("B", "C"), List.copyOf(graph.getHardDependents("A")));
+        assertEquals(Set.of("A"), graph.getHardDependencies("B"));
+        assertTrue(graph.getHardDependents("B").isEmpty());
+    }
+
+    @Test
+    public void cyclesAreLeftOutOfLevels() {
+        PluginDependencyGraph graph = graph(
+                plugin("A", List.of(), List.of()),
+                plugin("X", List.of("Y"), List.of()),
+                plugin("Y", List.of("X"), List.of()),
+                plugin("Z", List.of("X"), List.of())
+        );
+
+        assertEquals(List.of(List.of("A")), graph.getLevels());
+        assertEquals(List.of("X", "Y", "Z"), graph.getCyclicPluginNames());
+    }
+
+    @Test
+    public void missingDependenciesAreReportedAndIgnoredForOrdering() {
+        PluginDependencyGraph graph = graph(
+                plugin("A", List.of("Missing"), List.of("SoftMissing"))
+        );
+
+        assertEquals(List.of("Missing"), graph.getMissingDependencies("A"));
+        assertEquals(List.of(List.of("A")), graph.getLevels());
+        assertTrue(graph.getHardDependencies("A").isEmpty());
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.gdrfgdrf.cuteframework.api.loader;
+
+import io.github.gdrfgdrf.cuteframework.bean.annotation.Component;
+import io.github.gdrfgdrf.cuteframework.bean.condition.ConditionEvaluator;
+import io.github.gdrfgdrf.cuteframework.utils.classfile.ClassMetadata;
+import io.github.gdrfgdrf.cuteframework.utils.classfile.ClassMetadataReader;
+import io.github.gdrfgdrf.cuteframework.utils.classfile.MetaAnnotationResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link JarClassLoader} 的测试，插件类在测试时编译并打包为 jar 包
+ *
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+public class JarClassLoaderTest {
+    private static final String LISTENER_CLASS_NAME = "test.plugin.TestListener";
+    private static final String CONDITIONAL_CLASS_NAME = "test.plugin.TestConditional";
+    private static final String MISSING_CONDITIONAL_CLASS_NAME = "test.plugin.TestMissingConditional";
+
+    @TempDir
+    Path tempDir;
+
+    private JarClassLoader classLoader;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        Path sourceDir = Files.createDirectories(tempDir.resolve("src/test/plugin"));
+        Files.writeString(sourceDir.resolve("TestListener.java"), """
+                package test.plugin;
+
+                @io.github.gdrfgdrf.cuteframework.event.annotation.EventListener
+                public class TestListener {
+                }
+                """);
+        Files.writeString(sourceDir.resolve("TestConditional.java"), """
+                package test.plugin;
+
+                @io.github.gdrfgdrf.cuteframework.bean.condition.annotation.ConditionalOnClass({
+                        "io.github.gdrfgdrf.cuteframework.bean.annotation.Component",
+                        "test.plugin.TestListener"
+                })
+                public class TestConditional {
+                }
+                """);
+        Files.writeString(sourceDir.resolve("TestMissingConditional.java"), """
+                package test.plugin;
+
+                @io.github.gdrfgdrf.cuteframework.bean.condition.annotation.ConditionalOnClass("test.plugin.Missing")
+                public class TestMissingConditional {
+                }
+                """);
+
+        File jar = compile(tempDir.resolve("src"), tempDir.resolve("classes"), tempDir.resolve("plugin.jar"));
+        classLoader = new JarClassLoader(jar, getClass().getClassLoader());
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        classLoader.close();
+    }
+
+    @Test
+    public void resourcesNotInJarAreDelegatedToParent() throws IOException {
+        String frameworkClass = Component.class.getName().replace('.', '/') + ".class";
+
+        assertNotNull(classLoader.getResource(frameworkClass));
+        try (InputStream inputStream = classLoader.getResourceAsStream(frameworkClass)) {
+            assertNotNull(inputStream);
+        }
+        assertFalse(classLoader.getResources(frameworkClass).hasMoreElements());
+    }
+
+    @Test
+    public void metaAnnotationsOfFrameworkAnnotationsAreResolved() throws IOException {
+        assertTrue(MetaAnnotationResolver.getInstance(classLoader).hasAnnotation(readMetadata(LISTENER_CLASS_NAME), Component.class.getName()));
+    }
+
+    @Test
+    public void conditionalOnClassSeesPluginAndFrameworkClasses() throws IOException {
+        ConditionEvaluator conditionEvaluator = new ConditionEvaluator(classLoader);
+
+        assertTrue(conditionEvaluator.matches(readMetadata(CONDITIONAL_CLASS_NAME)));
+        assertFalse(conditionEvaluator.matches(readMetadata(MISSING_CONDITIONAL_CLASS_NAME)));
+    }
+
+    private ClassMetadata readMetadata(String className) throws IOException {
+        try (InputStream inputStream = classLoader.getResourceAsStream(className.replace('.', '/') + ".class")) {
+            assertNotNull(inputStream);
+            return ClassMetadataReader.read(inputStream);
+        }
+    }
+
+    /**
+     * 编译源码目录下的所有源码，并将编译结果打包为 jar 包
+     */
+    private static File compile(Path sourceRoot, Path classesDir, Path jarPath) throws IOException {
+        List<String> arguments = new ArrayList<>(List.of(
+                "-proc:none",
+                "-classpath", System.getProperty("java.class.path"),
+                "-d", classesDir.toString()
+        ));
+        try (Stream<Path> paths = Files.walk(sourceRoot)) {
+            paths.filter(path -> path.toString().endsWith(".java"))
+                    .forEach(path -> arguments.add(path.toString()));
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertEquals(0, compiler.run(null, null, null, arguments.toArray(String[]::new)));
+
+        try (OutputStream outputStream = Files.newOutputStream(jarPath);
+             JarOutputStream jarOutputStream = new JarOutputStream(outputStream);
+             Stream<Path> paths = Files.walk(classesDir)) {
+            for (Path path : paths.filter(Files::isRegularFile).toList()) {
+                jarOutputStream.putNextEntry(new JarEntry(classesDir.relativize(path).toString().replace(File.separatorChar, '/')));
+                jarOutputStream.write(Files.readAllBytes(path));
+                jarOutputStream.closeEntry();
+            }
+        }
+        return jarPath.toFile();
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.gdrfgdrf.cuteframework.bean.graph;
+
+import io.github.gdrfgdrf.cuteframework.bean.annotation.Component;
+import io.github.gdrfgdrf.cuteframework.bean.annotation.Inject;
+import io.github.gdrfgdrf.cuteframework.bean.annotation.Order;
+import io.github.gdrfgdrf.cuteframework.bean.exception.BeanCircularDependencyException;
+import io.github.gdrfgdrf.cuteframework.bean.exception.BeanDependencyNotFoundException;
+import io.github.gdrfgdrf.cuteframework.bean.exception.BeanNameConflictException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link BeanDependencyGraph} 的测试，包括串行与并行执行的顺序以及循环依赖的检测
+ *
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+public class BeanDependencyGraphTest {
+    @Component
+    public static class Plain1 {
+    }
+
+    @Component
+    public static class Plain2 {
+    }
+
+    @Component(dependsOn = "DependsOnLater")
+    public static class DependsOnEarlier {
+    }
+
+    @Component
+    public static class DependsOnLater {
+    }
+
+    public interface Service {
+    }
+
+    @Component
+    public static class ServiceConsumer {
+        @Inject
+        private Service service;
+    }
+
+    @Component
+    public static class ServiceImpl implements Service {
+    }
+
+    @Component
+    @Order(1)
+    public static class FirstGroup {
+    }
+
+    @Component(dependsOn = "LastOfFirstGroup")
+    @Order(1)
+    public static class FirstGroupDependent {
+    }
+
+    @Component
+    @Order(1)
+    public static class LastOfFirstGroup {
+    }
+
+    @Component
+    @Order(2)
+    public static class SecondGroup {
+    }
+
+    @Component(dependsOn = "CycleB")
+    public static class CycleA {
+    }
+
+    @Component(dependsOn = "CycleA")
+    public static class CycleB {
+    }
+
+    @Component(dependsOn = "missing")
+    public static class DependsOnMissing {
+    }
+
+    private static BeanDependencyGraph graph(Class<?>... beanClasses) throws Exception {
+        return new BeanDependencyGraph(List.of(beanClasses), Class::getSimpleName, name -> false);
+    }
+
+    private static List<Class<?>> serialOrder(BeanDependencyGraph graph) throws Exception {
+        List<Class<?>> order = new ArrayList<>();
+        graph.executeSerially(order::add);
+        return order;
+    }
+
+    @Test
+    public void withoutDependenciesTheOriginalOrderIsKept() throws Exception {
+        assertEquals(List.of(Plain1.class, Plain2.class, ServiceImpl.class), serialOrder(graph(
+                Plain1.class,
+                Plain2.class,
+                ServiceImpl.class
+        )));
+    }
+
+    @Test
+    public void dependsOnMovesTheDependencyFirst() throws Exception {
+        assertEquals(List.of(Plain1.class, DependsOnLater.class, DependsOnEarlier.class, Plain2.class), serialOrder(graph(
+                Plain1.class,
+                DependsOnEarlier.class,
+                DependsOnLater.class,
+                Plain2.class
+        )));
+    }
+
+    @Test
+    public void injectionByTypeMovesTheCandidateFirst() throws Exception {
+        assertEquals(List.of(ServiceImpl.class, ServiceConsumer.class), serialOrder(graph(
+                ServiceConsumer.class,
+                ServiceImpl.class
+        )));
+    }
+
+    @Test
+    public void orderGroupsAreNotInterleaved() throws Exception {
+        assertEquals(List.of(
+                FirstGroup.class,
+                LastOfFirstGroup.class,
+                FirstGroupDependent.class,
+                SecondGroup.class,
+                Plain1.class
+        ), serialOrder(graph(
+                FirstGroup.class,
+                FirstGroupDependent.class,
+                LastOfFirstGroup.class,
+                SecondGroup.class,
+                Plain1.class
+        )));
+    }
+
+    @Test
+    public void parallelExecutionRespectsDependencies() throws Exception {
+        BeanDependencyGraph graph = graph(
+                FirstGroup.class,
+                FirstGroupDependent.class,
+                LastOfFirstGroup.class,
+                SecondGroup.class,
+                ServiceConsumer.class,
+                ServiceImpl.class,
+                DependsOnEarlier.class,
+                DependsOnLater.class
+        );
+
+        AtomicInteger clock = new AtomicInteger();
+        Map<Class<?>, Integer> finished = new ConcurrentHashMap<>();
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            graph.executeParallel(executorService, beanClass -> {
+                Thread.sleep(5);
+                finished.put(beanClass, clock.incrementAndGet());
+            });
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertEquals(8, finished.size());
+        assertTrue(finished.get(LastOfFirstGroup.class) < finished.get(FirstGroupDependent.class));
+        assertTrue(finished.get(ServiceImpl.class) < finished.get(ServiceConsumer.class));
+        assertTrue(finished.get(DependsOnLater.class) < finished.get(DependsOnEarlier.class));
+        int lastOfFirstGroup = Collections.max(List.of(
+                finished.get(FirstGroup.class),
+                finished.get(FirstGroupDependent.class),
+                finished.get(LastOfFirstGroup.class)
+        ));
+        assertTrue(lastOfFirstGroup < finished.get(SecondGroup.class));
+        assertTrue(finished.get(SecondGroup.class) < finished.get(ServiceImpl.class));
+        assertTrue(finished.get(SecondGroup.class) < finished.get(DependsOnLater.class));
+    }
+
+    @Test
+    public void parallelExecutionStopsOnFailure() {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            IllegalStateException exception = assertThrows(IllegalStateException.class, () -> graph(
+                    DependsOnEarlier.class,
+                    DependsOnLater.class
+            ).executeParallel(executorService, beanClass -> {
+                if (beanClass == DependsOnLater.class) {
+                    throw new IllegalStateException("failed");
+                }
+                fail("the dependent must not run after its dependency failed");
+            }));
+            assertEquals("failed", exception.getMessage());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void cyclesAreDetected() {
+        BeanCircularDependencyException exception = assertThrows(
+                BeanCircularDependencyException.class,
+                () -> graph(Plain1.class, CycleA.class, CycleB.class)
+        );
+        assertEquals(List.of(CycleA.class, CycleB.class), exception.getBeanClasses());
+    }
+
+    @Test
+    public void missingDependenciesAreReportedUnlessTheyAlreadyExist() throws Exception {
+        assertThrows(BeanDependencyNotFoundException.class, () -> graph(DependsOnMissing.class));
+        BeanDependencyGraph graph = new BeanDependencyGraph(
+                List.of(DependsOnMissing.class),
+                Class::getSimpleName,
+                "missing"::equals
+        );
+        assertEquals(List.of(DependsOnMissing.class), serialOrder(graph));
+    }
+
+    @Test
+    public void duplicateNamesAreRejected() {
+        assertThrows(BeanNameConflictException.class, () -> new BeanDependencyGraph(
+                List.of(Plain1.class, Plain2.class),
+                beanClass -> "same",
+                name -> false
+        ));
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.gdrfgdrf.cuteframework.bean.holder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link PooledBeanHolder} 的测试，包括并发借出与归还，重复归还以及归还未借出的实例
+ *
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+public class PooledBeanHolderTest {
+    public static class TestBean {
+    }
+
+    private final AtomicInteger created = new AtomicInteger();
+
+    private PooledBeanHolder holder(int poolSize) {
+        return new PooledBeanHolder("testBean", TestBean.class, (beanName, beanClass) -> {
+            created.incrementAndGet();
+            return new TestBean();
+        }, poolSize);
+    }
+
+    @Test
+    public void returnedInstanceIsReused() throws Exception {
+        PooledBeanHolder holder = holder(1);
+        Object bean = holder.borrow();
+        holder.release(bean);
+
+        assertSame(bean, holder.borrow());
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    public void duplicateReturnIsRejected() throws Exception {
+        PooledBeanHolder holder = holder(2);
+        Object bean = holder.borrow();
+        holder.release(bean);
+
+        assertThrows(IllegalArgumentException.class, () -> holder.release(bean));
+        assertSame(bean, holder.borrow());
+        assertNotSame(bean, holder.borrow());
+    }
+
+    @Test
+    public void unknownReturnIsRejected() {
+        PooledBeanHolder holder = holder(2);
+
+        assertThrows(IllegalArgumentException.class, () -> holder.release(new TestBean()));
+        assertThrows(IllegalArgumentException.class, () -> holder(2).release(new Object()));
+    }
+
+    @Test
+    public void plainLookupIsRejected() {
+        assertThrows(IllegalStateException.class, () -> holder(2).getBean());
+        assertFalse(holder(2).isInstantiated());
+    }
+
+    @Test
+    public void concurrentBorrowAndReturn() throws Exception {
+        int threads = 8;
+        int iterations = 5_000;
+        PooledBeanHolder holder = holder(4);
+        Set<Object> inUse = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < iterations; j++) {
+                        Object bean = holder.borrow();
+                        assertTrue(inUse.add(bean), "an instance was lent twice");
+                        Thread.yield();
+                        assertTrue(inUse.remove(bean));
+                        holder.release(bean);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertTrue(inUse.isEmpty());
+        assertTrue(created.get() >= 1);
+        Object bean = holder.borrow();
+        holder.release(bean);
+        assertThrows(IllegalArgumentException.class, () -> holder.release(bean));
+    }
+}
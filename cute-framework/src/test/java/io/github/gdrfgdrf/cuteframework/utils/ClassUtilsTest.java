@@ -0,0 +1,71 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.gdrfgdrf.cuteframework.utils;
+
+import io.github.gdrfgdrf.cuteframework.bean.annotation.Component;
+import io.github.gdrfgdrf.cuteframework.common.Constants;
+import io.github.gdrfgdrf.cuteframeworkprocessor.BeanFactoryProcessor;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Field;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link ClassUtils} 的测试，同时检查编译时注解处理器中的副本与运行时的定义一致
+ *
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+public class ClassUtilsTest {
+    @Retention(RetentionPolicy.RUNTIME)
+    @Component
+    @interface TestStereotype {
+    }
+
+    @Deprecated
+    @TestStereotype
+    static class TestBean {
+    }
+
+    @Test
+    public void metaAnnotationsAreFoundAndIgnoredAnnotationsAreSkipped() {
+        assertTrue(ClassUtils.hasAnnotation(TestBean.class, TestStereotype.class));
+        assertTrue(ClassUtils.hasAnnotation(TestBean.class, Component.class));
+        assertFalse(ClassUtils.hasAnnotation(TestBean.class, Deprecated.class));
+        assertFalse(ClassUtils.hasAnnotation(TestBean.class, Retention.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void processorIgnoredAnnotationsMatchRuntime() throws ReflectiveOperationException {
+        Field field = Class.forName("io.github.gdrfgdrf.cuteframeworkprocessor.AnnotationFinder")
+                .getDeclaredField("IGNORED_ANNOTATIONS");
+        field.setAccessible(true);
+
+        assertEquals(ClassUtils.IGNORED_ANNOTATIONS, (Set<String>) field.get(null));
+    }
+
+    @Test
+    public void processorFactorySuffixMatchesRuntime() {
+        assertEquals(Constants.BEAN_FACTORY_SUFFIX, BeanFactoryProcessor.FACTORY_SUFFIX);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.gdrfgdrf.cuteframework.utils.pool;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link BoundedObjectPool} 的测试
+ *
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+public class BoundedObjectPoolTest {
+    private static final int THREADS = 8;
+    private static final int ITERATIONS = 10_000;
+
+    @Test
+    public void pollReturnsOfferedObjectsAndDiscardsWhenFull() {
+        BoundedObjectPool<Object> pool = new BoundedObjectPool<>(2);
+        Object first = new Object();
+        Object second = new Object();
+
+        assertNull(pool.poll());
+        assertTrue(pool.offer(first));
+        assertTrue(pool.offer(second));
+        assertFalse(pool.offer(new Object()));
+        assertFalse(pool.offer(null));
+
+        Set<Object> polled = Set.of(pool.poll(), pool.poll());
+        assertEquals(Set.of(first, second), polled);
+        assertNull(pool.poll());
+    }
+
+    @Test
+    public void capacityMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new BoundedObjectPool<>(0));
+    }
+
+    @Test
+    public void concurrentPollAndOfferNeverHandOutTheSameObjectTwice() throws Exception {
+        BoundedObjectPool<Object> pool = new BoundedObjectPool<>(4);
+        Set<Object> inUse = ConcurrentHashMap.newKeySet();
+        AtomicInteger created = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < ITERATIONS; j++) {
+                        Object obj = pool.poll();
+                        if (obj == null) {
+                            obj = new Object();
+                            created.incrementAndGet();
+                        }
+                        assertTrue(inUse.add(obj), "an object was handed out twice");
+                        Thread.yield();
+                        assertTrue(inUse.remove(obj));
+                        pool.offer(obj);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertTrue(inUse.isEmpty());
+        int pooled = 0;
+        while (pool.poll() != null) {
+            pooled++;
+        }
+        assertTrue(pooled <= pool.capacity());
+        assertTrue(created.get() >= pooled);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframeworkprocessor;
+
+import javax.lang.model.element.*;
+import javax.lang.model.util.Elements;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 编译时查找注解以及元注解，供各个注解处理器共同使用，
+ * 行为与运行时的 ClassUtils.getAnnotation 保持一致
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+final class AnnotationFinder {
+    static final String COMPONENT_ANNOTATION = "io.github.gdrfgdrf.cuteframework.bean.annotation.Component";
+    static final String ORDER_ANNOTATION = "io.github.gdrfgdrf.cuteframework.bean.annotation.Order";
+    static final String CONDITIONAL_ON_CONFIG_ANNOTATION = "io.github.gdrfgdrf.cuteframework.bean.condition.annotation.ConditionalOnConfig";
+    static final String CONDITIONAL_ON_CLASS_ANNOTATION = "io.github.gdrfgdrf.cuteframework.bean.condition.annotation.ConditionalOnClass";
+    static final String CONDITIONAL_ON_PLUGIN_ANNOTATION = "io.github.gdrfgdrf.cuteframework.bean.condition.annotation.ConditionalOnPlugin";
+
+    /**
+     * 运行时 ClassUtils.IGNORED_ANNOTATIONS 的副本，该模块不能依赖框架本身，因此无法直接引用，
+     * 两者的一致性由框架的单元测试检查
+     */
+    static final Set<String> IGNORED_ANNOTATIONS = Set.of(
+            "java.lang.Deprecated",
+            "java.lang.SuppressWarnings",
+            "java.lang.Override",
+            "javax.annotation.processing.Generated",
+            "java.lang.annotation.Target",
+            "java.lang.annotation.Retention",
+            "java.lang.annotation.Documented",
+            "java.lang.annotation.Inherited"
+    );
+
+    private final Elements elements;
+
+    AnnotationFinder(Elements elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * 类是否为 Bean 类，即直接或间接拥有 Component 注解且本身不是注解
+     * @param typeElement
+     *        类
+     * @return boolean
+     *         是否为 Bean 类
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    boolean isComponent(TypeElement typeElement) {
+        return typeElement.getKind() != ElementKind.ANNOTATION_TYPE &&
+                findAnnotation(typeElement, COMPONENT_ANNOTATION) != null;
+    }
+
+    /**
+     * 深度优先地查找注解以及元注解，
+     * 与运行时不同的是这里会记录访问过的注解以避免注解之间互相引用导致的死循环
+     * @param element
+     *        需要查找的元素
+     * @param targetAnnotation
+     *        目标注解的全限定名
+     * @return javax.lang.model.element.AnnotationMirror
+     *         找到的注解，找不到时返回 null
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    AnnotationMirror findAnnotation(Element element, String targetAnnotation) {
+        return findAnnotation(element, targetAnnotation, new HashSet<>());
+    }
+
+    private AnnotationMirror findAnnotation(Element element, String targetAnnotation, Set<String> visited) {
+        for (AnnotationMirror annotationMirror : elements.getAllAnnotationMirrors(element)) {
+            TypeElement annotationType = (TypeElement) annotationMirror.getAnnotationType().asElement();
+            String annotationName = annotationType.getQualifiedName().toString();
+            if (IGNORED_ANNOTATIONS.contains(annotationName)) {
+                continue;
+            }
+            if (annotationName.equals(targetAnnotation)) {
+                return annotationMirror;
+            }
+            if (!visited.add(annotationName)) {
+                continue;
+            }
+
+            AnnotationMirror deeperAnnotation = findAnnotation(annotationType, targetAnnotation, visited);
+            if (deeperAnnotation != null) {
+                return deeperAnnotation;
+            }
+        }
+        return null;
+    }
+
+    AnnotationMirror findDirectAnnotation(Element element, String targetAnnotation) {
+        for (AnnotationMirror annotationMirror : elements.getAllAnnotationMirrors(element)) {
+            TypeElement annotationType = (TypeElement) annotationMirror.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(targetAnnotation)) {
+                return annotationMirror;
+            }
+        }
+        return null;
+    }
+
+    Object getValue(AnnotationMirror annotationMirror, String name) {
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+                elements.getElementValuesWithDefaults(annotationMirror);
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframeworkprocessor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Bean 工厂生成器，编译时为每个拥有非私有无参构造函数的 Bean 类生成一个 {@link BeanFactoryProcessor#FACTORY_SUFFIX} 结尾的工厂类，
+ * 工厂类与 Bean 类位于同一个包，直接通过 new 创建 Bean 实例，
+ * 运行时 BeanManager 将优先使用工厂类而不是通过反射查找构造函数。
+ * 无法直接 new 的 Bean 类（抽象类、私有类、非静态内部类、没有可访问的无参构造函数、构造函数由 Lombok 生成）
+ * 以及需要构造函数注入的 Bean 类不会生成工厂类
+ *
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+@SupportedAnnotationTypes("*")
+public class BeanFactoryProcessor extends AbstractProcessor {
+    /**
+     * 工厂类名的后缀，工厂类与 Bean 类位于同一个包，类名为 Bean 类的二进制名称加上该后缀，
+     * 运行时 BeanFactoryManager 按照 Constants.BEAN_FACTORY_SUFFIX 查找，两者需要保持一致
+     */
+    public static final String FACTORY_SUFFIX = "$$BeanFactory";
+
+    private static final String BEAN_FACTORY_INTERFACE = "io.github.gdrfgdrf.cuteframework.bean.factory.base.BeanFactory";
+    private static final String INJECT_ANNOTATION = "io.github.gdrfgdrf.cuteframework.bean.annotation.Inject";
+
+    /**
+     * 构造函数可能由 Lombok 生成的注解，编译时无法确定这些类最终拥有的构造函数
+     */
+    private static final Set<String> LOMBOK_CONSTRUCTOR_ANNOTATIONS = Set.of(
+            "lombok.NoArgsConstructor",
+            "lombok.RequiredArgsConstructor",
+            "lombok.AllArgsConstructor",
+            "lombok.Data",
+            "lombok.Value"
+    );
+
+    /**
+     * 已经生成了工厂类的 Bean 类的二进制名称
+     */
+    private final Set<String> generatedTypes = new HashSet<>();
+
+    private AnnotationFinder annotationFinder;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        annotationFinder = new AnnotationFinder(processingEnv.getElementUtils());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element rootElement : roundEnv.getRootElements()) {
+            collect(rootElement);
+        }
+        return false;
+    }
+
+    /**
+     * 为一个类以及它的所有内部类生成工厂类
+     * @param element
+     *        根元素
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private void collect(Element element) {
+        if (!(element instanceof TypeElement typeElement)) {
+            return;
+        }
+
+        if (annotationFinder.isComponent(typeElement) && isInstantiable(typeElement)) {
+            String binaryName = processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+            if (generatedTypes.add(binaryName)) {
+                try {
+                    writeFactory(typeElement, binaryName);
+                } catch (IOException e) {
+                    processingEnv.getMessager().printMessage(
+                            Diagnostic.Kind.WARNING,
+                            "Unable to generate the bean factory of " + binaryName + ": " + e.getMessage(),
+                            typeElement
+                    );
+                }
+            }
+        }
+
+        for (Element enclosedElement : typeElement.getEnclosedElements()) {
+            collect(enclosedElement);
+        }
+    }
+
+    /**
+     * 工厂类能否直接通过 new 创建 Bean 实例
+     * @param typeElement
+     *        Bean 类
+     * @return boolean
+     *         能否直接创建
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private boolean isInstantiable(TypeElement typeElement) {
+        if (typeElement.getKind() != ElementKind.CLASS || typeElement.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+
+        Element element = typeElement;
+        while (element instanceof TypeElement type) {
+            if (type.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            NestingKind nestingKind = type.getNestingKind();
+            if (nestingKind == NestingKind.LOCAL || nestingKind == NestingKind.ANONYMOUS) {
+                return false;
+            }
+            if (nestingKind == NestingKind.MEMBER &&
+                    !type.getModifiers().contains(Modifier.STATIC) &&
+                    !type.getEnclosingElement().getKind().isInterface()) {
+                return false;
+            }
+            element = type.getEnclosingElement();
+        }
+
+        for (String annotation : LOMBOK_CONSTRUCTOR_ANNOTATIONS) {
+            if (annotationFinder.findDirectAnnotation(typeElement, annotation) != null) {
+                return false;
+            }
+        }
+
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(typeElement.getEnclosedElements());
+        for (ExecutableElement constructor : constructors) {
+            if (annotationFinder.findDirectAnnotation(constructor, INJECT_ANNOTATION) != null) {
+                return false;
+            }
+        }
+        for (ExecutableElement constructor : constructors) {
+            if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeFactory(TypeElement typeElement, String binaryName) throws IOException {
+        Elements elements = processingEnv.getElementUtils();
+        String packageName = elements.getPackageOf(typeElement).getQualifiedName().toString();
+        String factoryName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) +
+                FACTORY_SUFFIX;
+        String qualifiedFactoryName = packageName.isEmpty() ? factoryName : packageName + "." + factoryName;
+
+        String typeName = typeElement.getQualifiedName().toString();
+        if (!typeElement.getTypeParameters().isEmpty()) {
+            typeName += "<>";
+        }
+
+        JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(qualifiedFactoryName, typeElement);
+        try (Writer writer = sourceFile.openWriter()) {
+            if (!packageName.isEmpty()) {
+                writer.write("package " + packageName + ";\n\n");
+            }
+            writer.write("/**\n");
+            writer.write(" * {@link " + typeElement.getQualifiedName() + "} 的 Bean 工厂，由 " +
+                    BeanFactoryProcessor.class.getSimpleName() + " 在编译时生成，运行时直接通过 new 创建 Bean 实例，请勿手动修改\n");
+            writer.write(" */\n");
+            writer.write("@javax.annotation.processing.Generated(\"" + BeanFactoryProcessor.class.getName() + "\")\n");
+            writer.write("public final class " + factoryName + " implements " + BEAN_FACTORY_INTERFACE + " {\n");
+            writer.write("    @Override\n");
+            writer.write("    public Object create() throws Exception {\n");
+            writer.write("        return new " + typeName + "();\n");
+            writer.write("    }\n");
+            writer.write("}\n");
+        }
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2024 CuteFramework's Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.gdrfgdrf.cuteframeworkprocessor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.util.*;
+
+/**
+ * Bean 类索引生成器，编译时将所有 Bean 类（即直接或间接拥有 Component 注解的类）
+ * 以及它们的 Bean 名称、Order 值写入 {@link ComponentIndexProcessor#INDEX_FILE_NAME}，
+ * 运行时 BeanManager 将优先读取该文件而不是扫描整个类路径。
+ * 该模块不依赖框架本身，所有注解均以全限定名进行匹配
+ * <p>
+ * 索引文件格式为每行一条记录，字段之间以制表符分隔，# 开头的行为注释
+ * package    包名
+ * component  类的二进制名称    name=Bean 名称    [order=Order 值]    [条件属性]
+ * 条件属性来自 Bean 类上直接存在的条件注解：
+ * onConfig=配置项名称    onConfigValue=配置项的值    onConfigMatchIfMissing=true|false
+ * onClass=类名,类名    onPlugin=插件名称,插件名称
+ * package 记录了本次编译所覆盖的所有包，
+ * 运行时若查询的包不被任何 package 记录覆盖，则认为该索引不属于这个包并回退到扫描
+ *
+ * @author gdrfgdrf
+ * @since v1_2_5_20240622_RELEASE
+ */
+@SupportedAnnotationTypes("*")
+public class ComponentIndexProcessor extends AbstractProcessor {
+    /**
+     * 索引文件在类输出目录中的路径，运行时 ComponentIndex 从每个 jar 或类目录的同一路径读取
+     */
+    public static final String INDEX_FILE_NAME = "META-INF/cute-framework/components.idx";
+
+    /**
+     * 本次编译所覆盖的所有包
+     */
+    private final Set<String> packages = new TreeSet<>();
+    /**
+     * 类的二进制名称到索引行的映射
+     */
+    private final Map<String, String> components = new TreeMap<>();
+    /**
+     * 本次编译处理过的所有类的二进制名称
+     */
+    private final Set<String> processedTypes = new HashSet<>();
+
+    private AnnotationFinder annotationFinder;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        annotationFinder = new AnnotationFinder(processingEnv.getElementUtils());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element rootElement : roundEnv.getRootElements()) {
+            collect(rootElement);
+        }
+
+        if (roundEnv.processingOver()) {
+            try {
+                mergePreviousIndex();
+                writeIndex();
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(
+                        Diagnostic.Kind.WARNING,
+                        "Unable to write the component index " + INDEX_FILE_NAME + ": " + e.getMessage()
+                );
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 收集一个类以及它的所有内部类
+     * @param element
+     *        根元素
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private void collect(Element element) {
+        if (!(element instanceof TypeElement typeElement)) {
+            return;
+        }
+        Elements elements = processingEnv.getElementUtils();
+
+        String binaryName = elements.getBinaryName(typeElement).toString();
+        processedTypes.add(binaryName);
+        packages.add(elements.getPackageOf(typeElement).getQualifiedName().toString());
+
+        if (annotationFinder.isComponent(typeElement)) {
+            components.put(binaryName, toIndexLine(typeElement, binaryName));
+        }
+
+        for (Element enclosedElement : typeElement.getEnclosedElements()) {
+            collect(enclosedElement);
+        }
+    }
+
+    /**
+     * 生成某个 Bean 类的索引行
+     * @param typeElement
+     *        Bean 类
+     * @param binaryName
+     *        Bean 类的二进制名称
+     * @return java.lang.String
+     *         索引行
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private String toIndexLine(TypeElement typeElement, String binaryName) {
+        String name = typeElement.getSimpleName().toString();
+        AnnotationMirror component = annotationFinder.findDirectAnnotation(typeElement, AnnotationFinder.COMPONENT_ANNOTATION);
+        if (component != null) {
+            Object componentName = annotationFinder.getValue(component, "name");
+            if (componentName != null && !componentName.toString().isBlank()) {
+                name = componentName.toString();
+            }
+        }
+
+        StringBuilder line = new StringBuilder("component\t")
+                .append(binaryName)
+                .append("\tname=")
+                .append(name);
+
+        AnnotationMirror order = annotationFinder.findAnnotation(typeElement, AnnotationFinder.ORDER_ANNOTATION);
+        if (order != null) {
+            line.append("\torder=").append(annotationFinder.getValue(order, "value"));
+        }
+
+        AnnotationMirror onConfig = annotationFinder.findDirectAnnotation(
+                typeElement,
+                AnnotationFinder.CONDITIONAL_ON_CONFIG_ANNOTATION
+        );
+        if (onConfig != null) {
+            line.append("\tonConfig=").append(annotationFinder.getValue(onConfig, "key"))
+                    .append("\tonConfigValue=").append(annotationFinder.getValue(onConfig, "havingValue"))
+                    .append("\tonConfigMatchIfMissing=").append(annotationFinder.getValue(onConfig, "matchIfMissing"));
+        }
+        AnnotationMirror onClass = annotationFinder.findDirectAnnotation(
+                typeElement,
+                AnnotationFinder.CONDITIONAL_ON_CLASS_ANNOTATION
+        );
+        if (onClass != null) {
+            line.append("\tonClass=").append(joinValues(annotationFinder.getValue(onClass, "value")));
+        }
+        AnnotationMirror onPlugin = annotationFinder.findDirectAnnotation(
+                typeElement,
+                AnnotationFinder.CONDITIONAL_ON_PLUGIN_ANNOTATION
+        );
+        if (onPlugin != null) {
+            line.append("\tonPlugin=").append(joinValues(annotationFinder.getValue(onPlugin, "value")));
+        }
+        return line.toString();
+    }
+
+    /**
+     * 将数组类型的注解属性以逗号连接
+     * @param value
+     *        注解属性
+     * @return java.lang.String
+     *         以逗号连接的字符串
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private String joinValues(Object value) {
+        if (!(value instanceof List<?> values)) {
+            return String.valueOf(value);
+        }
+
+        StringJoiner joiner = new StringJoiner(",");
+        for (Object element : values) {
+            joiner.add(String.valueOf(element instanceof AnnotationValue annotationValue ? annotationValue.getValue() : element));
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * 增量编译时只有部分类会被处理，
+     * 所以需要保留上一次生成的索引中未被本次编译处理且依旧存在的类
+     * @author gdrfgdrf
+     * @since v1_2_5_20240622_RELEASE
+     */
+    private void mergePreviousIndex() {
+        Filer filer = processingEnv.getFiler();
+        Elements elements = processingEnv.getElementUtils();
+
+        try {
+            FileObject previousIndex = filer.getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_FILE_NAME);
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(previousIndex.openInputStream(), StandardCharsets.UTF_8))
+            ) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] fields = line.split("\t");
+                    if (line.startsWith("#") || fields.length < 2) {
+                        continue;
+                    }
+
+                    if ("package".equals(fields[0])) {
+                        packages.add(fields[1]);
+                        continue;
+                    }
+                    if ("component".equals(fields[0]) &&
+                            !processedTypes.contains(fields[1]) &&
+                            elements.getTypeElement(fields[1].replace('$', '.')) != null) {
+                        components.putIfAbsent(fields[1], line);
+                    }
+                }
+            }
+        } catch (FileNotFoundException | NoSuchFileException ignored) {
+            // 第一次编译或全量编译时不存在之前的索引
+        } catch (IOException | IllegalArgumentException e) {
+            processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.WARNING,
+                    "Unable to read the previous component index " + INDEX_FILE_NAME +
+                            ", components of classes which are not recompiled may be missing from the index: " +
+                            e.getMessage()
+            );
+        }
+    }
+
+    private void writeIndex() throws IOException {
+        if (components.isEmpty() && processedTypes.isEmpty()) {
+            return;
+        }
+
+        FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_FILE_NAME);
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(index.openOutputStream(), StandardCharsets.UTF_8))) {
+            writer.write("# Generated by CuteFramework, do not edit\n");
+            for (String packageName : packages) {
+                writer.write("package\t" + packageName + "\n");
+            }
+            for (String line : components.values()) {
+                writer.write(line + "\n");
+            }
+        }
+    }
+}